@@ -0,0 +1,221 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import graphapi.jmh.Workload;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Workloads of the JMH benchmark, they measure the graph classes on random graphs of different sizes and densities.
+ * The density is the average number of edges leaving a vertex. Graphs are built once per size and density
+ * and the workloads that modify a graph get a fresh one before every run.
+ * 
+ * @author agent
+ * @see graphapi.jmh.GraphBenchmark
+ * @version 1.0 (10/19/2026)
+ */
+public class Benchmarks implements Workload.Factory {
+	/**
+	 * Number of queries made by a single shortest path run
+	 */
+	private static final int QUERIES = 16;
+	
+	/**
+	 * Number of vertexes removed by a single removeVertex run
+	 */
+	private static final int REMOVALS = 4;
+	
+	/**
+	 * Number of queries in a batch of a single batched shortest path run
+	 */
+	private static final int BATCH = 1024;
+	
+	/**
+	 * Creates all workloads for graphs with n vertexes and n * d edges.
+	 */
+	@Override
+	public Map<String, Workload> create(int n, int d, long seed) {
+		Random random = new Random(seed);
+		
+		int m = n * d;
+		
+		int[][] arcs = randomEdges(random, n, m, false);
+		int[][] dagArcs = randomEdges(random, n, m, true);
+		int[] weights = random.ints(m, 1, 100).toArray();
+		
+		DirectedGraph<Integer> digraph = directedGraph(arcs);
+		DirectedGraph<Integer> dag = directedGraph(dagArcs);
+		Network<Integer> network = network(arcs, weights, false);
+		Network<Integer> flowNetwork = network(arcs, weights, true);
+		
+		EdgeList edgeList = new EdgeList(n, column(arcs, 0), column(arcs, 1), weights);
+		
+		Map<String, Workload> workloads = new LinkedHashMap<>();
+		
+		workloads.put("DirectedGraph.addEdge", blackhole -> blackhole.consume(directedGraph(arcs)));
+		
+		workloads.put("Network.addEdge", blackhole -> blackhole.consume(network(arcs, weights, false)));
+		
+		workloads.put("EdgeList.toDirectedGraph", blackhole -> blackhole.consume(edgeList.toDirectedGraph()));
+		
+		workloads.put("EdgeList.toNetwork", blackhole -> blackhole.consume(edgeList.toNetwork(false)));
+		
+		workloads.put("DirectedGraph.removeVertex", new Workload() {
+			DirectedGraph<Integer> graph;
+			
+			@Override
+			public void prepare() {
+				graph = directedGraph(arcs);
+			}
+			
+			@Override
+			public void run(Blackhole blackhole) {
+				for (int i = 0; i < REMOVALS; ++i)
+					if (graph.contains(i))
+						graph.removeVertex(i);
+				
+				blackhole.consume(graph.vertexCount());
+			}
+		});
+		
+		workloads.put("Network.removeVertex", new Workload() {
+			Network<Integer> graph;
+			
+			@Override
+			public void prepare() {
+				graph = network(arcs, weights, false);
+			}
+			
+			@Override
+			public void run(Blackhole blackhole) {
+				for (int i = 0; i < REMOVALS; ++i)
+					if (graph.contains(i))
+						graph.removeVertex(i);
+				
+				blackhole.consume(graph.vertexCount());
+			}
+		});
+		
+		workloads.put("DirectedGraph.shortestPath", blackhole -> {
+			for (int i = 0; i < QUERIES; ++i)
+				blackhole.consume(digraph.shortestPath(arcs[i][0], arcs[m - 1 - i][1]));
+		});
+		
+		workloads.put("Network.shortestPath", blackhole -> {
+			for (int i = 0; i < QUERIES; ++i)
+				blackhole.consume(network.shortestPath(arcs[i][0], arcs[m - 1 - i][1]));
+		});
+		
+		List<Pair<Integer, Integer>> batch = new ArrayList<>();
+		
+		for (int i = 0; i < BATCH; ++i)
+			batch.add(new Pair<>(arcs[i % QUERIES][0], arcs[m - 1 - i % m][1]));//QUERIES sources with many targets each
+		
+		workloads.put("Network.shortestPaths", blackhole -> blackhole.consume(network.shortestPaths(batch)));
+		
+		workloads.put("GraphIterator.breadthFirst", blackhole -> {
+			for (Iterator<Integer> it = digraph.breadthFirstIterator(arcs[0][0]); it.hasNext(); )
+				blackhole.consume(it.next());
+		});
+		
+		workloads.put("GraphIterator.depthFirst", blackhole -> {
+			for (Iterator<Integer> it = digraph.depthFirstIterator(arcs[0][0]); it.hasNext(); )
+				blackhole.consume(it.next());
+		});
+		
+		workloads.put("DirectedGraph.breadthFirstTraversal", new Workload() {
+			long visited;
+			
+			GraphVisitor<Integer> visitor = new GraphVisitor<Integer>() {
+				@Override
+				public Action onDiscover(Integer vertex, int depth) {
+					++visited;
+					
+					return Action.CONTINUE;
+				}
+			};
+			
+			@Override
+			public void run(Blackhole blackhole) {
+				visited = 0;
+				
+				digraph.breadthFirstTraversal(arcs[0][0], visitor);
+				
+				blackhole.consume(visited);
+			}
+		});
+		
+		workloads.put("DirectedGraph.isCyclic", blackhole -> blackhole.consume(dag.isCyclic()));
+		
+		workloads.put("DirectedGraph.topologicalSort", blackhole -> blackhole.consume(dag.topologicalSort()));
+		
+		workloads.put("DirectedGraph.stronglyConnected", blackhole -> blackhole.consume(digraph.getStronglyConnectedComponents()));
+		
+		workloads.put("Network.spanningTree", blackhole -> blackhole.consume(network.spanningTree()));
+		
+		workloads.put("Network.maxFlow", blackhole -> blackhole.consume(flowNetwork.maxFlow(arcs[0][0], arcs[m - 1][1])));
+		
+		workloads.put("DisjointSetUnion.union", blackhole -> {
+			DisjointSetUnion<Integer> dsu = new DisjointSetUnion<>();
+			
+			for (int[] arc : arcs)
+				blackhole.consume(dsu.union(arc[0], arc[1]));
+		});
+		
+		return workloads;
+	}
+	
+	/*
+	 * Makes m random edges between n vertexes without self loops,
+	 * edges of an acyclic graph always go from a smaller vertex to a bigger one.
+	 */
+	private static int[][] randomEdges(Random random, int n, int m, boolean acyclic) {
+		List<int[]> arcs = new ArrayList<>(m);
+		
+		while (arcs.size() < m) {
+			int u = random.nextInt(n);
+			int v = random.nextInt(n);
+			
+			if (u == v)
+				continue;
+			
+			if (acyclic && u > v)
+				arcs.add(new int[]{v, u});
+			else
+				arcs.add(new int[]{u, v});
+		}
+		
+		return arcs.toArray(new int[m][]);
+	}
+	
+	private static int[] column(int[][] arcs, int i) {
+		int[] column = new int[arcs.length];
+		
+		for (int e = 0; e < arcs.length; ++e)
+			column[e] = arcs[e][i];
+		
+		return column;
+	}
+	
+	private static DirectedGraph<Integer> directedGraph(int[][] arcs) {
+		DirectedGraph<Integer> graph = new DirectedGraph<>();
+		
+		for (int[] arc : arcs)
+			graph.addEdge(arc[0], arc[1]);
+		
+		return graph;
+	}
+	
+	private static Network<Integer> network(int[][] arcs, int[] weights, boolean directed) {
+		Network<Integer> graph = new Network<>(directed);
+		
+		for (int i = 0; i < arcs.length; ++i)
+			graph.addEdge(arcs[i][0], arcs[i][1], weights[i]);
+		
+		return graph;
+	}
+}
@@ -0,0 +1,97 @@
+package graphapi.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@code GraphBenchmark} is the JMH benchmark of the graph classes, it runs every workload of {@code Benchmarks}
+ * on random graphs of every size and density. One operation is one run of a workload, the GC profiler is always on
+ * so every result comes with its allocation rate and allocated bytes per operation.
+ * 
+ * Build with "mvn package" and run all of them with "java -jar benchmarks/target/benchmarks.jar",
+ * the usual JMH options work, for example "-p workload=Network.maxFlow -p size=2000" picks one workload and size.
+ * The benchmark JVM gets a big stack since the recursive DFS algorithms need it.
+ * 
+ * @author agent
+ * @see Workload
+ * @version 1.0 (10/19/2026)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class GraphBenchmark {
+	/**
+	 * Name of the workload
+	 */
+	@Param({"DirectedGraph.addEdge", "Network.addEdge", "EdgeList.toDirectedGraph", "EdgeList.toNetwork",
+			"DirectedGraph.removeVertex", "Network.removeVertex", "DirectedGraph.shortestPath", "Network.shortestPath",
+			"Network.shortestPaths", "GraphIterator.breadthFirst", "GraphIterator.depthFirst", "DirectedGraph.breadthFirstTraversal",
+			"DirectedGraph.isCyclic", "DirectedGraph.topologicalSort", "DirectedGraph.stronglyConnected",
+			"Network.spanningTree", "Network.maxFlow", "DisjointSetUnion.union"})
+	public String workload;
+	
+	/**
+	 * Number of vertexes
+	 */
+	@Param({"500", "2000"})
+	public int size;
+	
+	/**
+	 * Average number of edges leaving a vertex
+	 */
+	@Param({"2", "8"})
+	public int density;
+	
+	/**
+	 * Seed of the random graphs
+	 */
+	@Param("42")
+	public long seed;
+	
+	private Workload run;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws ReflectiveOperationException {
+		//the factory is in the default package, so it can only be loaded by name
+		Workload.Factory factory = (Workload.Factory) Class.forName("Benchmarks").getDeclaredConstructor().newInstance();
+		
+		run = factory.create(size, density, seed).get(workload);
+		
+		if (run == null)
+			throw new IllegalArgumentException("Unknown workload: " + workload);
+	}
+	
+	@Setup(Level.Invocation)
+	public void prepare() {
+		run.prepare();
+	}
+	
+	@Benchmark
+	public void run(Blackhole blackhole) {
+		run.run(blackhole);
+	}
+	
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,49 @@
+package graphapi.jmh;
+
+import java.util.Map;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@code Workload} is one measured operation of the graph classes, for example building a graph or a batch of queries.
+ * The graph classes are in the default package, JMH does not generate benchmarks for it and packaged code can't import it,
+ * so the workloads are made by the default package class {@code Benchmarks} and run by {@code GraphBenchmark} through this interface.
+ * 
+ * @author agent
+ * @see GraphBenchmark
+ * @version 1.0 (10/19/2026)
+ */
+public interface Workload {
+	/**
+	 * Prepares the next run, for example builds a fresh graph for a workload that modifies it. It's not measured.
+	 */
+	default void prepare() {
+	}
+	
+	/**
+	 * Runs the operation once, every result goes to the blackhole so the JIT compiler can't drop the work.
+	 * 
+	 * @param blackhole
+	 *        JMH blackhole
+	 */
+	void run(Blackhole blackhole);
+	
+	/**
+	 * Makes the workloads on random graphs of a size and density.
+	 */
+	interface Factory {
+		/**
+		 * Makes all workloads on random graphs with {@code size} vertexes and {@code size * density} edges.
+		 * 
+		 * @param size
+		 *        number of vertexes
+		 * @param density
+		 *        average number of edges leaving a vertex
+		 * @param seed
+		 *        seed of the random graphs
+		 * 
+		 * @return workloads by their names
+		 */
+		Map<String, Workload> create(int size, int density, long seed);
+	}
+}
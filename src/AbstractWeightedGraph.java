@@ -1,6 +1,8 @@
 import java.util.AbstractMap;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -8,8 +10,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.WeakHashMap;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.function.Predicate;
 
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * The {@code AbstractGraph} is a skeleton class for other graph classes that implements {@code WeightedGraph} interface.
@@ -38,14 +47,44 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 	 */
 	protected List<WeightedEdge<T>> edges;
 	
+	/**
+	 * Statistics of the graph, kept up to date on every mutation
+	 */
+	protected GraphStatistics<T> stats;
+	
+	/**
+	 * Listener of algorithm runs, {@code null} if the runs are not reported
+	 */
+	protected AlgorithmListener listener;
+	
+	/**
+	 * Number of times the graph was modified, child classes increment it on every mutation
+	 */
+	protected int modCount;
+	
+	/**
+	 * Cached snapshot of the graph and value of {@code modCount} it was made at
+	 */
+	private CSRGraph<T> frozen;
+	private int frozenModCount;
+	
+	/**
+	 * Masks of subgraph views by their vertex filter and then their edge filter, they belong to the snapshot {@code masked}.
+	 * The filters are weak keys, a mask is dropped with the last view that uses its filters.
+	 */
+	private Map<Object, Map<Object, SubgraphMask<T>>> masks;
+	private CSRGraph<T> masked;
+	
 	/**
 	 * This constructor initializes this class's
 	 * fields, it can only be called by child classes.
+	 * The statistics assume directed edges, child classes with undirected edges replace them.
 	 */
 	protected AbstractWeightedGraph() {
 		adj = new HashMap<>();
 		vertexes = new HashSet<>();
 		edges = new ArrayList<>();
+		stats = new GraphStatistics<>(true);
 	}
 	
 	protected void check(Object... objs) {
@@ -53,6 +92,14 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 			Objects.requireNonNull(obj);
 	}
 	
+	/**
+	 * Returns initial capacity of a hash table that holds {@code size} entries without rehashing,
+	 * it's used by the bulk constructors of child classes.
+	 */
+	static int capacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+	
 	/**
 	 * Returns number of vertexes in a graph.
 	 * 
@@ -78,6 +125,9 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 	public int shortestPath(T u, T v) {
 		check(u, v);
 		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		long visits = 0, edgeScans = 0, relaxations = 0, maxFrontier = 1;
+		
 		Queue<T> Q = new ArrayDeque<>();//might not work with earlier versions of java, use java.util.LinkedList if necessary
 		Set<T> inQueue = new HashSet<>();//keep track of vertexes in queue
 		Map<T, Integer> dist = new HashMap<>();
@@ -92,25 +142,533 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 		while (!Q.isEmpty()) {
 			T vertex = Q.poll();
 			inQueue.remove(vertex);
+			++visits;
 			
-			for (Pair<T, Integer> pair : adj.get(vertex)) {
-				T successor = pair.first();
-				int weight = pair.second();
-				
-				if (dist.get(successor) > dist.get(vertex) + weight) {
-					dist.put(successor, dist.get(vertex) + weight);//relax edge
+			if (adj.get(vertex) != null)//a vertex without edges have no adjacency set
+				for (Pair<T, Integer> pair : adj.get(vertex)) {
+					T successor = pair.first();
+					int weight = pair.second();
 					
-					if (!inQueue.contains(successor)) {
-						Q.add(successor);
-						inQueue.add(successor);
+					++edgeScans;
+					
+					if (dist.get(successor) > dist.get(vertex) + weight) {
+						dist.put(successor, dist.get(vertex) + weight);//relax edge
+						++relaxations;
+						
+						if (!inQueue.contains(successor)) {
+							Q.add(successor);
+							inQueue.add(successor);
+						}
 					}
 				}
-			}
+			
+			maxFrontier = Math.max(maxFrontier, Q.size());
 		}
 		
+		run.finish("SPFA", visits, edgeScans, relaxations, 0, maxFrontier);
+		
 		return dist.get(v) == INF ? -1 : dist.get(v);
 	}
 	
+	/**
+	 * Uses A* search to calculate shortest path between vertexes source and target.
+	 * The search is directed towards the target by the heuristic, so it explores a lot less of the graph
+	 * than {@code shortestPath} when the heuristic is good, for example straight line distance in a road network.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * @param target
+	 *        destination vertex
+	 * @param heuristic
+	 *        admissible heuristic, it never overestimates the cost to the target
+	 * 
+	 * @return an integer valued shortest path between vertexes, if there's no such path, -1 will be returned
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE or the graph have a negative weight
+	 */
+	public int aStar(T source, T target, Heuristic<? super T> heuristic) {
+		CSRGraph<T> graph = freeze();
+		
+		long dist = aStarSearch(graph, source, target, heuristic).dist[graph.indexOf(target)];
+		
+		return dist == ShortestPaths.UNREACHABLE ? -1 : (int) dist;
+	}
+	
+	/**
+	 * Uses A* search to find a shortest path between vertexes source and target.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * @param target
+	 *        destination vertex
+	 * @param heuristic
+	 *        admissible heuristic, it never overestimates the cost to the target
+	 * 
+	 * @return vertexes of a shortest path from source to target, {@code null} if there's no such path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE or the graph have a negative weight
+	 */
+	public List<T> aStarPath(T source, T target, Heuristic<? super T> heuristic) {
+		CSRGraph<T> graph = freeze();
+		
+		return aStarSearch(graph, source, target, heuristic).path(graph, graph.indexOf(target));
+	}
+	
+	private ShortestPaths.Search aStarSearch(CSRGraph<T> graph, T source, T target, Heuristic<? super T> heuristic) {
+		check(source, target, heuristic);
+		
+		if (!contains(source) || !contains(target))
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		if (getStatistics().minWeight() < 0)
+			throw new IllegalArgumentException("A* search does not allow negative weights!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		ShortestPaths.Search search = ShortestPaths.aStar(graph, graph.indexOf(source), graph.indexOf(target), heuristic);
+		
+		run.finish("AStar", search.visits, search.edgeScans, search.relaxations, 0, search.maxFrontier);
+		
+		return search;
+	}
+	
+	/**
+	 * Answers a batch of shortest path queries at once, it's a lot faster than calling {@code shortestPath} for each of them.
+	 * Queries are grouped by source vertex and every source is searched once (Dijkstra's algorithm) until all of its targets are reached,
+	 * sources are searched in parallel on the ForkJoin common pool and each worker thread reuses its own scratch state.
+	 * 
+	 * @param queries
+	 *        list of (source, target) pairs
+	 * 
+	 * @return shortest path of each query in the same order, -1 if there's no such path or a vertex DNE
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph have a negative weight
+	 */
+	public int[] shortestPaths(List<Pair<T, T>> queries) {
+		check(queries);
+		
+		if (getStatistics().minWeight() < 0)
+			throw new IllegalArgumentException("Batched queries do not allow negative weights, use shortestPath instead!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		CSRGraph<T> graph = freeze();
+		
+		int[] sources = new int[queries.size()];
+		int[] targets = new int[queries.size()];
+		int i = 0;
+		
+		for (Pair<T, T> query : queries) {
+			check(query, query.first(), query.second());
+			
+			sources[i] = graph.indexOf(query.first());
+			targets[i++] = graph.indexOf(query.second());
+		}
+		
+		AtomicLongArray work = new AtomicLongArray(2);
+		int[] result = ShortestPaths.batch(graph, sources, targets, work);
+		
+		run.finish("Batch.Dijkstra", work.get(0), work.get(1), 0, 0, 0);
+		
+		return result;
+	}
+	
+	/**
+	 * Computes shortest paths from the source to every vertex with parallel delta-stepping,
+	 * the bucket width is picked from the largest weight and the average degree of the graph.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * 
+	 * @return shortest path to each vertex indexed like {@code freeze()}, -1 if there's no such path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source DNE or the graph have a negative weight
+	 */
+	public int[] deltaStepping(T source) {
+		long degree = Math.max(1, 2L * edgeCount() / Math.max(1, vertexCount()));
+		
+		return deltaStepping(source, (int) Math.max(1, getStatistics().maxWeight() / degree));
+	}
+	
+	/**
+	 * Computes shortest paths from the source to every vertex with parallel delta-stepping on the ForkJoin common pool.
+	 * Vertexes are processed in buckets of width delta by their tentative distance and edges leaving a bucket are relaxed in parallel,
+	 * a small delta does less redundant work, a big delta gives more parallelism. It's meant for large graphs,
+	 * {@code shortestPath} is faster for a single pair in small ones.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * @param delta
+	 *        bucket width, at least 1
+	 * 
+	 * @return shortest path to each vertex indexed like {@code freeze()}, -1 if there's no such path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source DNE, delta is less than 1 or the graph have a negative weight
+	 */
+	public int[] deltaStepping(T source, int delta) {
+		check(source);
+		
+		if (!contains(source))
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		if (delta < 1)
+			throw new IllegalArgumentException("Delta must be at least 1!");
+		
+		if (getStatistics().minWeight() < 0)
+			throw new IllegalArgumentException("Delta-stepping does not allow negative weights, use shortestPath instead!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		CSRGraph<T> graph = freeze();
+		AtomicLongArray work = new AtomicLongArray(4);
+		long[] dist = ShortestPaths.deltaStepping(graph, graph.indexOf(source), delta, work);
+		int[] result = new int[dist.length];
+		
+		for (int i = 0; i < dist.length; ++i)
+			result[i] = dist[i] >= INF ? -1 : (int) dist[i];
+		
+		run.finish("DeltaStepping", work.get(0), work.get(1), work.get(2), 0, work.get(3));
+		
+		return result;
+	}
+	
+	/**
+	 * Preprocesses the graph into a {@code ContractionHierarchy} that answers point to point shortest path queries
+	 * in well under a millisecond on road networks. Vertexes are contracted in parallel rounds on the ForkJoin common pool,
+	 * the hierarchy is a snapshot and it has to be built again after the graph changes.
+	 * 
+	 * @return {@code ContractionHierarchy} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph have a negative weight
+	 */
+	public ContractionHierarchy<T> contractionHierarchy() {
+		if (getStatistics().minWeight() < 0)
+			throw new IllegalArgumentException("Contraction hierarchies do not allow negative weights!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		AtomicLongArray work = new AtomicLongArray(2);
+		ContractionHierarchy<T> hierarchy = ContractionHierarchy.build(freeze(), work);
+		
+		run.finish("ContractionHierarchy", work.get(0), work.get(1), hierarchy.shortcutCount(), 0, 0);
+		
+		return hierarchy;
+	}
+	
+	/**
+	 * Builds a {@code LandmarkIndex} with k landmarks picked far from each other, it bounds distance between any two vertexes
+	 * right away and its lower bounds make an A* heuristic. The index is a snapshot, edges added later are applied with its {@code addEdge}.
+	 * 
+	 * @param k
+	 *        number of landmarks, 8 to 16 is usually enough
+	 * 
+	 * @return {@code LandmarkIndex} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if k is negative or the graph have a negative weight
+	 */
+	public LandmarkIndex<T> landmarkIndex(int k) {
+		if (k < 0)
+			throw new IllegalArgumentException("Number of landmarks is negative!");
+		
+		return landmarkIndex(k, null);
+	}
+	
+	/**
+	 * Builds a {@code LandmarkIndex} with chosen landmarks, distances of all landmarks are computed in parallel on the ForkJoin common pool.
+	 * 
+	 * @param landmarks
+	 *        landmark vertexes
+	 * 
+	 * @return {@code LandmarkIndex} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a landmark DNE or the graph have a negative weight
+	 */
+	public LandmarkIndex<T> landmarkIndex(List<T> landmarks) {
+		check(landmarks);
+		
+		return landmarkIndex(landmarks.size(), landmarks);
+	}
+	
+	private LandmarkIndex<T> landmarkIndex(int k, List<T> landmarks) {
+		if (getStatistics().minWeight() < 0)
+			throw new IllegalArgumentException("Landmark index does not allow negative weights!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		CSRGraph<T> graph = freeze();
+		AtomicLongArray work = new AtomicLongArray(2);
+		LandmarkIndex<T> index;
+		
+		if (landmarks == null)
+			index = LandmarkIndex.build(graph, k, work);
+		else {
+			int[] indexes = new int[k];
+			int i = 0;
+			
+			for (T landmark : landmarks) {
+				check(landmark);
+				
+				if ((indexes[i++] = graph.indexOf(landmark)) < 0)
+					throw new IllegalArgumentException("The vertex does not exist!");
+			}
+			
+			index = LandmarkIndex.build(graph, indexes, work);
+		}
+		
+		run.finish("LandmarkIndex", work.get(0), work.get(1), 0, 0, 0);
+		
+		return index;
+	}
+	
+	/**
+	 * Computes exact betweenness centrality of every vertex with Brandes' algorithm in O(VE) time (O(VE + V^2 log V) with weights),
+	 * betweenness of a vertex is the number of shortest paths between other vertexes that go through it, a path shared by k shortest paths
+	 * of the same pair counts 1 / k. Sources are searched in parallel on the ForkJoin common pool.
+	 * 
+	 * @return betweenness of each vertex indexed like {@code freeze()}, pairs of an undirected graph are counted once
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph have a weight less than 1
+	 */
+	public double[] betweenness() {
+		return betweenness(-1, 0);
+	}
+	
+	/**
+	 * Estimates betweenness centrality from a random sample of sources, dependencies on the sampled sources are scaled up
+	 * by n / (number of sources). With probability at least 1 - delta every estimate is within epsilon * n * (n - 2)
+	 * of the exact betweenness, ln(2n / delta) / (2 * epsilon^2) sources are sampled for that, if it's at least n
+	 * the exact betweenness is computed instead.
+	 * 
+	 * @param epsilon
+	 *        error bound, in range (0, 1)
+	 * @param delta
+	 *        probability the error bound is broken, in range (0, 1)
+	 * @param seed
+	 *        random seed, the same seed always samples the same sources
+	 * 
+	 * @return estimated betweenness of each vertex indexed like {@code freeze()}, pairs of an undirected graph are counted once
+	 * 
+	 * @throw java.lang.IllegalArgumentException if epsilon or delta is out of range or the graph have a weight less than 1
+	 */
+	public double[] betweenness(double epsilon, double delta, long seed) {
+		if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1))
+			throw new IllegalArgumentException("Epsilon and delta must be in range (0, 1)!");
+		
+		return betweenness(Centrality.sampleSize(vertexCount(), epsilon, delta), seed);
+	}
+	
+	/*
+	 * Betweenness from a sample of sources, all vertexes if samples is negative or at least n.
+	 */
+	private double[] betweenness(long samples, long seed) {
+		if (edgeCount() > 0 && getStatistics().minWeight() < 1)
+			throw new IllegalArgumentException("Betweenness needs positive weights, a zero weight cycle have infinitely many shortest paths!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		CSRGraph<T> graph = freeze();
+		int[] sources = IntStream.range(0, graph.vertexCount()).filter(graph::hasVertex).toArray();
+		int n = sources.length;
+		
+		if (samples >= 0 && samples < n) {
+			SplittableRandom random = new SplittableRandom(seed);
+			
+			for (int i = 0; i < samples; ++i) {//partial Fisher-Yates shuffle, sources are sampled without replacement
+				int j = i + random.nextInt(n - i);
+				int swap = sources[i];
+				
+				sources[i] = sources[j];
+				sources[j] = swap;
+			}
+			
+			sources = Arrays.copyOf(sources, (int) samples);
+		}
+		
+		AtomicLongArray work = new AtomicLongArray(2);
+		double[] centrality = Centrality.betweenness(graph, sources, sources.length == 0 ? 0 : (double) n / sources.length, work);
+		
+		run.finish(sources.length < n ? "Betweenness.Sampled" : "Betweenness.Dijkstra", work.get(0), work.get(1), 0, 0, 0);
+		
+		return centrality;
+	}
+	
+	/**
+	 * Counts triangles of the undirected view of the graph (edge directions, weights, parallel edges and self loops are ignored)
+	 * in O(E^1.5) time without hashing, vertexes are ranked by degree and sorted edge lists are merged in parallel.
+	 * 
+	 * @return {@code TriangleCount} with the number of triangles of the graph and of each vertex and clustering coefficients
+	 */
+	public TriangleCount<T> triangles() {
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		AtomicLongArray work = new AtomicLongArray(2);
+		TriangleCount<T> triangles = TriangleCount.count(freeze(), work);
+		
+		run.finish("TriangleCount", work.get(0), work.get(1), 0, 0, 0);
+		
+		return triangles;
+	}
+	
+	/**
+	 * Finds communities of the undirected view of the graph with label propagation, it stops when at most 0.1% of vertexes
+	 * change their communities in an iteration.
+	 * 
+	 * @return {@code Communities} of the graph
+	 */
+	public Communities<T> communities() {
+		return communities(0.001, 0);
+	}
+	
+	/**
+	 * Finds communities of the undirected view of the graph with label propagation: every vertex starts in a community of its own
+	 * and repeatedly joins the community most of its edges go to, vertexes of each color of a greedy coloring are updated in parallel,
+	 * so the result only depends on the graph and the seed.
+	 * 
+	 * @param threshold
+	 *        propagation stops when at most this fraction of vertexes change their communities in an iteration, in range [0, 1)
+	 * @param seed
+	 *        seed of tie breaking between equally good communities
+	 * 
+	 * @return {@code Communities} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the threshold is out of range
+	 */
+	public Communities<T> communities(double threshold, long seed) {
+		if (!(threshold >= 0 && threshold < 1))
+			throw new IllegalArgumentException("Threshold must be in range [0, 1)!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		AtomicLongArray work = new AtomicLongArray(2);
+		Communities<T> communities = Communities.labelPropagation(freeze(), threshold, seed, work);
+		
+		run.finish("LabelPropagation", work.get(0), work.get(1), 0, 0, 0);
+		
+		return communities;
+	}
+	
+	/**
+	 * Finds connected components of the graph (weakly connected components if the graph is directed) with Afforest,
+	 * a lock free parallel union find that links a couple of neighbours of every vertex first and then skips edges
+	 * of vertexes already in the big component.
+	 * 
+	 * @return {@code Components} of the graph
+	 */
+	public Components<T> components() {
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		AtomicLongArray work = new AtomicLongArray(2);
+		Components<T> components = Components.afforest(freeze(), work);
+		
+		run.finish("Afforest", work.get(0), work.get(1), 0, 0, 0);
+		
+		return components;
+	}
+	
+	/**
+	 * Bipartite graph is a graph whose vertexes can be divided into two sets where vertexes
+	 * in each set cannot have an edge each other, the bipartite graph is also known as "two colourable" graph.
+	 * Vertexes are coloured with BFS in O(V + E) time, edge directions are ignored.
+	 * 
+	 * @return {@code true} if the graph is bipartite {@code false} otherwise
+	 */
+	public boolean isBipartite() {
+		return Matching.colour(freeze()) != null;
+	}
+	
+	/**
+	 * Divides vertexes into two sets so that no edge joins vertexes of the same set, edge directions are ignored.
+	 * The lowest indexed vertex of every connected component goes to the first set. It takes O(V + E) time.
+	 * 
+	 * @return both sets of vertexes in order of their indexes, {@code null} if the graph is not bipartite
+	 */
+	public Pair<List<T>, List<T>> bipartition() {
+		CSRGraph<T> graph = freeze();
+		int[] colour = Matching.colour(graph);
+		
+		if (colour == null)
+			return null;
+		
+		Pair<List<T>, List<T>> sets = new Pair<>(new ArrayList<>(), new ArrayList<>());
+		
+		for (int i = 0; i < colour.length; ++i)
+			if (colour[i] >= 0)
+				(colour[i] == 0 ? sets.first() : sets.second()).add(graph.vertex(i));
+		
+		return sets;
+	}
+	
+	/**
+	 * Finds a maximum matching of the bipartite graph (a largest set of edges without common vertexes) with Hopcroft-Karp algorithm
+	 * in O(E * sqrt(V)) time, edge directions are ignored.
+	 * 
+	 * @return maximum {@code Matching} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph is not bipartite
+	 */
+	public Matching<T> maximumMatching() {
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		CSRGraph<T> graph = freeze();
+		int[] colour = Matching.colour(graph);
+		
+		if (colour == null)
+			throw new IllegalArgumentException("The graph is not bipartite!");
+		
+		AtomicLongArray work = new AtomicLongArray(3);
+		Matching<T> matching = Matching.hopcroftKarp(graph, colour, work);
+		
+		run.finish("HopcroftKarp", work.get(0), work.get(1), 0, work.get(2), 0);
+		
+		return matching;
+	}
+	
+	/**
+	 * Computes shortest paths between all pairs of vertexes, the algorithm is picked based on density and weights of the graph.
+	 * 
+	 * @return {@code DistanceMatrix} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph is too big for a matrix or it have a negative cycle
+	 */
+	public DistanceMatrix<T> allPairsShortestPaths() {
+		return allPairsShortestPaths(DistanceMatrix.Mode.AUTO);
+	}
+	
+	/**
+	 * Computes shortest paths between all pairs of vertexes with the chosen algorithm, both of them are parallel.
+	 * Floyd-Warshall algorithm is O(V^3) on a cache blocked matrix, it's for dense graphs and graphs with negative weights,
+	 * the per source algorithm runs Dijkstra's algorithm from every vertex, it's for sparse graphs.
+	 * The matrix takes 4 * V^2 bytes.
+	 * 
+	 * @param mode
+	 *        algorithm to be used
+	 * 
+	 * @return {@code DistanceMatrix} of the graph
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph is too big for a matrix, it have a negative cycle, or it have a negative weight in per source mode
+	 */
+	public DistanceMatrix<T> allPairsShortestPaths(DistanceMatrix.Mode mode) {
+		check(mode);
+		
+		if (mode == DistanceMatrix.Mode.PER_SOURCE && getStatistics().minWeight() < 0)
+			throw new IllegalArgumentException("Dijkstra's algorithm does not allow negative weights!");
+		
+		GraphEvents.Run run = GraphEvents.start(listener, this);
+		
+		CSRGraph<T> graph = freeze();
+		AtomicLongArray work = new AtomicLongArray(new long[]{graph.keptVertexCount(), graph.keptEdgeCount()});//Floyd-Warshall goes over every vertex and edge once
+		boolean floydWarshall = mode == DistanceMatrix.Mode.FLOYD_WARSHALL || (mode == DistanceMatrix.Mode.AUTO && (getStatistics().minWeight() < 0 || ShortestPaths.isDense(graph)));
+		
+		if (!floydWarshall)
+			work = new AtomicLongArray(2);
+		
+		int[] dist = floydWarshall ? ShortestPaths.floydWarshall(graph) : ShortestPaths.perSource(graph, work);
+		
+		run.finish(floydWarshall ? "AllPairs.FloydWarshall" : "AllPairs.Dijkstra", work.get(0), work.get(1), 0, 0, 0);
+		
+		return new DistanceMatrix<>(graph, dist);
+	}
+	
 	/**
 	 * Returns a degree of vertex (number of successors he have).
 	 * 
@@ -156,7 +714,10 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 	public void addVertex(T vertex) {
 		check(vertex);
 		
-		vertexes.add(vertex);
+		if (vertexes.add(vertex)) {
+			stats.vertexAdded(vertex);
+			++modCount;
+		}
 	}
 	
 	/**
@@ -174,10 +735,18 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 		if (!contains(vertex))
 			throw new IllegalArgumentException();
 		
+		GraphEvents.Mutation event = GraphEvents.mutation();
+		
+		int edgeCount = edgeCount();
+		
 		//Case 1: remove from set of vertexes
 		vertexes.remove(vertex);
 		
 		//Case 2: remove from collection of edges
+		for (WeightedEdge<T> e : edges)
+			if (e.getU().equals(vertex) || e.getV().equals(vertex))
+				stats.edgeRemoved(e.getU(), e.getV(), e.getWeight());
+		
 		edges = edges.parallelStream().filter(e -> !e.getU().equals(vertex) && !e.getV().equals(vertex)).collect(Collectors.toList());
 		
 		//Case 3: remove from adjacency list, very complicated...
@@ -189,6 +758,39 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 		//5.convert it to map
 		//TODO: test with corner cases
 		adj = adj.entrySet().parallelStream().filter(e -> !e.getKey().equals(vertex)).map(e -> new AbstractMap.SimpleEntry<T, Set<Pair<T, Integer>>>(e.getKey(), e.getValue().parallelStream().filter(p -> !p.first().equals(vertex)).collect(Collectors.toSet()))).collect(Collectors.toSet()).parallelStream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		
+		stats.vertexRemoved(vertex);
+		++modCount;
+		
+		GraphEvents.report(event, "removeVertex", this, vertexCount(), edgeCount(), edgeCount - edgeCount());
+	}
+	
+	/**
+	 * Returns statistics of the graph, they're kept up to date on every mutation.
+	 * 
+	 * @return {@code GraphStatistics} object of the graph
+	 */
+	public GraphStatistics<T> getStatistics() {
+		return stats;
+	}
+	
+	/**
+	 * Sets a listener that's notified at the end of every algorithm run on the graph.
+	 * 
+	 * @param listener
+	 *        algorithm listener, {@code null} to stop reporting
+	 */
+	public void setAlgorithmListener(AlgorithmListener listener) {
+		this.listener = listener;
+	}
+	
+	/**
+	 * Returns the listener of algorithm runs.
+	 * 
+	 * @return algorithm listener, {@code null} if the runs are not reported
+	 */
+	public AlgorithmListener getAlgorithmListener() {
+		return listener;
 	}
 	
 	/**
@@ -221,6 +823,125 @@ public abstract class AbstractWeightedGraph<T> implements WeightedGraph<T> {
 		return edges;
 	}
 	
+	/**
+	 * Returns a frozen compressed sparse row (CSR) snapshot of the graph,
+	 * algorithms that work on primitive arrays run on it.
+	 * The snapshot is cached, the same object is returned until the graph is modified.
+	 * Changes made directly to the collections returned by {@code getEdges()} or {@code getAdjacencyList()} are not noticed.
+	 * 
+	 * @return {@code CSRGraph} snapshot of the graph
+	 */
+	public CSRGraph<T> freeze() {
+		if (frozen == null || frozenModCount != modCount) {
+			frozen = new CSRGraph<>(this);
+			frozenModCount = modCount;
+		}
+		
+		return frozen;
+	}
+	
+	/**
+	 * Returns a read-only view of the vertexes and edges of the graph that pass the filters, it follows later changes of the graph.
+	 * Algorithms run on the view directly: its snapshot shares the arrays of {@code freeze()} and only adds bitmaps
+	 * of kept vertexes and edges. The filters are evaluated once per snapshot of the graph and the bitmaps are cached
+	 * by identity of the filters, so views made with the same filter objects share them.
+	 * 
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge, an edge is kept only if both of its vertexes are kept too
+	 * 
+	 * @return {@code WeightedSubgraphView} of the graph
+	 */
+	public WeightedSubgraphView<T> subgraph(Predicate<? super T> vertexFilter, Predicate<? super WeightedEdge<T>> edgeFilter) {
+		return new WeightedSubgraphView<>(this, vertexFilter, edgeFilter);
+	}
+	
+	/**
+	 * Returns a read-only view of the subgraph induced by the vertexes: the vertexes and all edges between them.
+	 * Vertexes that are not in the graph are ignored.
+	 * 
+	 * @param subset
+	 *        vertexes of the subgraph
+	 * 
+	 * @return {@code WeightedSubgraphView} of the graph
+	 * @see #subgraph(Predicate, Predicate)
+	 */
+	public WeightedSubgraphView<T> inducedSubgraph(Collection<? extends T> subset) {
+		Set<T> set = new HashSet<>(subset);
+		
+		return subgraph(set::contains, edge -> true);
+	}
+	
+	/*
+	 * Returns the mask of the filters on the current snapshot, the filters are only evaluated if it's not cached yet.
+	 * The evaluation is reported as a "SubgraphMask" run of this graph.
+	 */
+	SubgraphMask<T> mask(Predicate<? super T> vertexFilter, Predicate<? super WeightedEdge<T>> edgeFilter) {
+		CSRGraph<T> snapshot = freeze();
+		
+		if (masks == null || masked != snapshot) {
+			masks = new WeakHashMap<>();
+			masked = snapshot;
+		}
+		
+		Map<Object, SubgraphMask<T>> byEdgeFilter = masks.computeIfAbsent(vertexFilter, filter -> new WeakHashMap<>());
+		SubgraphMask<T> mask = byEdgeFilter.get(edgeFilter);
+		
+		if (mask == null) {
+			GraphEvents.Run run = GraphEvents.start(listener, this);
+			
+			mask = new SubgraphMask<>(snapshot, vertexFilter, (u, v, e) -> edgeFilter.test(new WeightedEdge<>(snapshot.vertex(u), snapshot.vertex(v), snapshot.weights()[e])));
+			byEdgeFilter.put(edgeFilter, mask);
+			
+			run.finish("SubgraphMask", snapshot.keptVertexCount(), snapshot.keptEdgeCount(), 0, 0, 0);
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Traverses the graph in breadth first fashion from the source vertex and calls the visitor back.
+	 * The traversal runs on the cached snapshot of the graph with reusable primitive buffers,
+	 * so it allocates nothing as long as the graph is not modified between traversals.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * @param visitor
+	 *        visitor to be called back
+	 * 
+	 * @return {@code true} if the visitor stopped the traversal, {@code false} if all reachable vertexes were explored
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source vertex DNE
+	 */
+	public boolean breadthFirstTraversal(T source, GraphVisitor<? super T> visitor) {
+		Objects.requireNonNull(source);//check(...) would allocate an array
+		Objects.requireNonNull(visitor);
+		
+		return Traversal.breadthFirst(freeze(), source, visitor);
+	}
+	
+	/**
+	 * Traverses the graph in depth first fashion from the source vertex and calls the visitor back.
+	 * The traversal is iterative, so it's not limited by the stack size, and like {@code breadthFirstTraversal}
+	 * it allocates nothing as long as the graph is not modified between traversals.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * @param visitor
+	 *        visitor to be called back
+	 * 
+	 * @return {@code true} if the visitor stopped the traversal, {@code false} if all reachable vertexes were explored
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source vertex DNE
+	 */
+	public boolean depthFirstTraversal(T source, GraphVisitor<? super T> visitor) {
+		Objects.requireNonNull(source);//check(...) would allocate an array
+		Objects.requireNonNull(visitor);
+		
+		return Traversal.depthFirst(freeze(), source, visitor);
+	}
+	
 	/**
 	 * Returns unique hash value of the current object.
 	 * 
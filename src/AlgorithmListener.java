@@ -0,0 +1,30 @@
+/**
+ * The {@code AlgorithmListener} is notified once at the end of every algorithm run on a graph
+ * with counters of the work the run did, so slow queries can be explained.
+ * Algorithms count their work in local variables and report them only if a listener is set,
+ * without a listener they don't even read the clock.
+ * 
+ * Reporting algorithms: BFS ({@code shortestPath} of unweighted graphs), SPFA ({@code shortestPath} of weighted graphs),
+ * Kosaraju ({@code getStronglyConnectedComponents}), DFS ({@code topologicalSort}, "TopologicalSort.Cyclic" if a cycle is found),
+ * Kahn ({@code topologicalLevels}, "TopologicalLevels.Cyclic" if a cycle is found),
+ * Kruskal ({@code spanningTree}), Edmonds-Karp ({@code maxFlow}) and {@code GraphIterator} (once the iterator is exhausted).
+ * 
+ * A listener can be called from several threads at once if the graph is shared.
+ * 
+ * @author agent
+ * @see AlgorithmMetrics
+ * @see HistogramListener
+ * @see AbstractGraph#setAlgorithmListener(AlgorithmListener)
+ * @see AbstractWeightedGraph#setAlgorithmListener(AlgorithmListener)
+ * @version 1.0 (10/19/2026)
+ */
+@FunctionalInterface
+public interface AlgorithmListener {
+	/**
+	 * Called when an algorithm run is finished.
+	 * 
+	 * @param metrics
+	 *        counters and timing of the run
+	 */
+	void onRun(AlgorithmMetrics metrics);
+}
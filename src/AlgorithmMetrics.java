@@ -0,0 +1,146 @@
+/**
+ * The {@code AlgorithmMetrics} holds counters and timing of a single algorithm run.
+ * Counters that don't apply to an algorithm are 0.
+ * 
+ * @author agent
+ * @see AlgorithmListener
+ * @version 1.0 (10/19/2026)
+ */
+public class AlgorithmMetrics {
+	/**
+	 * Name of the algorithm
+	 */
+	private String algorithm;
+	
+	/**
+	 * Running time in nanoseconds
+	 */
+	private long nanos;
+	
+	/**
+	 * Number of visited (dequeued) vertexes, a vertex visited twice is counted twice
+	 */
+	private long visits;
+	
+	/**
+	 * Number of scanned edges
+	 */
+	private long edgeScans;
+	
+	/**
+	 * Number of edges that improved the answer: relaxed distances or accepted spanning tree edges
+	 */
+	private long relaxations;
+	
+	/**
+	 * Number of augmenting paths found by a max flow algorithm
+	 */
+	private long augmentations;
+	
+	/**
+	 * High-water mark of the queue or stack of vertexes waiting to be visited
+	 */
+	private long maxFrontier;
+	
+	/**
+	 * Creates a new {@code AlgorithmMetrics} object.
+	 * 
+	 * @param algorithm
+	 *        name of the algorithm
+	 * @param nanos
+	 *        running time in nanoseconds
+	 * @param visits
+	 *        number of visited vertexes
+	 * @param edgeScans
+	 *        number of scanned edges
+	 * @param relaxations
+	 *        number of edges that improved the answer
+	 * @param augmentations
+	 *        number of augmenting paths
+	 * @param maxFrontier
+	 *        high-water mark of the queue or stack
+	 */
+	public AlgorithmMetrics(String algorithm, long nanos, long visits, long edgeScans, long relaxations, long augmentations, long maxFrontier) {
+		this.algorithm = algorithm;
+		this.nanos = nanos;
+		this.visits = visits;
+		this.edgeScans = edgeScans;
+		this.relaxations = relaxations;
+		this.augmentations = augmentations;
+		this.maxFrontier = maxFrontier;
+	}
+	
+	/**
+	 * Returns name of the algorithm.
+	 * 
+	 * @return algorithm name
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+	
+	/**
+	 * Returns running time of the run.
+	 * 
+	 * @return running time in nanoseconds
+	 */
+	public long getNanos() {
+		return nanos;
+	}
+	
+	/**
+	 * Returns number of visited vertexes.
+	 * 
+	 * @return visited vertexes
+	 */
+	public long getVisits() {
+		return visits;
+	}
+	
+	/**
+	 * Returns number of scanned edges.
+	 * 
+	 * @return scanned edges
+	 */
+	public long getEdgeScans() {
+		return edgeScans;
+	}
+	
+	/**
+	 * Returns number of edges that improved the answer.
+	 * 
+	 * @return relaxed or accepted edges
+	 */
+	public long getRelaxations() {
+		return relaxations;
+	}
+	
+	/**
+	 * Returns number of augmenting paths found.
+	 * 
+	 * @return augmenting paths
+	 */
+	public long getAugmentations() {
+		return augmentations;
+	}
+	
+	/**
+	 * Returns high-water mark of the queue or stack.
+	 * 
+	 * @return maximum frontier size
+	 */
+	public long getMaxFrontier() {
+		return maxFrontier;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code AlgorithmMetrics} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "AlgorithmMetrics[algorithm=" + algorithm + ", nanos=" + nanos + ", visits=" + visits + ", edgeScans=" + edgeScans +
+			   ", relaxations=" + relaxations + ", augmentations=" + augmentations + ", maxFrontier=" + maxFrontier + "]";
+	}
+}
@@ -0,0 +1,583 @@
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code CSRGraph} is a frozen snapshot of a graph in compressed sparse row (CSR) form.
+ * Every vertex is given an integer index from 0 to V - 1 and the successors of vertex i are stored in
+ * {@code targets[offsets[i]]} to {@code targets[offsets[i + 1] - 1]}, it's a lot more compact and cache friendly
+ * than {@code Map<T, Set<T>>}, so it's used by algorithms that work on primitive arrays.
+ * The snapshot does not follow later changes of the graph it was made from.
+ * 
+ * A masked snapshot is a subgraph that shares all arrays of the snapshot it was made from and only adds bitmaps
+ * of kept vertexes and edges, indexes stay the same and {@code vertexCount()} and {@code edgeCount()} stay the bounds of them.
+ * Algorithms skip the vertexes and edges that are not kept with {@link #hasVertex(int)} and {@link #hasEdge(int)},
+ * an edge is only kept if both of its vertexes are kept so a search from a kept vertex never reaches a dropped one.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#freeze()
+ * @see AbstractWeightedGraph#freeze()
+ * @version 1.0 (10/19/2026)
+ */
+public class CSRGraph<T> {
+	/**
+	 * Vertexes by their index
+	 */
+	private List<T> vertexes;
+	
+	/**
+	 * Index of each vertex, {@code null} if vertexes are their own indexes
+	 */
+	private Map<T, Integer> index;
+	
+	/**
+	 * Start of each vertex's successors in {@code targets}, it have V + 1 entries
+	 */
+	private int[] offsets;
+	
+	/**
+	 * Successors of all vertexes
+	 */
+	private int[] targets;
+	
+	/**
+	 * Edge weights parallel to {@code targets}, {@code null} if the graph is unweighted
+	 */
+	private int[] weights;
+	
+	/**
+	 * {@code boolean} flag that indicates type of edge
+	 */
+	private boolean directed;
+	
+	/**
+	 * Kept vertexes and edges by their indexes, {@code null} if all of them are kept, the edge mask is {@code null} too if the vertex mask is
+	 */
+	private BitSet vertexMask, edgeMask;
+	
+	/**
+	 * Number of kept vertexes and stored edges
+	 */
+	private int keptVertexes, keptEdges;
+	
+	/**
+	 * Creates a snapshot of an unweighted graph.
+	 * 
+	 * @param graph
+	 *        graph to be frozen
+	 */
+	public CSRGraph(Graph<T> graph) {
+		Objects.requireNonNull(graph);
+		
+		Map<T, Set<T>> adj = graph.getAdjacencyList();
+		
+		directed = graph.isDirected();
+		
+		indexVertexes(graph.getVertexes());
+		
+		int n = vertexes.size();
+		
+		offsets = new int[n + 1];
+		
+		for (int i = 0; i < n; ++i) {
+			Set<T> successors = adj.get(vertexes.get(i));
+			
+			offsets[i + 1] = offsets[i] + (successors == null ? 0 : successors.size());
+		}
+		
+		targets = new int[offsets[n]];
+		
+		for (int i = 0; i < n; ++i) {
+			Set<T> successors = adj.get(vertexes.get(i));
+			
+			if (successors == null)
+				continue;
+			
+			int e = offsets[i];
+			
+			for (T v : successors)
+				targets[e++] = index.get(v);
+		}
+	}
+	
+	/**
+	 * Creates a snapshot of a weighted graph.
+	 * 
+	 * @param graph
+	 *        graph to be frozen
+	 */
+	public CSRGraph(WeightedGraph<T> graph) {
+		Objects.requireNonNull(graph);
+		
+		Map<T, Set<Pair<T, Integer>>> adj = graph.getAdjacencyList();
+		
+		directed = graph.isDirected();
+		
+		indexVertexes(graph.getVertexes());
+		
+		int n = vertexes.size();
+		
+		offsets = new int[n + 1];
+		
+		for (int i = 0; i < n; ++i) {
+			Set<Pair<T, Integer>> successors = adj.get(vertexes.get(i));
+			
+			offsets[i + 1] = offsets[i] + (successors == null ? 0 : successors.size());
+		}
+		
+		targets = new int[offsets[n]];
+		weights = new int[offsets[n]];
+		
+		for (int i = 0; i < n; ++i) {
+			Set<Pair<T, Integer>> successors = adj.get(vertexes.get(i));
+			
+			if (successors == null)
+				continue;
+			
+			int e = offsets[i];
+			
+			for (Pair<T, Integer> pair : successors) {
+				targets[e] = index.get(pair.first());
+				weights[e++] = pair.second();
+			}
+		}
+	}
+	
+	/**
+	 * Creates a snapshot straight from primitive edge arrays, vertexes are integers 0 to n - 1 and they're their own indexes.
+	 * It's the bulk path for huge generated graphs that are too big for adjacency maps.
+	 * An undirected edge is stored in both directions.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param sources
+	 *        "from" vertex of each edge
+	 * @param targets
+	 *        "to" vertex of each edge
+	 * @param weights
+	 *        weight of each edge, {@code null} for an unweighted graph
+	 * @param directed
+	 *        are the edges directed?
+	 * 
+	 * @return {@code CSRGraph} snapshot of the edges
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the arrays differ in length or a vertex is out of range
+	 */
+	public static CSRGraph<Integer> of(int n, int[] sources, int[] targets, int[] weights, boolean directed) {
+		Objects.requireNonNull(sources);
+		Objects.requireNonNull(targets);
+		
+		int m = sources.length;
+		
+		if (n < 0 || targets.length != m || (weights != null && weights.length != m))
+			throw new IllegalArgumentException("Edge arrays don't match!");
+		
+		int[] offsets = new int[n + 1];
+		
+		for (int e = 0; e < m; ++e) {
+			if (sources[e] < 0 || sources[e] >= n || targets[e] < 0 || targets[e] >= n)
+				throw new IllegalArgumentException("The vertex does not exist!");
+			
+			++offsets[sources[e] + 1];
+			
+			if (!directed)
+				++offsets[targets[e] + 1];
+		}
+		
+		for (int i = 0; i < n; ++i)
+			offsets[i + 1] += offsets[i];
+		
+		int[] next = Arrays.copyOf(offsets, n);
+		int[] adjacent = new int[offsets[n]];
+		int[] cost = weights == null ? null : new int[offsets[n]];
+		
+		for (int e = 0; e < m; ++e) {
+			int slot = next[sources[e]]++;
+			
+			adjacent[slot] = targets[e];
+			
+			if (cost != null)
+				cost[slot] = weights[e];
+			
+			if (!directed) {
+				slot = next[targets[e]]++;
+				
+				adjacent[slot] = sources[e];
+				
+				if (cost != null)
+					cost[slot] = weights[e];
+			}
+		}
+		
+		List<Integer> identity = new AbstractList<Integer>() {
+			@Override
+			public Integer get(int i) {
+				if (i < 0 || i >= n)
+					throw new IndexOutOfBoundsException();
+				
+				return i;
+			}
+			
+			@Override
+			public int size() {
+				return n;
+			}
+		};
+		
+		return new CSRGraph<>(identity, null, offsets, adjacent, cost, directed);
+	}
+	
+	/*
+	 * Used by transpose(), undirected() and mask(...), the arrays are taken as they are.
+	 */
+	private CSRGraph(List<T> vertexes, Map<T, Integer> index, int[] offsets, int[] targets, int[] weights, boolean directed) {
+		this.vertexes = vertexes;
+		this.index = index;
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.directed = directed;
+	}
+	
+	/**
+	 * Returns a masked snapshot of the kept vertexes and edges, it shares every array of this snapshot
+	 * so it's made in O(1) time besides counting the bits. The edge mask must only have edges between kept vertexes.
+	 * 
+	 * @param vertexMask
+	 *        kept vertexes by their indexes
+	 * @param edgeMask
+	 *        kept edges by their indexes in {@code targets()}
+	 * @param keptVertexes
+	 *        number of bits set in the vertex mask
+	 * @param keptEdges
+	 *        number of bits set in the edge mask
+	 * 
+	 * @return masked {@code CSRGraph} object
+	 */
+	CSRGraph<T> mask(BitSet vertexMask, BitSet edgeMask, int keptVertexes, int keptEdges) {
+		CSRGraph<T> graph = new CSRGraph<>(vertexes, index, offsets, targets, weights, directed);
+		
+		graph.vertexMask = vertexMask;
+		graph.edgeMask = edgeMask;
+		graph.keptVertexes = keptVertexes;
+		graph.keptEdges = keptEdges;
+		
+		return graph;
+	}
+	
+	private void indexVertexes(Set<T> set) {
+		vertexes = new ArrayList<>(set);
+		index = new HashMap<>();
+		
+		for (int i = 0; i < vertexes.size(); ++i)
+			index.put(vertexes.get(i), i);
+	}
+	
+	/**
+	 * Returns number of vertexes in the snapshot, of a masked snapshot it's the bound of vertex indexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int vertexCount() {
+		return vertexes.size();
+	}
+	
+	/**
+	 * Returns number of stored (directed) edges, an undirected edge is stored in both directions.
+	 * Of a masked snapshot it's the bound of edge indexes.
+	 * 
+	 * @return number of stored edges
+	 */
+	public int edgeCount() {
+		return targets.length;
+	}
+	
+	/**
+	 * Returns number of vertexes that are kept, it's {@code vertexCount()} unless the snapshot is masked.
+	 * 
+	 * @return number of kept vertexes
+	 */
+	public int keptVertexCount() {
+		return vertexMask == null ? vertexes.size() : keptVertexes;
+	}
+	
+	/**
+	 * Returns number of stored edges that are kept, it's {@code edgeCount()} unless the snapshot is masked.
+	 * 
+	 * @return number of kept stored edges
+	 */
+	public int keptEdgeCount() {
+		return edgeMask == null ? targets.length : keptEdges;
+	}
+	
+	/**
+	 * Indicates if the snapshot is masked.
+	 * 
+	 * @return {@code true} if some vertexes or edges may be dropped {@code false} otherwise
+	 */
+	public boolean isMasked() {
+		return vertexMask != null;
+	}
+	
+	/**
+	 * Tests if a vertex is kept.
+	 * 
+	 * @param i
+	 *        vertex index
+	 * 
+	 * @return {@code true} if the vertex is kept {@code false} otherwise
+	 */
+	public boolean hasVertex(int i) {
+		return vertexMask == null || vertexMask.get(i);
+	}
+	
+	/**
+	 * Tests if a stored edge is kept.
+	 * 
+	 * @param e
+	 *        edge index in {@code targets()}
+	 * 
+	 * @return {@code true} if the edge is kept {@code false} otherwise
+	 */
+	public boolean hasEdge(int e) {
+		return edgeMask == null || edgeMask.get(e);
+	}
+	
+	/**
+	 * Returns index of the vertex.
+	 * 
+	 * @param vertex
+	 *        query vertex
+	 * 
+	 * @return index of the vertex, -1 if it does not exist or it's not kept
+	 */
+	public int indexOf(T vertex) {
+		int i;
+		
+		if (index == null)
+			i = vertex instanceof Integer && (Integer) vertex >= 0 && (Integer) vertex < vertexes.size() ? (Integer) vertex : -1;
+		else {
+			Integer j = index.get(vertex);
+			
+			i = j == null ? -1 : j;
+		}
+		
+		return i < 0 || hasVertex(i) ? i : -1;
+	}
+	
+	/**
+	 * Returns vertex at the specified index.
+	 * 
+	 * @param i
+	 *        vertex index
+	 * 
+	 * @return vertex
+	 */
+	public T vertex(int i) {
+		return vertexes.get(i);
+	}
+	
+	/**
+	 * Returns number of successors of a vertex, only kept edges are counted.
+	 * 
+	 * @param i
+	 *        vertex index
+	 * 
+	 * @return number of successors
+	 */
+	public int degree(int i) {
+		if (edgeMask == null)
+			return offsets[i + 1] - offsets[i];
+		
+		int degree = 0;
+		
+		for (int e = edgeMask.nextSetBit(offsets[i]); e >= 0 && e < offsets[i + 1]; e = edgeMask.nextSetBit(e + 1))
+			++degree;
+		
+		return degree;
+	}
+	
+	/**
+	 * Returns the offsets array, successors of vertex i are stored from {@code offsets[i]} to {@code offsets[i + 1] - 1}.
+	 * The array is shared, don't modify it. Of a masked snapshot it have the dropped edges too, test them with {@link #hasEdge(int)}.
+	 * 
+	 * @return offsets array
+	 */
+	public int[] offsets() {
+		return offsets;
+	}
+	
+	/**
+	 * Returns the targets array. The array is shared, don't modify it.
+	 * 
+	 * @return targets array
+	 */
+	public int[] targets() {
+		return targets;
+	}
+	
+	/**
+	 * Returns edge weights parallel to the targets array. The array is shared, don't modify it.
+	 * 
+	 * @return weights array, {@code null} if the graph is unweighted
+	 */
+	public int[] weights() {
+		return weights;
+	}
+	
+	/**
+	 * Indicates if the snapshot was made from a weighted graph.
+	 * 
+	 * @return {@code true} if the graph is weighted {@code false} otherwise
+	 */
+	public boolean isWeighted() {
+		return weights != null;
+	}
+	
+	/**
+	 * Indicates if the snapshot was made from a directed graph.
+	 * 
+	 * @return {@code true} if the graph is directed {@code false} otherwise
+	 */
+	public boolean isDirected() {
+		return directed;
+	}
+	
+	/**
+	 * Returns a snapshot with all edges reversed, vertexes keep their indexes.
+	 * Dropped edges of a masked snapshot are left out and the dropped vertexes stay masked.
+	 * 
+	 * @return transposed {@code CSRGraph} object
+	 */
+	public CSRGraph<T> transpose() {
+		int n = vertexes.size();
+		int[] offsets = new int[n + 1];
+		int[] targets = new int[keptEdgeCount()];
+		int[] weights = this.weights == null ? null : new int[targets.length];
+		
+		for (int e = 0; e < this.targets.length; ++e)
+			if (hasEdge(e))
+				++offsets[this.targets[e] + 1];
+		
+		for (int i = 0; i < n; ++i)
+			offsets[i + 1] += offsets[i];
+		
+		int[] next = Arrays.copyOf(offsets, n);
+		
+		for (int u = 0; u < n; ++u)
+			for (int e = this.offsets[u]; e < this.offsets[u + 1]; ++e) {
+				if (!hasEdge(e))
+					continue;
+				
+				int slot = next[this.targets[e]]++;
+				
+				targets[slot] = u;
+				
+				if (weights != null)
+					weights[slot] = this.weights[e];
+			}
+		
+		return keepVertexes(new CSRGraph<>(vertexes, index, offsets, targets, weights, directed));
+	}
+	
+	/**
+	 * Returns the undirected view of the snapshot: every edge is stored in both directions, self loops are dropped,
+	 * parallel edges (and both directions of a directed edge pair) are merged into one with the weights added,
+	 * successors of every vertex are sorted by index. Vertexes keep their indexes.
+	 * Dropped edges of a masked snapshot are left out and the dropped vertexes stay masked.
+	 * 
+	 * @return undirected simple {@code CSRGraph} object
+	 */
+	public CSRGraph<T> undirected() {
+		int n = vertexes.size();
+		int[] counts = new int[n + 1];
+		
+		for (int u = 0; u < n; ++u)
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+				if (targets[e] != u && hasEdge(e)) {
+					++counts[u + 1];
+					
+					if (directed)
+						++counts[targets[e] + 1];
+				}
+		
+		for (int i = 0; i < n; ++i)
+			counts[i + 1] += counts[i];
+		
+		long[] arcs = new long[counts[n]];//target in the high half, weight in the low half, so sorting orders by target
+		int[] next = Arrays.copyOf(counts, n);
+		
+		for (int u = 0; u < n; ++u)
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				int v = targets[e];
+				long weight = weights == null ? 0 : weights[e] & 0xFFFFFFFFL;
+				
+				if (v != u && hasEdge(e)) {
+					arcs[next[u]++] = (long) v << 32 | weight;
+					
+					if (directed)
+						arcs[next[v]++] = (long) u << 32 | weight;
+				}
+			}
+		
+		int[] degrees = new int[n];
+		
+		IntStream.range(0, n).parallel().forEach(u -> {
+			Arrays.sort(arcs, counts[u], counts[u + 1]);
+			
+			int size = 0;
+			
+			for (int i = counts[u]; i < counts[u + 1]; ++i) {
+				int last = counts[u] + size - 1;
+				
+				if (size > 0 && arcs[last] >>> 32 == arcs[i] >>> 32) {
+					int weight = (int) arcs[last] + (int) arcs[i];
+					
+					arcs[last] = arcs[i] >>> 32 << 32 | weight & 0xFFFFFFFFL;
+				} else
+					arcs[counts[u] + size++] = arcs[i];
+			}
+			
+			degrees[u] = size;
+		});
+		
+		int[] offsets = new int[n + 1];
+		
+		for (int i = 0; i < n; ++i)
+			offsets[i + 1] = offsets[i] + degrees[i];
+		
+		int[] targets = new int[offsets[n]];
+		int[] weights = this.weights == null ? null : new int[offsets[n]];
+		
+		IntStream.range(0, n).parallel().forEach(u -> {
+			for (int i = 0; i < degrees[u]; ++i) {
+				targets[offsets[u] + i] = (int) (arcs[counts[u] + i] >>> 32);
+				
+				if (weights != null)
+					weights[offsets[u] + i] = (int) arcs[counts[u] + i];
+			}
+		});
+		
+		return keepVertexes(new CSRGraph<>(vertexes, index, offsets, targets, weights, false));
+	}
+	
+	/*
+	 * Masks the same vertexes of a snapshot made from this one, all of its edges are kept.
+	 */
+	private CSRGraph<T> keepVertexes(CSRGraph<T> graph) {
+		graph.vertexMask = vertexMask;
+		graph.keptVertexes = keptVertexes;
+		
+		return graph;
+	}
+}
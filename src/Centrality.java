@@ -0,0 +1,325 @@
+import java.util.Arrays;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code Centrality} holds centrality algorithms that run on a {@code CSRGraph},
+ * the graph classes freeze themselves and call them.
+ * 
+ * @author agent
+ * @see AbstractGraph#pageRank(double, double)
+ * @see AbstractGraph#personalizedPageRank(java.util.Collection, double, double)
+ * @see AbstractGraph#betweenness()
+ * @see AbstractWeightedGraph#betweenness()
+ * @version 1.0 (10/19/2026)
+ */
+final class Centrality {
+	/**
+	 * Power iteration gives up after this many iterations
+	 */
+	static final int MAX_ITERATIONS = 1000;
+	
+	/**
+	 * Number of vertexes handled by a single task, sums are taken per task and added in a fixed order,
+	 * so the results don't depend on the number of threads
+	 */
+	private static final int VERTEXES_PER_TASK = 1 << 12;
+	
+	private Centrality() {
+	}
+	
+	/**
+	 * Computes PageRank with power iteration. A random surfer follows a random outgoing edge with probability damping
+	 * and jumps to a random vertex of the teleport distribution otherwise, a surfer on a vertex without outgoing edges (dangling vertex)
+	 * always jumps. Ranks are pulled over incoming edges, every vertex is written by a single task so no synchronization is needed.
+	 * 
+	 * @param graph
+	 *        graph snapshot, weights are ignored
+	 * @param damping
+	 *        probability of following an edge, in range [0, 1)
+	 * @param tolerance
+	 *        iteration stops when sum of rank changes is less than tolerance
+	 * @param seeds
+	 *        indexes of vertexes the surfer jumps to (personalized PageRank), {@code null} for all vertexes
+	 * @param work
+	 *        visited vertexes, scanned edges and iterations are added to its entries 0 to 2
+	 * 
+	 * @return rank of each vertex, the ranks add up to 1, dropped vertexes of a masked snapshot have rank 0
+	 */
+	static double[] pageRank(CSRGraph<?> graph, double damping, double tolerance, int[] seeds, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		int kept = graph.keptVertexCount();
+		CSRGraph<?> reverse = graph.isDirected() ? graph.transpose() : graph;
+		int[] inOffsets = reverse.offsets();
+		int[] sources = reverse.targets();
+		
+		if (kept == 0)
+			return new double[n];
+		
+		double[] teleport = new double[n];
+		
+		if (seeds == null) {
+			for (int v = 0; v < n; ++v)
+				if (graph.hasVertex(v))
+					teleport[v] = 1.0 / kept;
+		} else
+			for (int seed : seeds)
+				teleport[seed] += 1.0 / seeds.length;
+		
+		double[] rank = teleport.clone();
+		double[] next = new double[n];
+		double[] share = new double[n];//rank a vertex gives to each successor
+		int tasks = (n + VERTEXES_PER_TASK - 1) / VERTEXES_PER_TASK;
+		double[] partial = new double[tasks];
+		int iterations = 0;
+		
+		while (iterations < MAX_ITERATIONS) {
+			double[] current = rank;
+			
+			IntStream.range(0, tasks).parallel().forEach(task -> {
+				double dangling = 0;
+				
+				for (int u = task * VERTEXES_PER_TASK, end = Math.min(n, u + VERTEXES_PER_TASK); u < end; ++u) {
+					int degree = graph.degree(u);
+					
+					if (degree == 0) {
+						dangling += current[u];
+						share[u] = 0;
+					} else
+						share[u] = current[u] / degree;
+				}
+				
+				partial[task] = dangling;
+			});
+			
+			double jump = 1 - damping + damping * sum(partial);//probability of a jump, dangling vertexes always jump
+			double[] following = next;
+			
+			IntStream.range(0, tasks).parallel().forEach(task -> {
+				double change = 0;
+				
+				for (int v = task * VERTEXES_PER_TASK, end = Math.min(n, v + VERTEXES_PER_TASK); v < end; ++v) {
+					double pulled = 0;
+					
+					for (int e = inOffsets[v]; e < inOffsets[v + 1]; ++e)
+						if (reverse.hasEdge(e))
+							pulled += share[sources[e]];
+					
+					following[v] = damping * pulled + jump * teleport[v];
+					change += Math.abs(following[v] - current[v]);
+				}
+				
+				partial[task] = change;
+			});
+			
+			next = rank;
+			rank = following;
+			++iterations;
+			
+			if (sum(partial) < tolerance)
+				break;
+		}
+		
+		work.addAndGet(0, (long) kept * iterations);
+		work.addAndGet(1, (long) reverse.keptEdgeCount() * iterations);
+		work.addAndGet(2, iterations);
+		
+		return rank;
+	}
+	
+	/**
+	 * Computes betweenness centrality with Brandes' algorithm: a BFS (unweighted graphs) or Dijkstra's search (weighted graphs)
+	 * from each source counts shortest paths to every vertex, then dependencies of the source on each vertex are accumulated
+	 * in reverse order of distance. Sources are split into a few tasks per worker thread, each task has its own scratch state
+	 * and its own accumulator, so nothing is shared while searching, the accumulators are added in task order at the end.
+	 * 
+	 * @param graph
+	 *        graph snapshot, weights must be positive
+	 * @param sources
+	 *        indexes of source vertexes, all vertexes for exact betweenness
+	 * @param scale
+	 *        the sums are multiplied by it, n / sources.length scales sampled sources up to an estimate of exact betweenness
+	 * @param work
+	 *        visited vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return betweenness of each vertex, pairs of an undirected graph are counted once
+	 */
+	static double[] betweenness(CSRGraph<?> graph, int[] sources, double scale, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		int tasks = Math.max(1, Math.min(sources.length, 4 * ForkJoinPool.getCommonPoolParallelism()));
+		double[][] accumulators = new double[tasks][];
+		
+		IntStream.range(0, tasks).parallel().forEach(task -> {
+			Brandes brandes = new Brandes(graph);
+			
+			for (int i = task; i < sources.length; i += tasks)//interleaved, neighbouring sources tend to cost about the same
+				brandes.accumulate(sources[i]);
+			
+			accumulators[task] = brandes.centrality;
+			work.addAndGet(0, brandes.visits);
+			work.addAndGet(1, brandes.edgeScans);
+		});
+		
+		double[] centrality = new double[n];
+		
+		if (!graph.isDirected())
+			scale /= 2;//every path is found from both of its ends
+		
+		for (double[] accumulator : accumulators)
+			for (int v = 0; v < n; ++v)
+				centrality[v] += accumulator[v];
+		
+		for (int v = 0; v < n; ++v)
+			centrality[v] *= scale;
+		
+		return centrality;
+	}
+	
+	/**
+	 * Returns number of sampled sources needed for betweenness estimates within epsilon * n * (n - 2)
+	 * of the exact values with probability 1 - delta. Dependency of a source on a vertex is at most n - 2,
+	 * so by Hoeffding's inequality and the union bound over n vertexes ln(2n / delta) / (2 * epsilon^2) sources are enough.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param epsilon
+	 *        error bound
+	 * @param delta
+	 *        probability the bound is broken
+	 * 
+	 * @return number of sources
+	 */
+	static long sampleSize(int n, double epsilon, double delta) {
+		return (long) Math.ceil(Math.log(2.0 * n / delta) / (2 * epsilon * epsilon));
+	}
+	
+	private static double sum(double[] partial) {
+		double total = 0;
+		
+		for (double x : partial)
+			total += x;
+		
+		return total;
+	}
+	
+	/*
+	 * Scratch state and accumulator of a task of Brandes' algorithm.
+	 */
+	private static class Brandes {
+		CSRGraph<?> graph;
+		int[] offsets, targets, weights;
+		long[] dist;
+		double[] sigma, delta, centrality;
+		int[] order;//vertexes in the order they are settled
+		IndexedHeap heap;
+		long visits, edgeScans;
+		
+		Brandes(CSRGraph<?> graph) {
+			int n = graph.vertexCount();
+			
+			this.graph = graph;
+			offsets = graph.offsets();
+			targets = graph.targets();
+			weights = graph.weights();
+			dist = new long[n];
+			sigma = new double[n];
+			delta = new double[n];
+			centrality = new double[n];
+			order = new int[n];
+			heap = weights == null ? null : new IndexedHeap(n);
+			
+			Arrays.fill(dist, -1);
+		}
+		
+		void accumulate(int s) {
+			int settled = 0;
+			
+			dist[s] = 0;
+			sigma[s] = 1;
+			
+			if (weights == null) {
+				order[settled++] = s;
+				
+				for (int head = 0; head < settled; ++head) {//the order array is the BFS queue
+					int u = order[head];
+					
+					for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+						if (!graph.hasEdge(e))
+							continue;
+						
+						int v = targets[e];
+						
+						if (dist[v] < 0) {
+							dist[v] = dist[u] + 1;
+							order[settled++] = v;
+						}
+						
+						if (dist[v] == dist[u] + 1)
+							sigma[v] += sigma[u];
+					}
+					
+					edgeScans += graph.degree(u);
+				}
+			} else {
+				heap.offer(s, 0);
+				
+				while (!heap.isEmpty()) {
+					int u = heap.poll();
+					
+					order[settled++] = u;
+					
+					for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+						if (!graph.hasEdge(e))
+							continue;
+						
+						int v = targets[e];
+						long d = dist[u] + weights[e];
+						
+						if (dist[v] < 0 || d < dist[v]) {
+							dist[v] = d;
+							sigma[v] = sigma[u];
+							heap.offer(v, d);
+						} else if (d == dist[v])
+							sigma[v] += sigma[u];
+					}
+					
+					edgeScans += graph.degree(u);
+				}
+			}
+			
+			visits += settled;
+			
+			for (int i = settled - 1; i >= 0; --i) {//successors on shortest paths are settled later, their dependencies are final
+				int u = order[i];
+				double sum = 0;
+				
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+					if (!graph.hasEdge(e))
+						continue;
+					
+					int v = targets[e];
+					
+					if (dist[v] == dist[u] + (weights == null ? 1 : weights[e]))
+						sum += (1 + delta[v]) / sigma[v];
+				}
+				
+				delta[u] = sigma[u] * sum;
+				
+				if (u != s)
+					centrality[u] += delta[u];
+			}
+			
+			for (int i = 0; i < settled; ++i) {
+				int u = order[i];
+				
+				dist[u] = -1;
+				sigma[u] = 0;
+				delta[u] = 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,445 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code Communities} holds a partition of vertexes into communities found by label propagation on the undirected view
+ * of a graph (edge directions are ignored and weights of parallel edges are added). Every vertex starts in a community of its own
+ * and then repeatedly joins the community with the largest total weight of edges to it, until few enough vertexes move.
+ * Communities are numbered from 0 in order of their first vertex, vertexes are indexed the same way as in the
+ * {@code CSRGraph} snapshot the communities were found in.
+ * 
+ * Labels are updated in place, which converges faster than alternating two label arrays and avoids their oscillation,
+ * while still being deterministic: vertexes are greedily colored so that no edge joins two vertexes of the same color,
+ * then the vertexes of each color update their labels in parallel, none of them reads a label written in the same step.
+ * Ties between communities are broken by the current label first and then by a seeded hash of the labels.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#communities()
+ * @see AbstractWeightedGraph#communities()
+ * @version 1.0 (10/19/2026)
+ */
+public class Communities<T> {
+	/**
+	 * Label propagation gives up after this many iterations
+	 */
+	static final int MAX_ITERATIONS = 100;
+	
+	/**
+	 * Number of vertexes updated by a single task
+	 */
+	private static final int VERTEXES_PER_TASK = 1 << 10;
+	
+	/**
+	 * Scratch buffers of each thread
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Community of each vertex
+	 */
+	private int[] community;
+	
+	/**
+	 * Number of vertexes in each community
+	 */
+	private int[] sizes;
+	
+	/**
+	 * Modularity of the partition
+	 */
+	private double modularity;
+	
+	/**
+	 * Number of label propagation iterations
+	 */
+	private int iterations;
+	
+	private Communities(CSRGraph<T> graph, int[] community, int[] sizes, double modularity, int iterations) {
+		this.graph = graph;
+		this.community = community;
+		this.sizes = sizes;
+		this.modularity = modularity;
+		this.iterations = iterations;
+	}
+	
+	/**
+	 * Finds communities of a graph snapshot with label propagation.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param threshold
+	 *        propagation stops when at most this fraction of vertexes changed their labels in an iteration
+	 * @param seed
+	 *        seed of tie breaking
+	 * @param work
+	 *        updated vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return {@code Communities} of the graph
+	 */
+	static <T> Communities<T> labelPropagation(CSRGraph<T> graph, double threshold, long seed, AtomicLongArray work) {
+		CSRGraph<T> view = graph.undirected();//it keeps no dropped edge of a masked snapshot
+		int n = view.vertexCount();
+		int kept = view.keptVertexCount();
+		int[] offsets = view.offsets();
+		int[] targets = view.targets();
+		int[] weights = view.weights();
+		int[] labels = new int[n];
+		
+		for (int v = 0; v < n; ++v)
+			labels[v] = v;
+		
+		//greedy coloring in decreasing order of degree, vertexes of a color class are independent
+		long[] keys = new long[n];
+		
+		for (int v = 0; v < n; ++v)
+			keys[v] = (long) -view.degree(v) << 32 | v;
+		
+		Arrays.parallelSort(keys);
+		
+		int[] color = new int[n];
+		int[] taken = new int[n + 1];//vertex (plus one) that last saw each color among its neighbours
+		int colors = 0;
+		
+		Arrays.fill(color, -1);
+		
+		for (long key : keys) {
+			int v = (int) key;
+			int c = 0;
+			
+			for (int e = offsets[v]; e < offsets[v + 1]; ++e)
+				if (color[targets[e]] >= 0)
+					taken[color[targets[e]]] = v + 1;
+			
+			while (taken[c] == v + 1)
+				++c;
+			
+			color[v] = c;
+			colors = Math.max(colors, c + 1);
+		}
+		
+		int[] classOffsets = new int[colors + 1];
+		
+		for (int v = 0; v < n; ++v)
+			++classOffsets[color[v] + 1];
+		
+		for (int c = 0; c < colors; ++c)
+			classOffsets[c + 1] += classOffsets[c];
+		
+		int[] classes = new int[n];
+		int[] next = Arrays.copyOf(classOffsets, colors);
+		
+		for (int v = 0; v < n; ++v)
+			classes[next[color[v]]++] = v;
+		
+		int iterations = 0;
+		long updates = 0;
+		
+		while (iterations < MAX_ITERATIONS) {
+			long changed = 0;
+			
+			for (int c = 0; c < colors; ++c) {
+				int from = classOffsets[c];
+				int to = classOffsets[c + 1];
+				int tasks = (to - from + VERTEXES_PER_TASK - 1) / VERTEXES_PER_TASK;
+				
+				changed += IntStream.range(0, tasks).parallel().mapToLong(task -> {
+					Scratch scratch = SCRATCH.get();
+					long moved = 0;
+					
+					scratch.prepare(n);
+					
+					for (int i = from + task * VERTEXES_PER_TASK, end = Math.min(to, i + VERTEXES_PER_TASK); i < end; ++i) {
+						int v = classes[i];
+						int label = scratch.choose(labels, v, offsets, targets, weights, seed);
+						
+						if (label != labels[v]) {
+							labels[v] = label;
+							++moved;
+						}
+					}
+					
+					return moved;
+				}).sum();
+			}
+			
+			++iterations;
+			updates += kept;
+			
+			if (changed <= threshold * kept)
+				break;
+		}
+		
+		work.addAndGet(0, updates);
+		work.addAndGet(1, (long) targets.length * iterations);
+		
+		//number communities in order of their first vertex
+		int[] community = new int[n];
+		int[] number = new int[n];
+		int count = 0;
+		
+		Arrays.fill(number, -1);
+		
+		for (int v = 0; v < n; ++v) {
+			if (!view.hasVertex(v)) {
+				community[v] = -1;//a dropped vertex of a masked snapshot is in no community
+				continue;
+			}
+			
+			if (number[labels[v]] < 0)
+				number[labels[v]] = count++;
+			
+			community[v] = number[labels[v]];
+		}
+		
+		int[] sizes = new int[count];
+		double[] degrees = new double[count];//total weighted degree of each community
+		double inside = 0, total = 0;
+		
+		for (int v = 0; v < n; ++v) {
+			if (community[v] < 0)
+				continue;
+			
+			++sizes[community[v]];
+			
+			for (int e = offsets[v]; e < offsets[v + 1]; ++e) {
+				double weight = weights == null ? 1 : weights[e];
+				
+				total += weight;
+				degrees[community[v]] += weight;
+				
+				if (community[targets[e]] == community[v])
+					inside += weight;
+			}
+		}
+		
+		double modularity = 0;
+		
+		if (total > 0) {
+			modularity = inside / total;
+			
+			for (double degree : degrees)
+				modularity -= degree / total * (degree / total);
+		}
+		
+		return new Communities<>(graph, community, sizes, modularity, iterations);
+	}
+	
+	/**
+	 * Returns number of vertexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int size() {
+		return graph.keptVertexCount();
+	}
+	
+	/**
+	 * Returns number of communities.
+	 * 
+	 * @return number of communities
+	 */
+	public int count() {
+		return sizes.length;
+	}
+	
+	/**
+	 * Returns index of a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return index of the vertex, -1 if it DNE
+	 */
+	public int indexOf(T vertex) {
+		return graph.indexOf(vertex);
+	}
+	
+	/**
+	 * Returns the vertex with an index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return vertex
+	 */
+	public T vertex(int i) {
+		return graph.vertex(i);
+	}
+	
+	/**
+	 * Returns community of a vertex by its index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return community in range [0, count()), -1 if a masked snapshot does not keep the vertex
+	 */
+	public int community(int i) {
+		return community[i];
+	}
+	
+	/**
+	 * Returns community of a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return community in range [0, count())
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public int community(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return community[i];
+	}
+	
+	/**
+	 * Returns community of each vertex indexed like the snapshot, -1 for a vertex a masked snapshot does not keep.
+	 * 
+	 * @return copy of the community array
+	 */
+	public int[] communities() {
+		return community.clone();
+	}
+	
+	/**
+	 * Returns number of vertexes in each community.
+	 * 
+	 * @return size of each community
+	 */
+	public int[] sizes() {
+		return sizes.clone();
+	}
+	
+	/**
+	 * Returns vertexes of a community.
+	 * 
+	 * @param c
+	 *        community
+	 * 
+	 * @return vertexes of the community in order of their indexes
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the community DNE
+	 */
+	public List<T> members(int c) {
+		if (c < 0 || c >= sizes.length)
+			throw new IllegalArgumentException("The community does not exist!");
+		
+		List<T> members = new ArrayList<>(sizes[c]);
+		
+		for (int v = 0; v < community.length; ++v)
+			if (community[v] == c)
+				members.add(graph.vertex(v));
+		
+		return members;
+	}
+	
+	/**
+	 * Returns modularity of the partition, it's the fraction of edge weight inside communities
+	 * minus the fraction expected if the edges were placed at random keeping the degrees.
+	 * 
+	 * @return modularity in range [-0.5, 1], 0 if the graph have no edges
+	 */
+	public double modularity() {
+		return modularity;
+	}
+	
+	/**
+	 * Returns number of label propagation iterations.
+	 * 
+	 * @return number of iterations
+	 */
+	public int iterations() {
+		return iterations;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code Communities} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "Communities[vertexes=" + size() + ", communities=" + sizes.length + ", modularity=" + modularity + "]";
+	}
+	
+	/*
+	 * Label scores of a vertex kept per thread, only labels that were touched are cleared.
+	 */
+	private static class Scratch {
+		long[] score = new long[0];
+		int[] touched = new int[0];
+		int[] mark = new int[0];//choice number that touched each label
+		int epoch;
+		
+		void prepare(int n) {
+			if (score.length < n) {
+				score = new long[n];
+				touched = new int[n];
+				mark = new int[n];
+				epoch = 0;
+			}
+		}
+		
+		int choose(int[] labels, int v, int[] offsets, int[] targets, int[] weights, long seed) {
+			if (++epoch == 0) {//the choice number wrapped around, old marks could be mistaken for new ones
+				Arrays.fill(mark, 0);
+				epoch = 1;
+			}
+			
+			int current = labels[v];
+			int size = 0;
+			
+			for (int e = offsets[v]; e < offsets[v + 1]; ++e) {
+				int label = labels[targets[e]];
+				
+				if (mark[label] != epoch) {
+					mark[label] = epoch;
+					score[label] = 0;
+					touched[size++] = label;
+				}
+				
+				score[label] += weights == null ? 1 : weights[e];
+			}
+			
+			int best = current;
+			long bestScore = mark[current] == epoch ? score[current] : 0;
+			long bestHash = 0;
+			
+			for (int i = 0; i < size; ++i) {
+				int label = touched[i];
+				long hash = GraphGenerator.mix(seed ^ label);
+				
+				if (label == current)
+					continue;
+				
+				if (score[label] > bestScore || (score[label] == bestScore && best != current && hash < bestHash)) {//the current label wins ties
+					best = label;
+					bestScore = score[label];
+					bestHash = hash;
+				}
+			}
+			
+			return best;
+		}
+	}
+}
@@ -0,0 +1,349 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code Components} holds connected components of a graph, components of a directed graph are weakly connected
+ * (edge directions are ignored). Components are numbered from 0 in order of their first vertex, vertexes are indexed
+ * the same way as in the {@code CSRGraph} snapshot the components were found in.
+ * 
+ * Components are found with Afforest, a concurrent union find without locks: every vertex points to a parent with a lower index
+ * and trees are linked by a compare and set of the parent of the higher root. A couple of neighbours of every vertex are linked first,
+ * which usually joins most vertexes of a big component into one tree, then the most frequent tree is found from a sample of vertexes
+ * and only the vertexes outside of it link their remaining neighbours, so most edges of the big component are never scanned.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#components()
+ * @see AbstractWeightedGraph#components()
+ * @version 1.0 (10/19/2026)
+ */
+public class Components<T> {
+	/**
+	 * Number of neighbours of every vertex linked before the big component is sampled
+	 */
+	private static final int NEIGHBOUR_ROUNDS = 2;
+	
+	/**
+	 * Number of vertexes sampled to find the big component
+	 */
+	private static final int SAMPLES = 1024;
+	
+	/**
+	 * Number of vertexes handled by a single task
+	 */
+	private static final int VERTEXES_PER_TASK = 1 << 12;
+	
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Component of each vertex
+	 */
+	private int[] component;
+	
+	/**
+	 * Number of vertexes in each component
+	 */
+	private int[] sizes;
+	
+	private Components(CSRGraph<T> graph, int[] component, int[] sizes) {
+		this.graph = graph;
+		this.component = component;
+		this.sizes = sizes;
+	}
+	
+	/**
+	 * Finds connected components of a graph snapshot with Afforest.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param work
+	 *        vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return {@code Components} of the graph
+	 */
+	static <T> Components<T> afforest(CSRGraph<T> graph, AtomicLongArray work) {
+		CSRGraph<T> view = graph.isDirected() ? graph.undirected() : graph;//skipping the big component needs edges in both directions
+		int n = view.vertexCount();
+		int[] offsets = view.offsets();
+		int[] targets = view.targets();
+		int tasks = (n + VERTEXES_PER_TASK - 1) / VERTEXES_PER_TASK;
+		AtomicIntegerArray parent = new AtomicIntegerArray(n);
+		
+		for (int v = 0; v < n; ++v)
+			parent.set(v, v);
+		
+		for (int round = 0; round < NEIGHBOUR_ROUNDS; ++round) {
+			int r = round;
+			
+			IntStream.range(0, tasks).parallel().forEach(task -> {
+				for (int v = task * VERTEXES_PER_TASK, end = Math.min(n, v + VERTEXES_PER_TASK); v < end; ++v)
+					if (offsets[v] + r < offsets[v + 1] && view.hasEdge(offsets[v] + r))
+						link(parent, v, targets[offsets[v] + r]);
+			});
+			
+			compress(parent, tasks, n);
+		}
+		
+		int big = -1;//the most frequent root among sampled vertexes
+		
+		if (n > 0) {
+			int[] sample = new int[Math.min(SAMPLES, n)];
+			
+			for (int i = 0; i < sample.length; ++i)
+				sample[i] = parent.get((int) Long.remainderUnsigned(GraphGenerator.mix(i), n));
+			
+			Arrays.sort(sample);
+			
+			for (int i = 0, run = 0, best = 0; i < sample.length; ++i) {
+				run = i > 0 && sample[i] == sample[i - 1] ? run + 1 : 1;
+				
+				if (run > best) {
+					best = run;
+					big = sample[i];
+				}
+			}
+		}
+		
+		int skip = big;
+		
+		long scans = IntStream.range(0, tasks).parallel().mapToLong(task -> {
+			long scanned = 0;
+			
+			for (int v = task * VERTEXES_PER_TASK, end = Math.min(n, v + VERTEXES_PER_TASK); v < end; ++v)
+				if (parent.get(v) != skip) {
+					for (int e = offsets[v] + NEIGHBOUR_ROUNDS; e < offsets[v + 1]; ++e)
+						if (view.hasEdge(e))
+							link(parent, v, targets[e]);
+					
+					scanned += Math.max(0, offsets[v + 1] - offsets[v] - NEIGHBOUR_ROUNDS);
+				}
+			
+			return scanned;
+		}).sum();
+		
+		compress(parent, tasks, n);
+		
+		work.addAndGet(0, view.keptVertexCount());
+		work.addAndGet(1, scans + (long) n * NEIGHBOUR_ROUNDS);
+		
+		//number components in order of their first vertex, the root of a tree is its vertex with the lowest index
+		int[] component = new int[n];
+		int count = 0;
+		
+		for (int v = 0; v < n; ++v)
+			if (!view.hasVertex(v))
+				component[v] = -1;//a dropped vertex of a masked snapshot is in no component
+			else
+				component[v] = parent.get(v) == v ? count++ : component[parent.get(v)];
+		
+		int[] sizes = new int[count];
+		
+		for (int v = 0; v < n; ++v)
+			if (component[v] >= 0)
+				++sizes[component[v]];
+		
+		return new Components<>(graph, component, sizes);
+	}
+	
+	/*
+	 * Links trees of two vertexes, the higher root is pointed to the lower one.
+	 */
+	private static void link(AtomicIntegerArray parent, int u, int v) {
+		int p = parent.get(u);
+		int q = parent.get(v);
+		
+		while (p != q) {
+			int high = Math.max(p, q);
+			int low = Math.min(p, q);
+			int above = parent.get(high);
+			
+			if (above == low || (above == high && parent.compareAndSet(high, high, low)))
+				return;
+			
+			p = parent.get(above);
+			q = parent.get(low);
+		}
+	}
+	
+	/*
+	 * Points every vertex directly to its root.
+	 */
+	private static void compress(AtomicIntegerArray parent, int tasks, int n) {
+		IntStream.range(0, tasks).parallel().forEach(task -> {
+			for (int v = task * VERTEXES_PER_TASK, end = Math.min(n, v + VERTEXES_PER_TASK); v < end; ++v)
+				while (parent.get(v) != parent.get(parent.get(v)))
+					parent.set(v, parent.get(parent.get(v)));
+		});
+	}
+	
+	/**
+	 * Returns number of vertexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int size() {
+		return graph.keptVertexCount();
+	}
+	
+	/**
+	 * Returns number of components.
+	 * 
+	 * @return number of components
+	 */
+	public int count() {
+		return sizes.length;
+	}
+	
+	/**
+	 * Returns index of a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return index of the vertex, -1 if it DNE
+	 */
+	public int indexOf(T vertex) {
+		return graph.indexOf(vertex);
+	}
+	
+	/**
+	 * Returns the vertex with an index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return vertex
+	 */
+	public T vertex(int i) {
+		return graph.vertex(i);
+	}
+	
+	/**
+	 * Returns component of a vertex by its index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return component in range [0, count()), -1 if a masked snapshot does not keep the vertex
+	 */
+	public int component(int i) {
+		return component[i];
+	}
+	
+	/**
+	 * Returns component of a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return component in range [0, count())
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public int component(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return component[i];
+	}
+	
+	/**
+	 * Indicates if two vertexes are in the same component.
+	 * 
+	 * @param u
+	 *        first vertex
+	 * @param v
+	 *        second vertex
+	 * 
+	 * @return {@code true} if the vertexes are connected {@code false} otherwise
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public boolean connected(T u, T v) {
+		return component(u) == component(v);
+	}
+	
+	/**
+	 * Returns component of each vertex indexed like the snapshot, -1 for a vertex a masked snapshot does not keep.
+	 * 
+	 * @return copy of the component array
+	 */
+	public int[] components() {
+		return component.clone();
+	}
+	
+	/**
+	 * Returns number of vertexes in each component.
+	 * 
+	 * @return size of each component
+	 */
+	public int[] sizes() {
+		return sizes.clone();
+	}
+	
+	/**
+	 * Returns vertexes of a component.
+	 * 
+	 * @param c
+	 *        component
+	 * 
+	 * @return vertexes of the component in order of their indexes
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the component DNE
+	 */
+	public List<T> members(int c) {
+		if (c < 0 || c >= sizes.length)
+			throw new IllegalArgumentException("The component does not exist!");
+		
+		List<T> members = new ArrayList<>(sizes[c]);
+		
+		for (int v = 0; v < component.length; ++v)
+			if (component[v] == c)
+				members.add(graph.vertex(v));
+		
+		return members;
+	}
+	
+	/**
+	 * Returns vertexes of all components.
+	 * 
+	 * @return list of components indexed by component, vertexes of each in order of their indexes
+	 */
+	public List<List<T>> members() {
+		List<List<T>> members = new ArrayList<>(sizes.length);
+		
+		for (int size : sizes)
+			members.add(new ArrayList<>(size));
+		
+		for (int v = 0; v < component.length; ++v)
+			if (component[v] >= 0)
+				members.get(component[v]).add(graph.vertex(v));
+		
+		return members;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code Components} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "Components[vertexes=" + size() + ", components=" + sizes.length + "]";
+	}
+}
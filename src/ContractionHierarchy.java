@@ -0,0 +1,877 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code ContractionHierarchy} answers point to point shortest path queries of a weighted graph in well under a millisecond
+ * for road networks, where Dijkstra's algorithm takes hundreds of milliseconds.
+ * 
+ * Preprocessing contracts the vertexes one by one from the least important to the most important. A contracted vertex is removed
+ * from the graph and a shortcut edge is added between each pair of its neighbors whose shortest path went through it,
+ * unless a witness search finds another path that is as short. Importance of a vertex is the number of shortcuts its contraction adds
+ * minus the number of edges it removes, plus the number of contracted neighbors. In every round the vertexes whose importance
+ * is smaller than the importance of all their neighbors are contracted together in parallel.
+ * 
+ * A query runs Dijkstra's algorithm from the source and backwards from the target at once, but both searches only follow edges
+ * to more important vertexes and vertexes reached with a too long distance are stalled, so they settle a few hundred vertexes at most. Queries are thread safe, each thread reuses its own scratch state.
+ * 
+ * The hierarchy is a snapshot, it does not follow later changes of the graph. It can be saved with {@code write} and
+ * read back for the same graph with {@code read}, the binary format is: magic number, version, number of vertexes, number of edges,
+ * number of shortcuts, rank of each vertex, then offsets, targets, weights and middle vertexes of upward and downward edges, all big endian.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractWeightedGraph#contractionHierarchy()
+ * @version 1.0 (10/19/2026)
+ */
+public class ContractionHierarchy<T> {
+	/**
+	 * Magic number of the binary format ("GRCH")
+	 */
+	private static final int MAGIC = 0x47524348;
+	
+	/**
+	 * Version of the binary format
+	 */
+	private static final int VERSION = 1;
+	
+	/**
+	 * A witness search gives up after settling this many vertexes and the shortcut is added,
+	 * an extra shortcut costs a bit of query time but it's never wrong
+	 */
+	private static final int WITNESS_SETTLED = 500;
+	
+	/**
+	 * Settled vertexes limit of witness searches that only estimate importance of a vertex
+	 */
+	private static final int ESTIMATE_SETTLED = 10;
+	
+	/**
+	 * Scratch state of witness searches of each thread
+	 */
+	private static final ThreadLocal<Witness> WITNESS = ThreadLocal.withInitial(Witness::new);
+	
+	/**
+	 * Scratch state of queries of each thread
+	 */
+	private static final ThreadLocal<Query> QUERY = ThreadLocal.withInitial(Query::new);
+	
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Number of vertexes
+	 */
+	private int n;
+	
+	/**
+	 * Position of each vertex in the contraction order, more important vertexes have higher ranks
+	 */
+	private int[] rank;
+	
+	/**
+	 * Upward edges leave a vertex to a higher ranked one, downward edges enter a vertex from a higher ranked one and
+	 * they are stored at the lower ranked vertex, both in CSR form. Middle vertex of a shortcut is the contracted vertex
+	 * it skips, it's -1 for an edge of the graph.
+	 */
+	private int[] upOffsets, upTargets, upMiddles, downOffsets, downTargets, downMiddles;
+	
+	/**
+	 * Weights of upward and downward edges
+	 */
+	private long[] upWeights, downWeights;
+	
+	/**
+	 * Number of shortcuts added by the preprocessing
+	 */
+	private int shortcuts;
+	
+	private ContractionHierarchy(CSRGraph<T> graph, int[] rank, int[] upOffsets, int[] upTargets, long[] upWeights, int[] upMiddles,
+								 int[] downOffsets, int[] downTargets, long[] downWeights, int[] downMiddles, int shortcuts) {
+		this.graph = graph;
+		this.n = graph.vertexCount();
+		this.rank = rank;
+		this.upOffsets = upOffsets;
+		this.upTargets = upTargets;
+		this.upWeights = upWeights;
+		this.upMiddles = upMiddles;
+		this.downOffsets = downOffsets;
+		this.downTargets = downTargets;
+		this.downWeights = downWeights;
+		this.downMiddles = downMiddles;
+		this.shortcuts = shortcuts;
+	}
+	
+	/**
+	 * Builds the hierarchy of a graph snapshot, the weights must be non-negative.
+	 * 
+	 * @param graph
+	 *        weighted graph snapshot
+	 * @param work
+	 *        settled vertexes and scanned edges of the witness searches are added to its entries 0 and 1
+	 * 
+	 * @return {@code ContractionHierarchy} of the graph
+	 */
+	static <T> ContractionHierarchy<T> build(CSRGraph<T> graph, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		Adjacency out = new Adjacency(n);
+		Adjacency in = new Adjacency(n);
+		
+		for (int u = 0; u < n; ++u)
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+				if (targets[e] != u && graph.hasEdge(e)) {//a self loop is never on a shortest path
+					out.add(u, targets[e], weights[e], -1);
+					in.add(targets[e], u, weights[e], -1);
+				}
+		
+		int[] rank = new int[n];
+		int[] deleted = new int[n];//number of contracted neighbors
+		int[] level = new int[n];//length of the longest chain of contracted vertexes below each vertex
+		int[] priority = new int[n];
+		boolean[] contracting = new boolean[n];
+		
+		Arrays.fill(rank, -1);
+		
+		IntStream.range(0, n).parallel().forEach(v -> priority[v] = priority(v, out, in, deleted, level, contracting, work));
+		
+		//edges of a vertex that are left when it's contracted all go to higher ranked vertexes
+		int[][] upTo = new int[n][], downTo = new int[n][], upMid = new int[n][], downMid = new int[n][];
+		long[][] upW = new long[n][], downW = new long[n][];
+		
+		int[] remaining = IntStream.range(0, n).toArray();
+		int[] dirty = new int[n];//round that last changed neighbors of each vertex
+		int next = 0;
+		int shortcuts = 0;
+		
+		for (int round = 1; remaining.length > 0; ++round) {
+			int[] alive = remaining;
+			int[] set = Arrays.stream(alive).parallel().filter(v -> isLocalMinimum(v, out, in, priority)).toArray();
+			
+			for (int v : set)
+				contracting[v] = true;
+			
+			long[][] found = new long[set.length][];
+			
+			IntStream.range(0, set.length).parallel().forEach(i -> found[i] = shortcuts(set[i], out, in, contracting, WITNESS_SETTLED, work));
+			
+			IntList changed = new IntList();
+			
+			for (int i = 0; i < set.length; ++i) {
+				int v = set[i];
+				
+				rank[v] = next++;
+				upTo[v] = Arrays.copyOf(out.to[v], out.size[v]);
+				upW[v] = Arrays.copyOf(out.weight[v], out.size[v]);
+				upMid[v] = Arrays.copyOf(out.middle[v], out.size[v]);
+				downTo[v] = Arrays.copyOf(in.to[v], in.size[v]);
+				downW[v] = Arrays.copyOf(in.weight[v], in.size[v]);
+				downMid[v] = Arrays.copyOf(in.middle[v], in.size[v]);
+				
+				for (int x : upTo[v]) {
+					in.remove(x, v);
+					++deleted[x];
+					level[x] = Math.max(level[x], level[v] + 1);
+					
+					if (dirty[x] != round) {
+						dirty[x] = round;
+						changed.add(x);
+					}
+				}
+				
+				for (int u : downTo[v]) {
+					out.remove(u, v);
+					++deleted[u];
+					level[u] = Math.max(level[u], level[v] + 1);
+					
+					if (dirty[u] != round) {
+						dirty[u] = round;
+						changed.add(u);
+					}
+				}
+				
+				long[] triples = found[i];
+				
+				for (int k = 0; k < triples.length; k += 3) {
+					int u = (int) triples[k];
+					int x = (int) triples[k + 1];
+					
+					out.add(u, x, triples[k + 2], v);
+					in.add(x, u, triples[k + 2], v);
+				}
+				
+				shortcuts += triples.length / 3;
+				out.release(v);
+				in.release(v);
+			}
+			
+			for (int v : set)
+				contracting[v] = false;
+			
+			IntStream.range(0, changed.size).parallel().map(i -> changed.data[i]).filter(v -> rank[v] < 0)
+					 .forEach(v -> priority[v] = priority(v, out, in, deleted, level, contracting, work));
+			
+			remaining = Arrays.stream(alive).filter(v -> rank[v] < 0).toArray();
+		}
+		
+		int[] upOffsets = new int[n + 1];
+		int[] downOffsets = new int[n + 1];
+		
+		for (int v = 0; v < n; ++v) {
+			upOffsets[v + 1] = upOffsets[v] + upTo[v].length;
+			downOffsets[v + 1] = downOffsets[v] + downTo[v].length;
+		}
+		
+		int[] upTargets = new int[upOffsets[n]], upMiddles = new int[upOffsets[n]];
+		int[] downTargets = new int[downOffsets[n]], downMiddles = new int[downOffsets[n]];
+		long[] upWeights = new long[upOffsets[n]], downWeights = new long[downOffsets[n]];
+		
+		for (int v = 0; v < n; ++v) {
+			System.arraycopy(upTo[v], 0, upTargets, upOffsets[v], upTo[v].length);
+			System.arraycopy(upW[v], 0, upWeights, upOffsets[v], upTo[v].length);
+			System.arraycopy(upMid[v], 0, upMiddles, upOffsets[v], upTo[v].length);
+			System.arraycopy(downTo[v], 0, downTargets, downOffsets[v], downTo[v].length);
+			System.arraycopy(downW[v], 0, downWeights, downOffsets[v], downTo[v].length);
+			System.arraycopy(downMid[v], 0, downMiddles, downOffsets[v], downTo[v].length);
+		}
+		
+		return new ContractionHierarchy<>(graph, rank, upOffsets, upTargets, upWeights, upMiddles,
+										  downOffsets, downTargets, downWeights, downMiddles, shortcuts);
+	}
+	
+	/*
+	 * Importance of a vertex: twice the shortcuts its contraction would add minus edges it would remove,
+	 * plus contracted neighbors and level, the last two spread contraction evenly over the graph.
+	 */
+	private static int priority(int v, Adjacency out, Adjacency in, int[] deleted, int[] level, boolean[] contracting, AtomicLongArray work) {
+		int added = shortcuts(v, out, in, contracting, ESTIMATE_SETTLED, work).length / 3;
+		
+		return 2 * (added - out.size[v] - in.size[v]) + deleted[v] + level[v];
+	}
+	
+	/*
+	 * A vertex is contracted in this round if it's less important than all of its remaining neighbors,
+	 * so no two neighbors are contracted in the same round. Ties are broken by a hash of the index,
+	 * so a chain of equally important vertexes does not have to be contracted one by one.
+	 */
+	private static boolean isLocalMinimum(int v, Adjacency out, Adjacency in, int[] priority) {
+		long key = GraphGenerator.mix(v);
+		
+		for (int i = 0; i < out.size[v]; ++i) {
+			int x = out.to[v][i];
+			
+			if (priority[x] < priority[v] || (priority[x] == priority[v] && GraphGenerator.mix(x) < key))
+				return false;
+		}
+		
+		for (int i = 0; i < in.size[v]; ++i) {
+			int u = in.to[v][i];
+			
+			if (priority[u] < priority[v] || (priority[u] == priority[v] && GraphGenerator.mix(u) < key))
+				return false;
+		}
+		
+		return true;
+	}
+	
+	/*
+	 * Finds shortcuts needed to contract a vertex as (from, to, weight) triples. Witness searches don't go through
+	 * the vertex or any other vertex contracted in the same round, so the shortcuts of the round can be added together.
+	 */
+	private static long[] shortcuts(int v, Adjacency out, Adjacency in, boolean[] contracting, int settled, AtomicLongArray work) {
+		Witness witness = WITNESS.get();
+		long[] found = new long[0];
+		int size = 0;
+		long maxOut = 0;
+		
+		for (int j = 0; j < out.size[v]; ++j)
+			maxOut = Math.max(maxOut, out.weight[v][j]);
+		
+		witness.visits = 0;
+		witness.edgeScans = 0;
+		
+		for (int i = 0; i < in.size[v]; ++i) {
+			int u = in.to[v][i];
+			long weight = in.weight[v][i];
+			
+			witness.search(u, v, weight + maxOut, settled, out, contracting, out.to[v], out.size[v]);
+			
+			for (int j = 0; j < out.size[v]; ++j) {
+				int x = out.to[v][j];
+				long via = weight + out.weight[v][j];
+				
+				if (x == u || witness.distance(x) <= via)
+					continue;
+				
+				if (size == found.length)
+					found = Arrays.copyOf(found, Math.max(12, size * 2));
+				
+				found[size++] = u;
+				found[size++] = x;
+				found[size++] = via;
+			}
+		}
+		
+		work.addAndGet(0, witness.visits);
+		work.addAndGet(1, witness.edgeScans);
+		
+		return size == found.length ? found : Arrays.copyOf(found, size);
+	}
+	
+	/**
+	 * Returns number of vertexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int vertexCount() {
+		return graph.keptVertexCount();
+	}
+	
+	/**
+	 * Returns number of shortcut edges added by the preprocessing.
+	 * 
+	 * @return number of shortcuts
+	 */
+	public int shortcutCount() {
+		return shortcuts;
+	}
+	
+	/**
+	 * Returns importance of a vertex, it's the position of the vertex in the contraction order.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return rank of the vertex, 0 to n - 1
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public int rank(T vertex) {
+		return rank[index(vertex)];
+	}
+	
+	/**
+	 * Calculates shortest path between two vertexes u and v.
+	 * 
+	 * @param u
+	 *        source vertex
+	 * @param v
+	 *        destination vertex
+	 * 
+	 * @return an integer valued shortest path between vertexes, if there's no such path, -1 will be returned
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public int shortestPath(T u, T v) {
+		long d = search(index(u), index(v), QUERY.get());
+		
+		return d >= WeightedGraph.INF ? -1 : (int) d;
+	}
+	
+	/**
+	 * Finds vertexes of a shortest path between two vertexes, shortcuts are unpacked to edges of the graph.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * @param target
+	 *        destination vertex
+	 * 
+	 * @return vertexes of a shortest path from source to target, {@code null} if there's no such path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public List<T> path(T source, T target) {
+		int s = index(source);
+		int t = index(target);
+		Query query = QUERY.get();
+		
+		if (search(s, t, query) >= WeightedGraph.INF)
+			return null;
+		
+		IntList chain = new IntList();
+		
+		for (int x = query.meet; x != s; x = query.upParent[x])
+			chain.add(x);
+		
+		IntList vertexes = new IntList();
+		
+		vertexes.add(s);
+		
+		for (int i = chain.size - 1; i >= 0; --i) {
+			int x = chain.data[i];
+			
+			unpack(query.upParent[x], x, query.upMiddle[x], vertexes);
+		}
+		
+		for (int x = query.meet; x != t; x = query.downParent[x])
+			unpack(x, query.downParent[x], query.downMiddle[x], vertexes);
+		
+		List<T> path = new ArrayList<>(vertexes.size);
+		
+		for (int i = 0; i < vertexes.size; ++i)
+			path.add(graph.vertex(vertexes.data[i]));
+		
+		return path;
+	}
+	
+	/*
+	 * Bidirectional upward Dijkstra search, returns the distance and leaves the meeting vertex and parents in the scratch state.
+	 * A direction stops when its smallest key is no better than the best path found so far.
+	 */
+	private long search(int s, int t, Query q) {
+		q.prepare(n);
+		
+		long best = ShortestPaths.UNREACHABLE;
+		int meet = -1;
+		
+		q.upSeen[s] = q.epoch;
+		q.upDist[s] = 0;
+		q.upHeap.offer(s, 0);
+		q.downSeen[t] = q.epoch;
+		q.downDist[t] = 0;
+		q.downHeap.offer(t, 0);
+		
+		while (true) {
+			boolean up = !q.upHeap.isEmpty() && q.upHeap.peekKey() < best;
+			boolean down = !q.downHeap.isEmpty() && q.downHeap.peekKey() < best;
+			
+			if (!up && !down)
+				break;
+			
+			if (up && (!down || q.upHeap.peekKey() <= q.downHeap.peekKey())) {
+				int u = q.upHeap.poll();
+				long du = q.upDist[u];
+				
+				if (q.downSeen[u] == q.epoch && du + q.downDist[u] < best) {
+					best = du + q.downDist[u];
+					meet = u;
+				}
+				
+				if (stalled(u, du, downOffsets, downTargets, downWeights, q.upSeen, q.upDist, q.epoch))
+					continue;
+				
+				for (int e = upOffsets[u]; e < upOffsets[u + 1]; ++e) {
+					int x = upTargets[e];
+					long d = du + upWeights[e];
+					
+					if (q.upSeen[x] != q.epoch || d < q.upDist[x]) {
+						q.upSeen[x] = q.epoch;
+						q.upDist[x] = d;
+						q.upParent[x] = u;
+						q.upMiddle[x] = upMiddles[e];
+						q.upHeap.offer(x, d);
+					}
+				}
+			} else {
+				int u = q.downHeap.poll();
+				long du = q.downDist[u];
+				
+				if (q.upSeen[u] == q.epoch && du + q.upDist[u] < best) {
+					best = du + q.upDist[u];
+					meet = u;
+				}
+				
+				if (stalled(u, du, upOffsets, upTargets, upWeights, q.downSeen, q.downDist, q.epoch))
+					continue;
+				
+				for (int e = downOffsets[u]; e < downOffsets[u + 1]; ++e) {
+					int x = downTargets[e];
+					long d = du + downWeights[e];
+					
+					if (q.downSeen[x] != q.epoch || d < q.downDist[x]) {
+						q.downSeen[x] = q.epoch;
+						q.downDist[x] = d;
+						q.downParent[x] = u;
+						q.downMiddle[x] = downMiddles[e];
+						q.downHeap.offer(x, d);
+					}
+				}
+			}
+		}
+		
+		q.upHeap.clear();
+		q.downHeap.clear();
+		q.meet = meet;
+		
+		return best;
+	}
+	
+	/*
+	 * Stall on demand: a vertex reached from a higher ranked vertex with a shorter distance than its own is not on a shortest path
+	 * of this search, so its edges don't have to be relaxed. Edges that come down to the vertex from higher ranked vertexes
+	 * are the opposite kind of edges of the search.
+	 */
+	private static boolean stalled(int u, long du, int[] offsets, int[] targets, long[] weights, int[] seen, long[] dist, int epoch) {
+		for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+			int x = targets[e];
+			
+			if (seen[x] == epoch && dist[x] + weights[e] < du)
+				return true;
+		}
+		
+		return false;
+	}
+	
+	/*
+	 * Appends vertexes of edge (a, b) after a, a shortcut over vertex m is edge (a, m) followed by edge (m, b),
+	 * (a, m) is a downward edge of m and (m, b) is an upward edge of m.
+	 */
+	private void unpack(int a, int b, int middle, IntList vertexes) {
+		IntList stack = new IntList();
+		
+		stack.add(a);
+		stack.add(b);
+		stack.add(middle);
+		
+		while (stack.size > 0) {
+			int m = stack.data[--stack.size];
+			int y = stack.data[--stack.size];
+			int x = stack.data[--stack.size];
+			
+			if (m < 0) {
+				vertexes.add(y);
+				continue;
+			}
+			
+			stack.add(m);
+			stack.add(y);
+			stack.add(middleOf(upOffsets, upTargets, upMiddles, m, y));
+			stack.add(x);
+			stack.add(m);
+			stack.add(middleOf(downOffsets, downTargets, downMiddles, m, x));//on top, so it's unpacked first
+		}
+	}
+	
+	private static int middleOf(int[] offsets, int[] targets, int[] middles, int owner, int target) {
+		for (int e = offsets[owner]; e < offsets[owner + 1]; ++e)
+			if (targets[e] == target)
+				return middles[e];
+		
+		throw new IllegalStateException("Corrupted hierarchy!");
+	}
+	
+	private int index(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return i;
+	}
+	
+	/**
+	 * Writes the hierarchy in the binary format, the stream is not closed.
+	 * 
+	 * @param out
+	 *        output stream
+	 * 
+	 * @throws IOException if it can't be written
+	 */
+	public void write(OutputStream out) throws IOException {
+		Objects.requireNonNull(out);
+		
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+		
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(n);
+		data.writeInt(graph.edgeCount());
+		data.writeInt(shortcuts);
+		
+		for (int v = 0; v < n; ++v)
+			data.writeInt(rank[v]);
+		
+		writeEdges(data, upOffsets, upTargets, upWeights, upMiddles);
+		writeEdges(data, downOffsets, downTargets, downWeights, downMiddles);
+		
+		data.flush();
+	}
+	
+	private static void writeEdges(DataOutputStream data, int[] offsets, int[] targets, long[] weights, int[] middles) throws IOException {
+		for (int offset : offsets)
+			data.writeInt(offset);
+		
+		for (int e = 0; e < targets.length; ++e) {
+			data.writeInt(targets[e]);
+			data.writeLong(weights[e]);
+			data.writeInt(middles[e]);
+		}
+	}
+	
+	/**
+	 * Reads a hierarchy written by {@code write}, the stream is not closed. The graph must be a snapshot of the same graph
+	 * the hierarchy was built from, with vertexes in the same order, numbers of vertexes and edges are checked.
+	 * 
+	 * @param in
+	 *        input stream
+	 * @param graph
+	 *        snapshot of the graph
+	 * 
+	 * @return {@code ContractionHierarchy} object
+	 * 
+	 * @throws IOException if it can't be read, it's not in the binary format or it does not match the graph
+	 */
+	public static <T> ContractionHierarchy<T> read(InputStream in, CSRGraph<T> graph) throws IOException {
+		Objects.requireNonNull(in);
+		Objects.requireNonNull(graph);
+		
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+		
+		if (data.readInt() != MAGIC || data.readInt() != VERSION)
+			throw new IOException("Not a contraction hierarchy!");
+		
+		int n = data.readInt();
+		
+		if (n != graph.vertexCount() || data.readInt() != graph.edgeCount())
+			throw new IOException("The hierarchy does not match the graph!");
+		
+		int shortcuts = data.readInt();
+		int[] rank = new int[n];
+		
+		for (int v = 0; v < n; ++v)
+			rank[v] = data.readInt();
+		
+		int[] upOffsets = readOffsets(data, n);
+		int[] upTargets = new int[upOffsets[n]], upMiddles = new int[upOffsets[n]];
+		long[] upWeights = new long[upOffsets[n]];
+		
+		readEdges(data, n, upTargets, upWeights, upMiddles);
+		
+		int[] downOffsets = readOffsets(data, n);
+		int[] downTargets = new int[downOffsets[n]], downMiddles = new int[downOffsets[n]];
+		long[] downWeights = new long[downOffsets[n]];
+		
+		readEdges(data, n, downTargets, downWeights, downMiddles);
+		
+		return new ContractionHierarchy<>(graph, rank, upOffsets, upTargets, upWeights, upMiddles,
+										  downOffsets, downTargets, downWeights, downMiddles, shortcuts);
+	}
+	
+	private static int[] readOffsets(DataInputStream data, int n) throws IOException {
+		int[] offsets = new int[n + 1];
+		
+		for (int v = 0; v <= n; ++v) {
+			offsets[v] = data.readInt();
+			
+			if (offsets[v] < (v == 0 ? 0 : offsets[v - 1]))
+				throw new IOException("Corrupted contraction hierarchy!");
+		}
+		
+		return offsets;
+	}
+	
+	private static void readEdges(DataInputStream data, int n, int[] targets, long[] weights, int[] middles) throws IOException {
+		for (int e = 0; e < targets.length; ++e) {
+			targets[e] = data.readInt();
+			weights[e] = data.readLong();
+			middles[e] = data.readInt();
+			
+			if (targets[e] < 0 || targets[e] >= n || middles[e] < -1 || middles[e] >= n)
+				throw new IOException("Corrupted contraction hierarchy!");
+		}
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code ContractionHierarchy} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "ContractionHierarchy[vertexes=" + vertexCount() + ", edges=" + graph.keptEdgeCount() + ", shortcuts=" + shortcuts + "]";
+	}
+	
+	/*
+	 * Adjacency lists of the remaining graph during preprocessing, parallel edges are merged into the shortest one.
+	 */
+	private static class Adjacency {
+		int[][] to, middle;
+		long[][] weight;
+		int[] size;
+		
+		Adjacency(int n) {
+			to = new int[n][0];
+			middle = new int[n][0];
+			weight = new long[n][0];
+			size = new int[n];
+		}
+		
+		void add(int u, int v, long w, int m) {
+			for (int i = 0; i < size[u]; ++i)
+				if (to[u][i] == v) {
+					if (w < weight[u][i]) {
+						weight[u][i] = w;
+						middle[u][i] = m;
+					}
+					
+					return;
+				}
+			
+			if (size[u] == to[u].length) {
+				int capacity = Math.max(4, size[u] * 2);
+				
+				to[u] = Arrays.copyOf(to[u], capacity);
+				middle[u] = Arrays.copyOf(middle[u], capacity);
+				weight[u] = Arrays.copyOf(weight[u], capacity);
+			}
+			
+			to[u][size[u]] = v;
+			middle[u][size[u]] = m;
+			weight[u][size[u]++] = w;
+		}
+		
+		void remove(int u, int v) {
+			for (int i = 0; i < size[u]; ++i)
+				if (to[u][i] == v) {
+					int last = --size[u];
+					
+					to[u][i] = to[u][last];
+					middle[u][i] = middle[u][last];
+					weight[u][i] = weight[u][last];
+					
+					return;
+				}
+		}
+		
+		void release(int u) {
+			to[u] = new int[0];
+			middle[u] = new int[0];
+			weight[u] = new long[0];
+			size[u] = 0;
+		}
+	}
+	
+	/*
+	 * Scratch state of witness searches, distances are valid only for vertexes stamped with the current search number.
+	 */
+	private static class Witness {
+		int[] seen = new int[0];
+		int[] wanted = new int[0];
+		long[] dist = new long[0];
+		IndexedHeap heap = new IndexedHeap(0);
+		int epoch;
+		
+		long visits, edgeScans;
+		
+		/*
+		 * Dijkstra's search from the source on the remaining graph, it stops at the limit, after maxSettled vertexes
+		 * or when all the targets are settled.
+		 */
+		void search(int source, int avoid, long limit, int maxSettled, Adjacency out, boolean[] contracting, int[] targets, int count) {
+			int n = out.size.length;
+			
+			if (seen.length < n) {
+				seen = new int[n];
+				wanted = new int[n];
+				dist = new long[n];
+				heap = new IndexedHeap(n);
+				epoch = 0;
+			}
+			
+			if (++epoch == 0) {
+				Arrays.fill(seen, 0);
+				Arrays.fill(wanted, 0);
+				epoch = 1;
+			}
+			
+			int left = 0;
+			
+			for (int i = 0; i < count; ++i)
+				if (targets[i] != source && wanted[targets[i]] != epoch) {
+					wanted[targets[i]] = epoch;
+					++left;
+				}
+			
+			seen[source] = epoch;
+			dist[source] = 0;
+			heap.offer(source, 0);
+			
+			for (int settled = 0; !heap.isEmpty() && settled < maxSettled && heap.peekKey() <= limit; ++settled) {
+				int u = heap.poll();
+				long du = dist[u];
+				
+				++visits;
+				
+				if (wanted[u] == epoch && --left == 0)
+					break;
+				
+				for (int i = 0; i < out.size[u]; ++i) {
+					int x = out.to[u][i];
+					long d = du + out.weight[u][i];
+					
+					++edgeScans;
+					
+					if (x == avoid || contracting[x] || d > limit)//a path over the limit can't be a witness
+						continue;
+					
+					if (seen[x] != epoch || d < dist[x]) {
+						seen[x] = epoch;
+						dist[x] = d;
+						heap.offer(x, d);
+					}
+				}
+			}
+			
+			heap.clear();
+		}
+		
+		long distance(int x) {
+			return seen[x] == epoch ? dist[x] : Long.MAX_VALUE;
+		}
+	}
+	
+	/*
+	 * Scratch state of queries, upward search from the source and downward search from the target.
+	 */
+	private static class Query {
+		int[] upSeen = new int[0], downSeen = new int[0];
+		long[] upDist = new long[0], downDist = new long[0];
+		int[] upParent = new int[0], downParent = new int[0];
+		int[] upMiddle = new int[0], downMiddle = new int[0];
+		IndexedHeap upHeap = new IndexedHeap(0), downHeap = new IndexedHeap(0);
+		int epoch;
+		int meet;
+		
+		void prepare(int n) {
+			if (upSeen.length < n) {
+				upSeen = new int[n];
+				downSeen = new int[n];
+				upDist = new long[n];
+				downDist = new long[n];
+				upParent = new int[n];
+				downParent = new int[n];
+				upMiddle = new int[n];
+				downMiddle = new int[n];
+				upHeap = new IndexedHeap(n);
+				downHeap = new IndexedHeap(n);
+				epoch = 0;
+			}
+			
+			if (++epoch == 0) {
+				Arrays.fill(upSeen, 0);
+				Arrays.fill(downSeen, 0);
+				epoch = 1;
+			}
+		}
+	}
+}
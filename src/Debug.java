@@ -1,4 +1,24 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 
 import static java.lang.System.out;
 
@@ -10,7 +30,7 @@ import static java.lang.System.out;
  * To enable assert, add "-ea" (without quotes) to VM arguments.
  */
 public class Debug {
-	public static void main(String[] args) {
+	public static void main(String[] args) throws IOException {
 		/* Forest test 1 */
 		out.println("Forest test 1:");
 		Forest<Integer> test1 = new Forest<>();
@@ -194,6 +214,32 @@ public class Debug {
 		assert(test8.vertexCount() == 5);
 		out.println("end of test 8\n");
 		
+		//regression: the iterator reached a vertex without successors (it have no adjacency set) and threw NPE
+		DirectedGraph<Integer> iterated8 = new DirectedGraph<>();
+		iterated8.addEdge(1, 2);
+		iterated8.addEdge(1, 3);
+		int reached8 = 0;
+		for (Iterator<Integer> it = iterated8.depthFirstIterator(1); it.hasNext(); it.next())
+			++reached8;
+		assert(reached8 == 3);
+		
+		//regression: EdmondsKarp compared boxed vertexes with != and never stopped for Integers above 127
+		Network<Integer> flow8 = new Network<>(true);
+		flow8.addEdge(1000, 1001, 5);
+		flow8.addEdge(1001, 1002, 3);
+		flow8.addEdge(1000, 1002, 2);
+		assert(flow8.maxFlow(1000, 1002) == 5);
+		
+		//regression: path compression rewrote the parent of the parent instead of x
+		DisjointSetUnion<Integer> sets8 = new DisjointSetUnion<>();
+		for (int i = 0; i < 4; ++i)
+			sets8.makeSet(i);
+		sets8.union(0, 1);
+		sets8.union(2, 3);
+		sets8.union(0, 2);
+		assert(sets8.find(0).equals(sets8.find(3)) && sets8.find(1).equals(sets8.find(2)));
+		assert(!sets8.union(1, 3));
+		
 		/* Vertex add/remove test 2 */
 		out.println("test 9:");
 		Network<Integer> test9 = new Network<>();
@@ -271,6 +317,1235 @@ public class Debug {
 		assert(test13.maxFlow(0, 5) == 19);
 		out.println("end of test 13\n");
 		
+		/* Incremental topological order test */
+		out.println("test 14:");
+		DirectedGraph<Integer> test14 = new DirectedGraph<>(true);
+		test14.addEdge(5, 2);
+		test14.addEdge(5, 0);
+		test14.addEdge(4, 0);
+		test14.addEdge(4, 1);
+		test14.addEdge(2, 3);
+		test14.addEdge(3, 1);
+		test14.addEdge(1, 6);
+		test14.addEdge(7, 5);//forces a reorder, 7 was placed after 5
+		assert(!test14.isCyclic());
+		List<Integer> order14 = test14.topologicalSort();
+		assert(order14.size() == 8);
+		for (Edge<Integer> e : test14.getEdges())
+			assert(order14.indexOf(e.getU()) < order14.indexOf(e.getV()));
+		boolean rejected14 = false;
+		try {
+			test14.addEdge(1, 7);//7 -> 5 -> 2 -> 3 -> 1 already exists
+		} catch (IllegalArgumentException e) {
+			rejected14 = true;
+		}
+		assert(rejected14);
+		assert(test14.edgeCount() == 8);
+		test14.removeEdge(7, 5);
+		test14.addEdge(1, 7);//no longer a cycle
+		order14 = test14.topologicalSort();
+		for (Edge<Integer> e : test14.getEdges())
+			assert(order14.indexOf(e.getU()) < order14.indexOf(e.getV()));
+		test14.removeVertex(3);
+		assert(order14.size() == 7 && !order14.contains(3));//a live view of the maintained ordering
+		out.println(order14);
+		out.println("end of test 14\n");
+		
+		/* Topological levels test */
+		out.println("test 15:");
+		List<List<Integer>> levels15 = test5.topologicalLevels();//5 -> 2 -> 3 -> 1, 5 -> 0, 4 -> 0, 4 -> 1
+		assert(levels15.size() == 4);
+		assert(levels15.get(0).size() == 2 && levels15.get(0).contains(4) && levels15.get(0).contains(5));
+		assert(levels15.get(1).size() == 2 && levels15.get(1).contains(0) && levels15.get(1).contains(2));
+		assert(levels15.get(2).size() == 1 && levels15.get(2).contains(3));
+		assert(levels15.get(3).size() == 1 && levels15.get(3).contains(1));
+		assert(test3.topologicalLevels() == null);//cyclic
+		assert(test4.topologicalLevels() == null);
+		out.println(levels15);
+		out.println("end of test 15\n");
+		
+		/* Statistics test */
+		out.println("test 16:");
+		Network<Integer> test16 = new Network<>();
+		test16.addEdge(0, 1, 5);
+		test16.addEdge(0, 2, 3);
+		test16.addEdge(0, 3, 9);
+		test16.addEdge(2, 3, 1);
+		GraphStatistics<Integer> stats16 = test16.getStatistics();
+		assert(stats16.edgeCount() == 4 && test16.edgeCount() == 4);
+		assert(stats16.edgeSum() == 18 && test16.edgeSum() == 18);
+		assert(stats16.minWeight() == 1 && stats16.maxWeight() == 9);
+		assert(stats16.maxDegree() == 3);
+		assert(stats16.outDegreeHistogram().get(2) == 2);//vertexes 2 and 3
+		test16.removeEdge(2, 3, 1);
+		assert(stats16.minWeight() == 3 && stats16.edgeCount() == 3);
+		assert(test16.degree(2) == 1);
+		test16.removeVertex(0);
+		assert(stats16.edgeCount() == 0 && stats16.edgeSum() == 0 && stats16.maxDegree() == 0);
+		assert(stats16.outDegreeHistogram().get(0) == 3);//vertexes 1, 2 and 3 are left
+		GraphStatistics<Integer> stats16b = test5.getStatistics();
+		assert(stats16b.edgeCount() == 6 && stats16b.maxOutDegree() == 2 && stats16b.maxInDegree() == 2);
+		Network<Integer> loop16 = new Network<>();
+		loop16.addEdge(1, 1, 5);//an undirected self loop is recorded once
+		loop16.addEdge(1, 2, 3);
+		GraphStatistics<Integer> loopStats16 = loop16.getStatistics();
+		assert(loop16.degree(1) == 2 && loopStats16.maxDegree() == 2 && loopStats16.outDegreeHistogram().get(2) == 1);
+		assert(loop16.edgeCount() == 2 && loop16.edgeSum() == 8);
+		loop16.removeEdge(1, 1, 5);
+		assert(loopStats16.maxDegree() == 1 && loop16.edgeCount() == 1 && loop16.edgeSum() == 3);
+		DirectedGraph<Integer> star16 = new DirectedGraph<>();
+		for (int i = 1; i <= 4; ++i)
+			star16.addEdge(0, i);
+		star16.addEdge(1, 2);
+		GraphStatistics<Integer> starStats16 = star16.getStatistics();
+		assert(starStats16.maxOutDegree() == 4 && starStats16.maxInDegree() == 2);
+		star16.removeEdge(0, 2);
+		assert(starStats16.maxOutDegree() == 3 && starStats16.maxInDegree() == 1);
+		assert(starStats16.outDegreeHistogram().toString().equals("{0=3, 1=1, 3=1}"));
+		Network<Integer> weights16 = new Network<>(true);
+		weights16.addEdge(0, 1, 7);
+		weights16.addEdge(1, 2, 7);
+		weights16.addEdge(2, 3, -2);
+		weights16.removeEdge(0, 1, 7);
+		assert(weights16.getStatistics().maxWeight() == 7);//one edge of weight 7 is left
+		weights16.removeEdge(1, 2, 7);
+		assert(weights16.getStatistics().maxWeight() == -2 && weights16.getStatistics().minWeight() == -2);
+		weights16.addEdge(3, 4, 10);
+		assert(weights16.getStatistics().maxWeight() == 10 && weights16.getStatistics().minWeight() == -2);
+		out.println(stats16);
+		out.println("end of test 16\n");
+		
+		out.println("test 17:");
+		EdgeList test17 = GraphGenerator.rmat(10, 8, 17);
+		assert(Arrays.equals(test17.sources(), GraphGenerator.rmat(10, 8, 17).sources()));//same seed, same graph
+		assert(Arrays.equals(test17.targets(), GraphGenerator.rmat(10, 8, 17).targets()));
+		assert(!Arrays.equals(test17.targets(), GraphGenerator.rmat(10, 8, 18).targets()));
+		assert(test17.vertexCount() == 1024 && test17.edgeCount() == 8192);
+		Forest<Integer> forest17 = GraphGenerator.randomForest(1000, 3, 17).toForest();
+		assert(forest17.vertexCount() == 1000 && forest17.edgeCount() == 997);
+		EdgeList er17 = GraphGenerator.erdosRenyi(300, 0.05, false, 17).randomWeights(1, 9, 17);
+		assert(er17.toNetwork(false).edgeCount() == er17.edgeCount());//no duplicates
+		CSRGraph<Integer> csr17 = er17.toCSR(false);
+		assert(csr17.vertexCount() == 300 && csr17.edgeCount() == 2 * er17.edgeCount());
+		ByteArrayOutputStream bytes17 = new ByteArrayOutputStream();
+		er17.write(bytes17);
+		EdgeList copy17 = EdgeList.read(new ByteArrayInputStream(bytes17.toByteArray()));
+		assert(Arrays.equals(er17.sources(), copy17.sources()) && Arrays.equals(er17.weights(), copy17.weights()));
+		DirectedGraph<Integer> dag17 = GraphGenerator.randomDag(500, 2000, 17).toDirectedGraph();
+		assert(!dag17.isCyclic());
+		assert(GraphGenerator.barabasiAlbert(500, 3, 17).toNetwork(false).vertexCount() == 500);
+		Network<Integer> bulk17 = test17.toNetwork(true);
+		Network<Integer> slow17 = new Network<>(true);
+		for (int i = 0; i < test17.vertexCount(); ++i)
+			slow17.addVertex(i);
+		for (int e = 0; e < test17.edgeCount(); ++e)
+			slow17.addEdge(test17.sources()[e], test17.targets()[e], 1);
+		assert(bulk17.edgeCount() == slow17.edgeCount() && bulk17.vertexCount() == slow17.vertexCount());//bulk loading drops the same duplicates
+		assert(bulk17.getStatistics().toString().equals(slow17.getStatistics().toString()));
+		assert(bulk17.getStatistics().inDegreeHistogram().equals(slow17.getStatistics().inDegreeHistogram()));
+		boolean rejected17 = false;
+		try {
+			new EdgeList(3, new int[]{0, 1, 2}, new int[]{1, 2, 0}, null).toForest();
+		} catch (IllegalArgumentException e) {
+			rejected17 = true;
+		}
+		assert(rejected17);
+		assert(GraphGenerator.grid(10, 10, 1, 0, 17).edgeCount() == 180);
+		out.println(test17 + " " + er17);
+		out.println("end of test 17\n");
+		
+		out.println("test 18:");
+		HistogramListener listener18 = new HistogramListener();
+		DirectedGraph<Integer> test18 = GraphGenerator.randomDag(200, 800, 18).toDirectedGraph();
+		test18.setAlgorithmListener(listener18);
+		test18.shortestPath(0, 199);
+		test18.shortestPath(1, 198);
+		test18.getStronglyConnectedComponents();
+		for (Iterator<Integer> it = test18.breadthFirstIterator(0); it.hasNext(); it.next());
+		assert(listener18.getSummary("BFS").runs() == 2);
+		assert(listener18.getSummary("Kosaraju").visits().max() == 400);//both passes visit every vertex
+		assert(listener18.getSummary("Kosaraju").edgeScans().max() == 2 * test18.edgeCount());
+		assert(listener18.getSummary("GraphIterator.BFS").runs() == 1);
+		test18.topologicalLevels();
+		assert(listener18.getSummary("TopologicalLevels").visits().max() == 200);
+		assert(listener18.getSummary("TopologicalLevels").edgeScans().max() == test18.edgeCount());
+		test18.addEdge(199, 0);
+		test18.addEdge(0, 199);
+		assert(test18.topologicalLevels() == null);
+		assert(listener18.getSummary("TopologicalLevels.Cyclic").runs() == 1);
+		Network<Integer> network18 = GraphGenerator.erdosRenyi(100, 0.1, true, 18).randomWeights(1, 20, 18).toNetwork(true);
+		network18.setAlgorithmListener(listener18);
+		int flow18 = network18.maxFlow(0, 99);
+		assert(listener18.getSummary("EdmondsKarp").augmentations().max() > 0 == flow18 > 0);
+		network18.shortestPath(0, 99);
+		assert(listener18.getSummary("SPFA").relaxations().max() >= 99 - 1);//every reachable vertex is relaxed at least once
+		network18.setAlgorithmListener(null);
+		network18.shortestPath(0, 99);
+		assert(listener18.getSummary("SPFA").runs() == 1);
+		HistogramListener.Histogram histogram18 = new HistogramListener.Histogram();
+		for (int i = 1; i <= 1000; ++i)
+			histogram18.record(i);
+		assert(histogram18.percentile(50) >= 500 && histogram18.percentile(50) <= 500 + 500 / 16);
+		assert(histogram18.percentile(100) == 1000 && histogram18.min() == 1);
+		out.println(listener18.getSummary("SPFA"));
+		out.println("end of test 18\n");
+		
+		out.println("test 19:");
+		assert(GraphEvents.start(null, test18) == GraphEvents.start(null, test18));//a shared idle run until Flight Recorder is started
+		assert(GraphEvents.mutation() == null);
+		DirectedGraph<Integer> cyclic19 = new DirectedGraph<>();
+		cyclic19.addEdge(1, 2);
+		cyclic19.addEdge(2, 1);
+		cyclic19.setAlgorithmListener(listener18);
+		assert(cyclic19.topologicalSort() == null);
+		assert(listener18.getSummary("TopologicalSort.Cyclic").runs() == 1);//the run that found a cycle is reported too
+		Recording recording19 = new Recording();
+		recording19.enable("graphapi.Algorithm").withThreshold(Duration.ZERO);
+		recording19.enable("graphapi.Mutation").withThreshold(Duration.ZERO);
+		recording19.start();
+		DirectedGraph<Integer> test19 = GraphGenerator.randomDag(100, 300, 19).toDirectedGraph();
+		test19.topologicalSort();
+		test19.shortestPath(0, 99);
+		test19.removeVertex(0);
+		recording19.stop();
+		Path path19 = Files.createTempFile("test19", ".jfr");
+		recording19.dump(path19);
+		recording19.close();
+		List<RecordedEvent> events19 = RecordingFile.readAllEvents(path19);
+		Files.delete(path19);
+		assert(events19.stream().anyMatch(e -> e.getEventType().getName().equals("graphapi.Algorithm") && e.getString("algorithm").equals("TopologicalSort.DFS") && e.getInt("vertexes") == 100));
+		assert(events19.stream().anyMatch(e -> e.getEventType().getName().equals("graphapi.Mutation") && e.getString("operation").equals("ingest") && e.getLong("affected") == 300));
+		assert(events19.stream().anyMatch(e -> e.getEventType().getName().equals("graphapi.Mutation") && e.getString("operation").equals("removeVertex")));
+		assert(events19.stream().filter(e -> e.getEventType().getName().equals("graphapi.Algorithm")).count() == 2);
+		out.println(events19.size() + " events recorded");
+		out.println("end of test 19\n");
+		
+		out.println("test 20:");
+		DirectedGraph<Integer> test20 = GraphGenerator.erdosRenyi(300, 0.02, true, 20).toDirectedGraph();
+		int[] depth20 = new int[300];
+		Arrays.fill(depth20, -1);
+		test20.breadthFirstTraversal(0, new GraphVisitor<Integer>() {
+			@Override
+			public Action onDiscover(Integer vertex, int depth) {
+				depth20[vertex] = depth;
+				
+				return Action.CONTINUE;
+			}
+		});
+		for (int i = 0; i < 300; ++i)
+			assert(depth20[i] == test20.shortestPath(0, i));
+		assert(test20.freeze() == test20.freeze());//the snapshot is cached until the graph is modified
+		int[] count20 = new int[3];//discovered, finished, edges
+		GraphVisitor<Integer> visitor20 = new GraphVisitor<Integer>() {
+			@Override
+			public Action onDiscover(Integer vertex, int depth) {
+				++count20[0];
+				
+				return depth == 2 ? Action.SKIP : Action.CONTINUE;
+			}
+			
+			@Override
+			public Action onEdge(Integer u, Integer v, int weight) {
+				++count20[2];
+				
+				return Action.CONTINUE;
+			}
+			
+			@Override
+			public Action onFinish(Integer vertex) {
+				++count20[1];
+				
+				return Action.CONTINUE;
+			}
+		};
+		assert(!test20.depthFirstTraversal(0, visitor20));
+		assert(count20[0] == count20[1] && count20[0] > 1);//every discovered vertex is finished
+		int reachable20 = 0;
+		for (Iterator<Integer> it = test20.depthFirstIterator(0); it.hasNext(); it.next())
+			++reachable20;
+		assert(count20[0] < reachable20);//vertexes 2 edges away were skipped
+		assert(test20.breadthFirstTraversal(0, new GraphVisitor<Integer>() {
+			@Override
+			public Action onDiscover(Integer vertex, int depth) {
+				return vertex == 299 ? Action.STOP : Action.CONTINUE;
+			}
+		}) == (depth20[299] >= 0));
+		com.sun.management.ThreadMXBean threads20 = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread20 = Thread.currentThread().getId();
+		test20.depthFirstTraversal(0, visitor20);
+		long allocated20 = threads20.getThreadAllocatedBytes(thread20);
+		for (int i = 0; i < 1000; ++i) {
+			Integer source20 = i % 100;//small integers are cached, no boxing allocation
+			test20.breadthFirstTraversal(source20, visitor20);
+			test20.depthFirstTraversal(source20, visitor20);
+		}
+		allocated20 = threads20.getThreadAllocatedBytes(thread20) - allocated20;
+		assert(allocated20 < 1024) : allocated20 + " bytes allocated";
+		Network<Integer> network20 = new Network<>();
+		network20.addEdge(0, 1, 7);
+		int[] weight20 = new int[1];
+		network20.depthFirstTraversal(0, new GraphVisitor<Integer>() {
+			@Override
+			public Action onEdge(Integer u, Integer v, int weight) {
+				weight20[0] += weight;
+				
+				return Action.CONTINUE;
+			}
+		});
+		assert(weight20[0] == 14);//the undirected edge is explored from both ends
+		out.println(allocated20 + " bytes allocated by 2000 traversals");
+		out.println("end of test 20\n");
+		
+		out.println("test 21:");
+		EdgeList grid21 = GraphGenerator.grid(30, 30, 0.9, 0.2, 21).randomWeights(0, 5, 21);
+		Point[] points21 = new Point[900];
+		for (int i = 0; i < 900; ++i)
+			points21[i] = new Point(i % 30, i / 30);
+		Network<Point> test21 = new Network<>();
+		for (int e = 0; e < grid21.edgeCount(); ++e) {
+			Point u = points21[grid21.sources()[e]], v = points21[grid21.targets()[e]];
+			test21.addEdge(u, v, (int) Math.ceil(10 * Math.hypot(u.getX() - v.getX(), u.getY() - v.getY())) + grid21.weights()[e]);
+		}
+		Heuristic<Point> heuristic21 = Heuristic.euclidean(10);
+		HistogramListener listener21 = new HistogramListener();
+		test21.setAlgorithmListener(listener21);
+		for (int i = 0; i < 20; ++i) {
+			Point s = points21[(i * 37) % 900], t = points21[(i * 101 + 450) % 900];
+			if (!test21.contains(s) || !test21.contains(t))
+				continue;
+			int dist = test21.shortestPath(s, t);
+			assert(test21.aStar(s, t, heuristic21) == dist);
+			assert(test21.aStar(s, t, Heuristic.zero()) == dist);
+			List<Point> path = test21.aStarPath(s, t, heuristic21);
+			assert(dist == -1 ? path == null : path.get(0) == s && path.get(path.size() - 1) == t);
+		}
+		assert(listener21.getSummary("AStar").visits().mean() < listener21.getSummary("SPFA").visits().mean());
+		IndexedHeap heap21 = new IndexedHeap(10);
+		heap21.offer(3, 30);
+		heap21.offer(5, 50);
+		heap21.offer(7, 10);
+		heap21.offer(5, 5);//decrease key
+		assert(!heap21.offer(3, 40) && heap21.size() == 3);
+		assert(heap21.poll() == 5 && heap21.poll() == 7 && heap21.poll() == 3 && heap21.isEmpty());
+		Point london21 = new Point(-0.1276, 51.5072), paris21 = new Point(2.3522, 48.8566);
+		assert(Math.abs(Heuristic.<Point>greatCircle(1).estimate(london21, paris21) - 343_500) < 1_000);//about 343.5 km
+		out.println(listener21.getSummary("AStar") + " vs " + listener21.getSummary("SPFA"));
+		out.println("end of test 21\n");
+		
+		out.println("test 22:");
+		HistogramListener listener22 = new HistogramListener();
+		Network<Integer> test22 = GraphGenerator.erdosRenyi(150, 0.05, true, 22).randomWeights(1, 50, 22).toNetwork(true);
+		test22.setAlgorithmListener(listener22);
+		DistanceMatrix<Integer> floyd22 = test22.allPairsShortestPaths(DistanceMatrix.Mode.FLOYD_WARSHALL);
+		DistanceMatrix<Integer> dijkstra22 = test22.allPairsShortestPaths(DistanceMatrix.Mode.PER_SOURCE);
+		assert(listener22.getSummary("AllPairs.FloydWarshall").runs() == 1 && listener22.getSummary("AllPairs.Dijkstra").runs() == 1);
+		assert(listener22.getSummary("AllPairs.Dijkstra").visits().max() > 0);
+		for (int u = 0; u < 150; u += 7)
+			for (int v = 0; v < 150; v += 3) {
+				assert(floyd22.distance(u, v) == test22.shortestPath(u, v));
+				assert(dijkstra22.distance(u, v) == floyd22.distance(u, v));
+			}
+		assert(floyd22.size() == 150 && floyd22.vertex(floyd22.indexOf(42)) == 42);
+		DirectedGraph<Integer> digraph22 = GraphGenerator.erdosRenyi(100, 0.03, true, 22).toDirectedGraph();
+		digraph22.setAlgorithmListener(listener22);
+		DistanceMatrix<Integer> bfs22 = digraph22.allPairsShortestPaths(DistanceMatrix.Mode.PER_SOURCE);
+		assert(listener22.getSummary("AllPairs.BFS").runs() == 1);
+		DistanceMatrix<Integer> unweighted22 = digraph22.allPairsShortestPaths(DistanceMatrix.Mode.FLOYD_WARSHALL);
+		for (int u = 0; u < 100; u += 3)
+			for (int v = 0; v < 100; ++v)
+				assert(bfs22.distance(u, v) == digraph22.shortestPath(u, v) && unweighted22.distance(u, v) == bfs22.distance(u, v));
+		Network<Integer> negative22 = new Network<>(true);
+		negative22.addEdge(0, 1, 4);
+		negative22.addEdge(1, 2, -3);
+		negative22.addEdge(0, 2, 2);
+		negative22.addVertex(3);
+		DistanceMatrix<Integer> auto22 = negative22.allPairsShortestPaths();//negative weights, Floyd-Warshall is picked
+		assert(auto22.distance(0, 2) == 1 && auto22.distance(2, 0) == -1 && auto22.distance(0, 3) == -1);
+		negative22.addEdge(2, 1, 1);//1 -> 2 -> 1 weighs -2
+		try {
+			negative22.allPairsShortestPaths();
+			assert false : "negative cycle not detected";
+		} catch (IllegalArgumentException e) {
+			out.println(e.getMessage());
+		}
+		out.println(floyd22);
+		out.println("end of test 22\n");
+		
+		out.println("test 23:");
+		Network<Integer> test23 = GraphGenerator.erdosRenyi(400, 0.02, true, 23).randomWeights(0, 30, 23).toNetwork(true);
+		DirectedGraph<Integer> digraph23 = GraphGenerator.erdosRenyi(400, 0.01, true, 23).toDirectedGraph();
+		List<Pair<Integer, Integer>> queries23 = new ArrayList<>();
+		Random random23 = new Random(23);
+		for (int i = 0; i < 500; ++i)
+			queries23.add(new Pair<>(random23.nextInt(20), random23.nextInt(410)));//few sources, some targets DNE
+		int[] weighted23 = test23.shortestPaths(queries23);
+		int[] unweighted23 = digraph23.shortestPaths(queries23);
+		for (int i = 0; i < queries23.size(); ++i) {
+			Pair<Integer, Integer> query = queries23.get(i);
+			boolean exists = test23.contains(query.second());
+			assert(weighted23[i] == (exists ? test23.shortestPath(query.first(), query.second()) : -1));
+			assert(unweighted23[i] == (digraph23.contains(query.second()) ? digraph23.shortestPath(query.first(), query.second()) : -1));
+		}
+		assert(test23.shortestPaths(new ArrayList<>()).length == 0);
+		out.println(Arrays.stream(weighted23).limit(10).boxed().collect(Collectors.toList()));
+		out.println("end of test 23\n");
+		
+		out.println("test 24:");
+		Network<Integer> test24 = GraphGenerator.rmat(11, 8, 24).randomWeights(0, 50, 24).toNetwork(false);
+		test24.addVertex(-1);//unreachable
+		CSRGraph<Integer> frozen24 = test24.freeze();
+		for (int delta : new int[]{1, 7, 50, 1000}) {
+			int[] dist24 = test24.deltaStepping(0, delta);
+			for (int i = 0; i < dist24.length; i += 37)
+				assert(dist24[i] == test24.shortestPath(0, frozen24.vertex(i)));
+			assert(dist24[frozen24.indexOf(-1)] == -1);
+		}
+		assert(Arrays.equals(test24.deltaStepping(0), test24.deltaStepping(0, 1)));
+		try {
+			test24.deltaStepping(0, 0);
+			assert false;
+		} catch (IllegalArgumentException e) {
+		}
+		out.println(Arrays.stream(test24.deltaStepping(0)).limit(10).boxed().collect(Collectors.toList()));
+		out.println("end of test 24\n");
+		
+		out.println("test 25:");
+		Network<Integer> road25 = GraphGenerator.grid(40, 40, 0.9, 0.05, 25).randomWeights(1, 20, 25).toNetwork(false);
+		Network<Integer> directed25 = GraphGenerator.erdosRenyi(500, 0.01, true, 25).randomWeights(0, 30, 25).toNetwork(true);
+		Random random25 = new Random(25);
+		for (Network<Integer> network25 : Arrays.asList(road25, directed25)) {
+			ContractionHierarchy<Integer> hierarchy25 = network25.contractionHierarchy();
+			ByteArrayOutputStream bytes25 = new ByteArrayOutputStream();
+			hierarchy25.write(bytes25);
+			ContractionHierarchy<Integer> loaded25 = ContractionHierarchy.read(new ByteArrayInputStream(bytes25.toByteArray()), network25.freeze());
+			for (int i = 0; i < 200; ++i) {
+				int u = random25.nextInt(network25.vertexCount());
+				int v = random25.nextInt(network25.vertexCount());
+				int expected = network25.shortestPath(u, v);
+				assert(hierarchy25.shortestPath(u, v) == expected);
+				assert(loaded25.shortestPath(u, v) == expected);
+				List<Integer> path25 = hierarchy25.path(u, v);
+				assert((path25 == null) == (expected == -1));
+				if (path25 == null)
+					continue;
+				assert(path25.get(0) == u && path25.get(path25.size() - 1) == v);
+				int length = 0;
+				for (int j = 1; j < path25.size(); ++j) {
+					int best = Integer.MAX_VALUE;
+					for (Pair<Integer, Integer> edge : network25.getAdjacencyList().get(path25.get(j - 1)))
+						if (edge.first().equals(path25.get(j)))
+							best = Math.min(best, edge.second());
+					length += best;
+				}
+				assert(length == expected);
+			}
+			out.println(hierarchy25);
+		}
+		try {
+			ContractionHierarchy.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}), road25.freeze());
+			assert false;
+		} catch (IOException e) {
+		}
+		out.println("end of test 25\n");
+		
+		out.println("test 26:");
+		Network<Integer> road26 = GraphGenerator.grid(30, 30, 0.9, 0.05, 26).randomWeights(1, 20, 26).toNetwork(false);
+		Network<Integer> directed26 = GraphGenerator.erdosRenyi(300, 0.01, true, 26).randomWeights(0, 30, 26).toNetwork(true);
+		DirectedGraph<Integer> digraph26 = GraphGenerator.erdosRenyi(300, 0.008, true, 26).toDirectedGraph();
+		Random random26 = new Random(26);
+		for (Network<Integer> network26 : Arrays.asList(road26, directed26)) {
+			LandmarkIndex<Integer> index26 = network26.landmarkIndex(8);
+			for (int round = 0; round < 2; ++round) {
+				for (int i = 0; i < 200; ++i) {
+					int u = random26.nextInt(network26.vertexCount());
+					int v = random26.nextInt(network26.vertexCount());
+					int d = network26.shortestPath(u, v);
+					int lower = index26.lowerBound(u, v), upper = index26.upperBound(u, v);
+					assert(d == -1 ? upper == -1 : 0 <= lower && lower <= d && (upper == -1 || d <= upper));
+					assert(network26.aStar(u, v, index26.heuristic()) == d);
+				}
+				for (int i = 0; i < 20; ++i) {//edges added later
+					int u = random26.nextInt(network26.vertexCount());
+					int v = random26.nextInt(network26.vertexCount());
+					network26.addEdge(u, v, 1);
+					index26.addEdge(u, v, 1);
+				}
+			}
+			for (Integer landmark : index26.landmarks())
+				assert(index26.upperBound(landmark, 5) == network26.shortestPath(landmark, 5));
+			out.println(index26);
+		}
+		LandmarkIndex<Integer> unweighted26 = digraph26.landmarkIndex(Arrays.asList(0, 1, 2, 3));
+		for (int i = 0; i < 200; ++i) {
+			int u = random26.nextInt(digraph26.vertexCount());
+			int v = random26.nextInt(digraph26.vertexCount());
+			int d = digraph26.shortestPath(u, v);
+			assert(digraph26.aStar(u, v, unweighted26.heuristic()) == d);
+			assert(d == -1 || unweighted26.lowerBound(u, v) <= d);
+		}
+		out.println(unweighted26);
+		out.println("end of test 26\n");
+		
+		out.println("test 27:");
+		DirectedGraph<String> test27 = new DirectedGraph<>();
+		test27.addEdge("a", "b");
+		test27.addEdge("b", "c");
+		test27.addEdge("c", "a");
+		test27.addEdge("d", "c");
+		test27.addVertex("e");//dangling
+		CSRGraph<String> frozen27 = test27.freeze();
+		HistogramListener listener27 = new HistogramListener();
+		test27.setAlgorithmListener(listener27);
+		double[] rank27 = test27.pageRank();
+		assert(Math.abs(Arrays.stream(rank27).sum() - 1) < 1e-9);
+		assert(rank27[frozen27.indexOf("c")] > rank27[frozen27.indexOf("b")] && rank27[frozen27.indexOf("d")] < rank27[frozen27.indexOf("a")]);
+		assert(Math.abs(rank27[frozen27.indexOf("d")] - rank27[frozen27.indexOf("e")]) < 1e-9);//neither have incoming edges
+		double[] personal27 = test27.personalizedPageRank(Arrays.asList("d"), 0.85, 1e-12);
+		assert(listener27.getSummary("PageRank").runs() == 1 && listener27.getSummary("PageRank.Personalized").runs() == 1);
+		assert(listener27.getSummary("PageRank").visits().max() > 0);//one visit per vertex and iteration
+		assert(personal27[frozen27.indexOf("e")] == 0 && Math.abs(Arrays.stream(personal27).sum() - 1) < 1e-9);
+		DirectedGraph<Integer> big27 = GraphGenerator.rmat(12, 8, 27).toDirectedGraph();
+		CSRGraph<Integer> bigFrozen27 = big27.freeze();
+		double[] bigRank27 = big27.pageRank(0.85, 1e-10);
+		double[] expected27 = new double[bigRank27.length];
+		double[] previous27 = new double[bigRank27.length];
+		Arrays.fill(previous27, 1.0 / previous27.length);
+		for (int iteration = 0; iteration < 200; ++iteration) {//plain serial power iteration
+			double dangling = 0;
+			Arrays.fill(expected27, 0);
+			for (int u = 0; u < previous27.length; ++u) {
+				int degree = bigFrozen27.degree(u);
+				if (degree == 0)
+					dangling += previous27[u];
+				for (int e = bigFrozen27.offsets()[u]; e < bigFrozen27.offsets()[u + 1]; ++e)
+					expected27[bigFrozen27.targets()[e]] += 0.85 * previous27[u] / degree;
+			}
+			for (int v = 0; v < expected27.length; ++v)
+				expected27[v] += (0.15 + 0.85 * dangling) / expected27.length;
+			double[] swap = previous27;
+			previous27 = expected27;
+			expected27 = swap;
+		}
+		for (int v = 0; v < bigRank27.length; ++v)
+			assert(Math.abs(bigRank27[v] - previous27[v]) < 1e-8);
+		try {
+			test27.pageRank(1, 1e-6);
+			assert false;
+		} catch (IllegalArgumentException e) {
+		}
+		out.printf("%.4f %.4f%n", rank27[frozen27.indexOf("c")], personal27[frozen27.indexOf("d")]);
+		out.println("end of test 27\n");
+		
+		out.println("test 28:");
+		Network<Integer> path28 = new Network<>(false);
+		path28.addEdge(1, 2, 5);
+		path28.addEdge(2, 3, 5);
+		path28.addEdge(3, 4, 5);
+		path28.addEdge(1, 4, 20);//longer than 1-2-3-4 (15)
+		CSRGraph<Integer> pathFrozen28 = path28.freeze();
+		double[] pathBetweenness28 = path28.betweenness();
+		assert(pathBetweenness28[pathFrozen28.indexOf(2)] == 2 && pathBetweenness28[pathFrozen28.indexOf(1)] == 0);
+		DirectedGraph<Integer> test28 = GraphGenerator.erdosRenyi(60, 0.06, true, 28).toDirectedGraph();
+		CSRGraph<Integer> frozen28 = test28.freeze();
+		DistanceMatrix<Integer> dist28 = test28.allPairsShortestPaths();
+		int n28 = frozen28.vertexCount();
+		double[][] sigma28 = new double[n28][n28];
+		for (int s = 0; s < n28; ++s) {//paths counted in increasing order of distance
+			sigma28[s][s] = 1;
+			for (int d = 1; d < n28; ++d)
+				for (int u = 0; u < n28; ++u)
+					if (dist28.distance(s, u) == d - 1)
+						for (int e = frozen28.offsets()[u]; e < frozen28.offsets()[u + 1]; ++e)
+							if (dist28.distance(s, frozen28.targets()[e]) == d)
+								sigma28[s][frozen28.targets()[e]] += sigma28[s][u];
+		}
+		double[] expected28 = new double[n28];
+		for (int s = 0; s < n28; ++s)
+			for (int t = 0; t < n28; ++t)
+				for (int v = 0; v < n28; ++v)
+					if (s != t && s != v && v != t && dist28.distance(s, v) >= 0 && dist28.distance(v, t) >= 0 && dist28.distance(s, v) + dist28.distance(v, t) == dist28.distance(s, t))
+						expected28[v] += sigma28[s][v] * sigma28[v][t] / sigma28[s][t];
+		HistogramListener listener28 = new HistogramListener();
+		test28.setAlgorithmListener(listener28);
+		double[] betweenness28 = test28.betweenness();
+		assert(listener28.getSummary("Betweenness.BFS").runs() == 1);
+		Network<Integer> unit28 = new Network<>(true);
+		for (Integer vertex : test28.getVertexes())
+			unit28.addVertex(vertex);
+		for (Edge<Integer> edge : test28.getEdges())
+			unit28.addEdge(edge.getU(), edge.getV(), 1);
+		unit28.setAlgorithmListener(listener28);
+		double[] weighted28 = unit28.betweenness();
+		assert(listener28.getSummary("Betweenness.Dijkstra").runs() == 1);
+		CSRGraph<Integer> unitFrozen28 = unit28.freeze();
+		for (int v = 0; v < n28; ++v) {
+			assert(Math.abs(betweenness28[v] - expected28[v]) < 1e-9);
+			assert(Math.abs(weighted28[unitFrozen28.indexOf(frozen28.vertex(v))] - expected28[v]) < 1e-9);
+		}
+		DirectedGraph<Integer> big28 = GraphGenerator.rmat(10, 4, 28).toDirectedGraph();
+		double[] exact28 = big28.betweenness();
+		big28.setAlgorithmListener(listener28);
+		double[] sampled28 = big28.betweenness(0.1, 0.1, 28);
+		assert(listener28.getSummary("Betweenness.Sampled").runs() == 1);
+		int bigN28 = exact28.length;
+		for (int v = 0; v < bigN28; ++v)
+			assert(Math.abs(sampled28[v] - exact28[v]) <= 0.1 * bigN28 * (bigN28 - 2));
+		assert(Arrays.equals(big28.betweenness(0.1, 0.1, 28), sampled28));
+		try {
+			path28.addEdge(4, 5, 0);
+			path28.betweenness();
+			assert false;
+		} catch (IllegalArgumentException e) {
+		}
+		out.println(Arrays.toString(pathBetweenness28) + " " + Centrality.sampleSize(bigN28, 0.1, 0.1));
+		out.println("end of test 28\n");
+		
+		out.println("test 29:");
+		Network<Integer> k429 = new Network<>(false);
+		for (int u = 1; u <= 4; ++u)
+			for (int v = u + 1; v <= 4; ++v)
+				k429.addEdge(u, v, 1);
+		k429.addEdge(4, 5, 1);
+		TriangleCount<Integer> kTriangles29 = k429.triangles();
+		assert(kTriangles29.total() == 4 && kTriangles29.triangles(kTriangles29.indexOf(1)) == 3 && kTriangles29.triangles(kTriangles29.indexOf(5)) == 0);
+		assert(kTriangles29.clustering(kTriangles29.indexOf(1)) == 1 && kTriangles29.clustering(kTriangles29.indexOf(4)) == 0.5 && kTriangles29.clustering(kTriangles29.indexOf(5)) == 0);
+		DirectedGraph<Integer> test29 = GraphGenerator.rmat(9, 8, 29).toDirectedGraph();
+		CSRGraph<Integer> frozen29 = test29.freeze();
+		int n29 = frozen29.vertexCount();
+		boolean[][] adjacent29 = new boolean[n29][n29];
+		for (int u = 0; u < n29; ++u)
+			for (int e = frozen29.offsets()[u]; e < frozen29.offsets()[u + 1]; ++e)
+				if (frozen29.targets()[e] != u)
+					adjacent29[u][frozen29.targets()[e]] = adjacent29[frozen29.targets()[e]][u] = true;
+		long[] expected29 = new long[n29];
+		long total29 = 0;
+		for (int u = 0; u < n29; ++u)
+			for (int v = u + 1; v < n29; ++v)
+				if (adjacent29[u][v])
+					for (int w = v + 1; w < n29; ++w)
+						if (adjacent29[u][w] && adjacent29[v][w]) {
+							++expected29[u];
+							++expected29[v];
+							++expected29[w];
+							++total29;
+						}
+		TriangleCount<Integer> triangles29 = test29.triangles();
+		assert(triangles29.total() == total29 && total29 > 0);
+		for (int v = 0; v < n29; ++v) {
+			int degree = 0;
+			for (int u = 0; u < n29; ++u)
+				if (adjacent29[v][u])
+					++degree;
+			assert(triangles29.triangles(v) == expected29[v]);
+			assert(degree < 2 || Math.abs(triangles29.clustering(v) - 2.0 * expected29[v] / degree / (degree - 1)) < 1e-12);
+		}
+		assert(triangles29.transitivity() > 0 && triangles29.transitivity() <= 1);
+		out.println(triangles29 + ", transitivity " + triangles29.transitivity() + ", average clustering " + triangles29.averageClustering());
+		out.println("end of test 29\n");
+		
+		out.println("test 30:");
+		DirectedGraph<Integer> loops30 = new DirectedGraph<>();
+		loops30.addEdge(1, 2);
+		loops30.addEdge(2, 1);
+		loops30.addEdge(2, 2);
+		loops30.addEdge(2, 3);
+		CSRGraph<Integer> view30 = loops30.freeze().undirected();
+		assert(!view30.isDirected() && view30.edgeCount() == 4 && view30.degree(view30.indexOf(2)) == 2);
+		Network<Integer> weighted30 = new Network<>(true);
+		weighted30.addEdge(1, 2, 3);
+		weighted30.addEdge(2, 1, 4);
+		CSRGraph<Integer> weightedView30 = weighted30.freeze().undirected();
+		assert(weightedView30.edgeCount() == 2 && weightedView30.weights()[0] == 7 && weightedView30.weights()[1] == 7);
+		Network<Integer> cliques30 = new Network<>(false);
+		for (int u = 0; u < 10; ++u)
+			for (int v = u + 1; v < 10; ++v)
+				if (u / 5 == v / 5)
+					cliques30.addEdge(u, v, 1);
+		cliques30.addEdge(4, 5, 1);
+		Communities<Integer> twoCommunities30 = cliques30.communities();
+		assert(twoCommunities30.count() == 2 && twoCommunities30.members(twoCommunities30.community(0)).size() == 5);
+		assert(twoCommunities30.community((Integer) 0) == twoCommunities30.community((Integer) 4) && twoCommunities30.community((Integer) 4) != twoCommunities30.community((Integer) 5));
+		assert(Math.abs(twoCommunities30.modularity() - (40.0 / 42 - 2 * 0.25)) < 1e-12);
+		DirectedGraph<Integer> planted30 = new DirectedGraph<>();
+		Random random30 = new Random(30);
+		for (int u = 0; u < 300; ++u)
+			for (int v = 0; v < 300; ++v)
+				if (u != v && random30.nextDouble() < (u / 30 == v / 30 ? 0.3 : 0.002))
+					planted30.addEdge(u, v);
+		Communities<Integer> communities30 = planted30.communities(0, 30);
+		assert(Arrays.equals(communities30.communities(), planted30.communities(0, 30).communities()));
+		int members30 = 0;
+		for (int size : communities30.sizes())
+			members30 += size;
+		assert(members30 == 300 && communities30.modularity() > 0.8);
+		for (int u = 0; u < 300; ++u)
+			assert(communities30.community((Integer) u) == communities30.community((Integer) (u / 30 * 30)));
+		Communities<Integer> rmat30 = GraphGenerator.rmat(12, 8, 30).toDirectedGraph().communities();
+		out.println(communities30 + ", iterations " + communities30.iterations());
+		out.println(rmat30 + ", iterations " + rmat30.iterations());
+		out.println("end of test 30\n");
+		
+		out.println("test 31:");
+		Forest<Integer> forest31 = new Forest<>();
+		for (int v = 1; v < 3000; ++v)
+			if (v % 100 != 0)
+				forest31.addEdge(v - 1, v);//a deep path, recursive DFS would overflow the stack
+		assert(forest31.getConnectedComponents().size() == 30 && forest31.components().sizes()[0] == 100);
+		DirectedGraph<Integer> weak31 = new DirectedGraph<>();
+		weak31.addEdge(1, 2);
+		weak31.addEdge(3, 2);
+		weak31.addVertex(4);
+		Components<Integer> weakComponents31 = weak31.components();
+		assert(weakComponents31.count() == 2 && weakComponents31.connected(1, 3) && !weakComponents31.connected(1, 4));
+		Network<Integer> test31 = GraphGenerator.erdosRenyi(2000, 0.0008, false, 31).toNetwork(false);
+		CSRGraph<Integer> frozen31 = test31.freeze();
+		Components<Integer> components31 = test31.components();
+		int n31 = frozen31.vertexCount();
+		int[] expected31 = new int[n31];
+		int count31 = 0;
+		Arrays.fill(expected31, -1);
+		for (int s = 0; s < n31; ++s)//BFS from every unlabeled vertex in order of index
+			if (expected31[s] < 0) {
+				int[] queue = new int[n31];
+				int tail = 0;
+				queue[tail++] = s;
+				expected31[s] = count31;
+				for (int head = 0; head < tail; ++head)
+					for (int e = frozen31.offsets()[queue[head]]; e < frozen31.offsets()[queue[head] + 1]; ++e)
+						if (expected31[frozen31.targets()[e]] < 0) {
+							expected31[frozen31.targets()[e]] = count31;
+							queue[tail++] = frozen31.targets()[e];
+						}
+				++count31;
+			}
+		assert(count31 > 1 && Arrays.equals(components31.components(), expected31));
+		List<List<Integer>> members31 = components31.members();
+		for (int c = 0; c < components31.count(); ++c)
+			assert(members31.get(c).equals(components31.members(c)) && members31.get(c).size() == components31.sizes()[c]);
+		Components<Integer> rmat31 = GraphGenerator.rmat(14, 4, 31).toDirectedGraph().components();
+		out.println(components31 + ", " + rmat31 + ", largest " + Arrays.stream(rmat31.sizes()).max().getAsInt());
+		out.println("end of test 31\n");
+		
+		out.println("test 32:");
+		Network<Integer> odd32 = new Network<>(false);
+		odd32.addEdge(1, 2, 1);
+		odd32.addEdge(2, 3, 1);
+		odd32.addEdge(3, 1, 1);
+		assert(!odd32.isBipartite() && odd32.bipartition() == null);
+		DirectedGraph<Integer> loop32 = new DirectedGraph<>();
+		loop32.addEdge(1, 1);
+		assert(!loop32.isBipartite());
+		DirectedGraph<Integer> even32 = new DirectedGraph<>();
+		even32.addEdge(1, 2);
+		even32.addEdge(3, 2);
+		even32.addEdge(3, 4);
+		even32.addEdge(1, 4);
+		Pair<List<Integer>, List<Integer>> sides32 = even32.bipartition();
+		assert(sides32.first().size() == 2 && sides32.first().contains(1) == sides32.first().contains(3));
+		assert(even32.maximumMatching().size() == 2);
+		try {
+			odd32.maximumMatching();
+			assert false : "Hopcroft-Karp must reject a graph that is not bipartite";
+		} catch (IllegalArgumentException e) {
+		}
+		Random random32 = new Random(32);
+		for (int round = 0; round < 20; ++round) {
+			int left = 1 + random32.nextInt(40), right = 1 + random32.nextInt(40);
+			Network<Integer> bipartite32 = new Network<>(true);
+			Network<Integer> flow32 = new Network<>(true);
+			for (int u = 0; u < left; ++u) {
+				bipartite32.addVertex(u);
+				flow32.addEdge(-1, u, 1);
+			}
+			for (int v = 0; v < right; ++v) {
+				bipartite32.addVertex(1000 + v);
+				flow32.addEdge(1000 + v, -2, 1);
+			}
+			for (int u = 0; u < left; ++u)
+				for (int v = 0; v < right; ++v)
+					if (random32.nextDouble() < 0.08) {
+						bipartite32.addEdge(random32.nextBoolean() ? new WeightedEdge<>(u, 1000 + v, 1) : new WeightedEdge<>(1000 + v, u, 1));
+						flow32.addEdge(u, 1000 + v, 1);
+					}
+			Matching<Integer> matching32 = bipartite32.maximumMatching();
+			assert(matching32.size() == flow32.maxFlow(-1, -2));
+			boolean[] used32 = new boolean[matching32.vertexCount()];
+			for (Edge<Integer> edge : matching32.edges()) {
+				assert(Math.min(edge.getU(), edge.getV()) < 1000 && Math.max(edge.getU(), edge.getV()) >= 1000);
+				assert(matching32.mate(edge.getU()).equals(edge.getV()));
+				assert(!used32[matching32.indexOf(edge.getU())] && !used32[matching32.indexOf(edge.getV())]);
+				used32[matching32.indexOf(edge.getU())] = used32[matching32.indexOf(edge.getV())] = true;
+			}
+			assert(matching32.edges().size() == matching32.size());
+		}
+		Network<Integer> large32 = new Network<>(false);
+		for (int u = 0; u < 20000; ++u)
+			for (int k = 0; k < 3; ++k)
+				large32.addEdge(2 * u, 2 * random32.nextInt(20000) + 1, 1);
+		Matching<Integer> largeMatching32 = large32.maximumMatching();
+		out.println(largeMatching32);
+		out.println("end of test 32\n");
+		
+		out.println("test 33:");
+		Network<String> small33 = new Network<>(true);
+		small33.addEdge("s", "a", 2);
+		small33.addEdge("s", "b", 1);
+		small33.addEdge("a", "t", 1);
+		small33.addEdge("a", "b", 1);
+		small33.addEdge("b", "t", 2);
+		MinCostFlow<String> smallFlow33 = small33.minCostFlow("s", "t", (u, v) -> u.equals("a") && v.equals("t") ? 10 : 1);
+		assert(smallFlow33.flow() == 3 && smallFlow33.cost() == 16);//s-a-t 12, s-a-b-t 3, s-b-t 2
+		assert(smallFlow33.flow("a", "b") == 1 && smallFlow33.flow("a", "t") == 1 && smallFlow33.flow("s", "a") == 2);
+		Network<Integer> cycle33 = new Network<>(true);
+		cycle33.addEdge(1, 2, 1);
+		cycle33.addEdge(2, 3, 1);
+		cycle33.addEdge(3, 1, 1);
+		try {
+			cycle33.minCostFlow(1, 3, (u, v) -> -1);
+			assert false : "a negative cost cycle must be rejected";
+		} catch (IllegalArgumentException e) {
+		}
+		Random random33 = new Random(33);
+		for (int round = 0; round < 30; ++round) {
+			Network<Integer> test33 = GraphGenerator.erdosRenyi(25, 0.15, true, round).randomWeights(0, 9, round).toNetwork(true);
+			test33.addVertex(0);
+			test33.addVertex(24);
+			CSRGraph<Integer> frozen33 = test33.freeze();
+			int n33 = frozen33.vertexCount();
+			int[] costs33 = new int[frozen33.edgeCount()];
+			for (int e = 0; e < costs33.length; ++e)
+				costs33[e] = random33.nextInt(12) - (round % 3 == 0 ? 0 : 1);//some negative costs, cycles are rare but possible
+			MinCostFlow<Integer> flow33;
+			try {
+				flow33 = test33.minCostFlow(0, 24, costs33);
+			} catch (IllegalArgumentException e) {
+				continue;
+			}
+			assert(flow33.flow() == test33.maxFlow(0, 24));
+			long[] balance33 = new long[n33];
+			long cost33 = 0;
+			for (int u = 0; u < n33; ++u)
+				for (int e = frozen33.offsets()[u]; e < frozen33.offsets()[u + 1]; ++e) {
+					assert(flow33.flow(e) >= 0 && flow33.flow(e) <= frozen33.weights()[e]);
+					balance33[u] -= flow33.flow(e);
+					balance33[frozen33.targets()[e]] += flow33.flow(e);
+					cost33 += (long) flow33.flow(e) * costs33[e];
+				}
+			assert(cost33 == flow33.cost());
+			for (int v = 0; v < n33; ++v)
+				assert(balance33[v] == (v == frozen33.indexOf(0) ? -flow33.flow() : v == frozen33.indexOf(24) ? flow33.flow() : 0));
+			long[] potential33 = new long[n33];//no negative cycle in the residual network means the cost is the least
+			boolean changed33 = true;
+			for (int pass = 0; changed33; ++pass) {
+				assert(pass <= n33);
+				changed33 = false;
+				for (int u = 0; u < n33; ++u)
+					for (int e = frozen33.offsets()[u]; e < frozen33.offsets()[u + 1]; ++e) {
+						int v = frozen33.targets()[e];
+						if (flow33.flow(e) < frozen33.weights()[e] && potential33[u] + costs33[e] < potential33[v]) {
+							potential33[v] = potential33[u] + costs33[e];
+							changed33 = true;
+						}
+						if (flow33.flow(e) > 0 && potential33[v] - costs33[e] < potential33[u]) {
+							potential33[u] = potential33[v] - costs33[e];
+							changed33 = true;
+						}
+					}
+			}
+		}
+		Network<Integer> large33 = GraphGenerator.grid(100, 100, 1, 0, 33).randomWeights(1, 20, 33).toNetwork(true);
+		MinCostFlow<Integer> largeFlow33 = large33.minCostFlow(0, 9999, (u, v) -> Math.abs(u - v));
+		out.println(largeFlow33);
+		out.println("end of test 33\n");
+		
+		out.println("test 34:");
+		Network<String> small34 = new Network<>(true);
+		small34.addEdge("s", "a", 3);
+		small34.addEdge("s", "b", 2);
+		small34.addEdge("a", "b", 1);
+		small34.addEdge("a", "t", 2);
+		small34.addEdge("b", "t", 3);
+		MaxFlowSession<String> session34 = small34.maxFlowSession("s", "t");
+		assert(session34.flow() == 0 && session34.maxFlow() == 5);
+		assert(session34.flow("a", "t") == 2 && session34.flow("b", "t") == 3);
+		session34.setCapacity("a", "t", 1);//b-t is full, so the lost unit can't be rerouted
+		assert(session34.flow() == 4 && session34.maxFlow() == 4);
+		assert(session34.cutEdges().size() == 3 && session34.sourceSide().size() == 2 && session34.sourceSide().containsAll(Arrays.asList("s", "a")));
+		session34.setCapacity("b", "t", 5);
+		assert(session34.maxFlow() == 4);//a-t is still the bottleneck
+		session34.setCapacity("a", "t", 2);
+		assert(session34.maxFlow() == 5 && session34.sourceSide().equals(Arrays.asList("s")));
+		Random random34 = new Random(34);
+		for (int round = 0; round < 20; ++round) {
+			boolean directed34 = round % 2 == 0;
+			Network<Integer> test34 = GraphGenerator.erdosRenyi(30, 0.12, directed34, round).randomWeights(0, 9, round).toNetwork(directed34);
+			test34.addVertex(0);
+			test34.addVertex(29);
+			CSRGraph<Integer> frozen34 = test34.freeze();
+			int n34 = frozen34.vertexCount();
+			int s34 = frozen34.indexOf(0), t34 = frozen34.indexOf(29);
+			MaxFlowSession<Integer> flow34 = test34.maxFlowSession(0, 29);
+			for (int update = 0; update < 10 && frozen34.edgeCount() > 0; ++update) {
+				long[] balance34 = new long[n34];
+				for (int u = 0; u < n34; ++u)
+					for (int e = frozen34.offsets()[u]; e < frozen34.offsets()[u + 1]; ++e) {
+						assert(flow34.flow(e) >= 0 && flow34.flow(e) <= flow34.capacity(e));
+						balance34[u] -= flow34.flow(e);
+						balance34[frozen34.targets()[e]] += flow34.flow(e);
+					}
+				for (int v = 0; v < n34; ++v)
+					assert(v == s34 || v == t34 || balance34[v] == 0);
+				assert(flow34.flow() == -balance34[s34]);
+				Network<Integer> fresh34 = new Network<>(directed34);
+				fresh34.addVertex(0);
+				fresh34.addVertex(29);
+				for (int u = 0; u < n34; ++u)
+					for (int e = frozen34.offsets()[u]; e < frozen34.offsets()[u + 1]; ++e)
+						if (directed34 || u < frozen34.targets()[e])
+							fresh34.addEdge(frozen34.vertex(u), frozen34.vertex(frozen34.targets()[e]), flow34.capacity(e));
+				long value34 = flow34.maxFlow();
+				assert(value34 == fresh34.maxFlow(0, 29));
+				long cut34 = 0;
+				for (Edge<Integer> edge : flow34.cutEdges())
+					for (int e = frozen34.offsets()[frozen34.indexOf(edge.getU())]; e < frozen34.offsets()[frozen34.indexOf(edge.getU()) + 1]; ++e)
+						if (frozen34.targets()[e] == frozen34.indexOf(edge.getV()))
+							cut34 += flow34.capacity(e);
+				assert(cut34 == value34 && flow34.sourceSide().contains(0) && !flow34.sourceSide().contains(29));
+				int e34 = random34.nextInt(frozen34.edgeCount());
+				int u34 = 0;
+				while (frozen34.offsets()[u34 + 1] <= e34)
+					++u34;
+				flow34.setCapacity(frozen34.vertex(u34), frozen34.vertex(frozen34.targets()[e34]), random34.nextInt(10));
+			}
+		}
+		Network<Integer> grid34 = GraphGenerator.grid(200, 200, 1, 0, 34).randomWeights(1, 20, 34).toNetwork(false);
+		MaxFlowSession<Integer> gridFlow34 = grid34.maxFlowSession(0, 39999);
+		long before34 = gridFlow34.maxFlow();
+		gridFlow34.setCapacity(0, 1, 0);
+		out.println(gridFlow34 + ", " + before34 + " before the update");
+		out.println("end of test 34\n");
+		
+		
+		//test 35: LCA and distance on a forest
+		out.println("test 35:");
+		Forest<Integer> forest35 = GraphGenerator.randomForest(2000, 7, 35).toForest();
+		CSRGraph<Integer> frozen35 = forest35.freeze();
+		int n35 = frozen35.vertexCount();
+		int[] parent35 = new int[n35];
+		int[] depth35 = new int[n35];
+		Arrays.fill(parent35, -2);
+		for (int r = 0; r < n35; ++r)
+			if (parent35[r] == -2) {
+				ArrayDeque<Integer> queue35 = new ArrayDeque<>();
+				parent35[r] = -1;
+				queue35.add(r);
+				while (!queue35.isEmpty()) {
+					int u = queue35.poll();
+					for (int e = frozen35.offsets()[u]; e < frozen35.offsets()[u + 1]; ++e)
+						if (parent35[frozen35.targets()[e]] == -2) {
+							parent35[frozen35.targets()[e]] = u;
+							depth35[frozen35.targets()[e]] = depth35[u] + 1;
+							queue35.add(frozen35.targets()[e]);
+						}
+				}
+			}
+		Random random35 = new Random(35);
+		for (int q = 0; q < 20000; ++q) {
+			int u = random35.nextInt(n35), v = q % 10 == 0 ? u : random35.nextInt(n35);
+			int a = u, b = v;
+			while (depth35[a] > depth35[b])
+				a = parent35[a];
+			while (depth35[b] > depth35[a])
+				b = parent35[b];
+			while (a != b && a >= 0) {
+				a = parent35[a];
+				b = parent35[b];
+			}
+			Integer lca35 = forest35.lca(frozen35.vertex(u), frozen35.vertex(v));
+			assert(a < 0 ? lca35 == null : lca35.equals(frozen35.vertex(a)));
+			int distance35 = a < 0 ? -1 : depth35[u] + depth35[v] - 2 * depth35[a];
+			assert(forest35.distance(frozen35.vertex(u), frozen35.vertex(v)) == distance35);
+			assert(forest35.shortestPath(frozen35.vertex(u), frozen35.vertex(v)) == distance35);
+			assert(forest35.depth(frozen35.vertex(u)) == depth35[u]);
+		}
+		Forest<Integer> path35 = new Forest<>();
+		for (int i = 1; i < 200000; ++i)
+			path35.addEdge(i - 1, i);
+		assert(path35.lca(123456, 199999) == 123456 && path35.distance(0, 199999) == 199999 && path35.root(77) == 0);
+		path35.addEdge(-1, 199999);
+		assert(path35.depth(-1) == 200000 && path35.shortestPath(-1, 5) == 199995 && path35.shortestPath(-5, -5) == 0 && path35.shortestPath(-5, 3) == -1);
+		path35.addVertex(-2);
+		assert(path35.lca(-2, 0) == null && path35.distance(-2, 0) == -1 && path35.root(-2) == -2);
+		try {
+			path35.depth(-3);
+			assert false;
+		} catch (IllegalArgumentException e) {}
+		Forest<String> chart35 = new Forest<>();
+		chart35.addEdge("ceo", "vp1");
+		chart35.addEdge("ceo", "vp2");
+		chart35.addEdge("vp1", "eng1");
+		chart35.addEdge("vp1", "eng2");
+		chart35.addEdge("vp2", "eng3");
+		chart35.setRoot("ceo");
+		assert(chart35.root("eng1").equals("ceo") && chart35.depth("ceo") == 0 && chart35.depth("eng3") == 2);
+		assert(chart35.lca("eng1", "eng2").equals("vp1") && chart35.lca("eng2", "eng3").equals("ceo"));
+		chart35.setRoot("eng1");//re-rooting the same tree replaces the chosen root
+		assert(chart35.root("eng3").equals("eng1") && chart35.lca("eng2", "eng3").equals("vp1") && chart35.depth("ceo") == 2);
+		chart35.addEdge("cto", "ceo");
+		assert(chart35.root("cto").equals("eng1") && chart35.depth("cto") == 3);//the chosen root is kept after the tree grows
+		chart35.removeVertex("eng1");
+		chart35.setRoot("cto");
+		assert(chart35.depth("eng2") == 3 && chart35.lca("eng2", "vp2").equals("ceo"));
+		out.println(forest35.lca(frozen35.vertex(1500), frozen35.vertex(1999)) + " is the LCA of " + frozen35.vertex(1500) + " and " + frozen35.vertex(1999));
+		out.println("end of test 35\n");
+		
+		
+		//test 36: dynamic forest with link-cut trees
+		out.println("test 36:");
+		LinkCutTree<Integer> tree36 = new LinkCutTree<>();
+		List<List<Integer>> adj36 = new ArrayList<>();
+		long[] value36 = new long[300];
+		Random random36 = new Random(36);
+		for (int i = 0; i < 300; ++i) {
+			adj36.add(new ArrayList<>());
+			value36[i] = random36.nextInt(1000) - 500;
+			tree36.setValue(i, value36[i]);
+		}
+		for (int q = 0; q < 30000; ++q) {
+			int u = random36.nextInt(300), v = random36.nextInt(300);
+			int[] parent36 = new int[300];//naive path from u to v
+			Arrays.fill(parent36, -2);
+			ArrayDeque<Integer> queue36 = new ArrayDeque<>();
+			parent36[u] = -1;
+			queue36.add(u);
+			while (!queue36.isEmpty()) {
+				int x = queue36.poll();
+				for (int y : adj36.get(x))
+					if (parent36[y] == -2) {
+						parent36[y] = x;
+						queue36.add(y);
+					}
+			}
+			boolean connected36 = parent36[v] != -2;
+			assert(tree36.connected(u, v) == connected36);
+			switch (random36.nextInt(4)) {
+			case 0:
+				assert(tree36.link(u, v) == !connected36);
+				if (!connected36) {
+					adj36.get(u).add(v);
+					adj36.get(v).add(u);
+				}
+				break;
+			case 1:
+				int w = adj36.get(u).isEmpty() ? v : adj36.get(u).get(random36.nextInt(adj36.get(u).size()));
+				boolean edge36 = adj36.get(u).contains(w);
+				assert(tree36.cut(u, w) == edge36);
+				if (edge36) {
+					adj36.get(u).remove((Integer) w);
+					adj36.get(w).remove((Integer) u);
+				}
+				break;
+			case 2:
+				if (connected36) {
+					long sum36 = 0, max36 = Long.MIN_VALUE;
+					int length36 = -1;
+					for (int x = v; x >= 0; x = parent36[x]) {
+						sum36 += value36[x];
+						max36 = Math.max(max36, value36[x]);
+						++length36;
+					}
+					assert(tree36.pathSum(u, v) == sum36 && tree36.pathMax(u, v) == max36 && tree36.pathLength(u, v) == length36);
+					assert(tree36.findRoot(v) == u && (u == v ? tree36.parent(v) == null : tree36.parent(v) == parent36[v]));
+				} else
+					assert(tree36.pathLength(u, v) == -1 && tree36.lca(u, v) == null);
+				break;
+			default:
+				value36[u] = random36.nextInt(1000) - 500;
+				tree36.setValue(u, value36[u]);
+				assert(tree36.getValue(u) == value36[u]);
+				int z = random36.nextInt(300);
+				tree36.evert(u);
+				if (parent36[z] == -2)
+					assert(!connected36 || tree36.lca(v, z) == null);
+				else {
+					Set<Integer> ancestors36 = new HashSet<>();
+					for (int x = z; x >= 0; x = parent36[x])
+						ancestors36.add(x);
+					int lca36 = connected36 ? v : -1;
+					while (lca36 >= 0 && !ancestors36.contains(lca36))
+						lca36 = parent36[lca36];
+					assert(connected36 ? tree36.lca(v, z) == lca36 : tree36.lca(v, z) == null);
+				}
+			}
+		}
+		Forest<Integer> forest36 = new Forest<>();
+		for (int i = 1; i < 1000; ++i)
+			forest36.addEdge(i, (i - 1) / 2);
+		for (int q = 0; q < 5000; ++q) {//re-parent a random vertex under a vertex outside its subtree
+			int child = 1 + random36.nextInt(999);
+			int parent = random36.nextInt(1000);
+			Integer old36 = null;
+			for (Integer x : forest36.getAdjacencyList().get(child))
+				if (forest36.depth(x) < forest36.depth(child))
+					old36 = x;
+			forest36.removeEdge(child, old36);
+			assert(!forest36.connected(child, 0) && forest36.distance(child, 0) == -1);
+			if (forest36.connected(parent, 0))
+				forest36.addEdge(child, parent);
+			else
+				forest36.addEdge(child, old36);
+			assert(forest36.connected(child, 0) && forest36.components().count() == 1 && forest36.edgeCount() == 999);
+		}
+		Forest<Integer> path36 = new Forest<>();
+		path36.addEdge(1, 2);
+		path36.addEdge(2, 3);
+		try {
+			path36.addEdge(1, 3);
+			assert false;
+		} catch (IllegalArgumentException e) {}
+		path36.removeEdge(3, 2);
+		path36.addEdge(1, 3);//it was rejected by the union find before since a removed edge stayed in it
+		assert(path36.distance(2, 3) == 2 && path36.connected(2, 3));
+		CSRGraph<Integer> frozen36 = path36.freeze();
+		path36.removeEdge(2, 3);//missing edges change nothing
+		path36.removeEdge(2, 7);
+		assert(path36.freeze() == frozen36 && path36.edgeCount() == 2 && path36.getEdges().size() == 4);
+		path36.removeEdge(1, 2);
+		assert(path36.getEdges().size() == 2 && path36.getEdges().contains(new Edge<>(3, 1)) && !path36.getEdges().contains(new Edge<>(2, 1)));
+		List<Integer> neighbours36 = new ArrayList<>(forest36.getAdjacencyList().get(0));
+		forest36.removeVertex(0);
+		assert(forest36.components().count() == neighbours36.size());
+		for (int i = 1; i < neighbours36.size(); ++i)
+			assert(!forest36.connected(neighbours36.get(0), neighbours36.get(i)));
+		for (int x : neighbours36)
+			forest36.addEdge(x, 0);
+		assert(forest36.components().count() == 1 && forest36.vertexCount() == 1000);
+		out.println(tree36 + ", " + forest36.root(999) + " is root of 999");
+		out.println("end of test 36\n");
+		
+		//test 37: zero-copy subgraph views
+		out.println("test 37:");
+		DirectedGraph<Integer> graph37 = GraphGenerator.erdosRenyi(400, 0.01, true, 37).toDirectedGraph();
+		int[] calls37 = new int[1], masks37 = new int[1];
+		graph37.setAlgorithmListener(metrics -> {
+			if (metrics.getAlgorithm().equals("SubgraphMask"))
+				++masks37[0];
+		});
+		Predicate<Integer> vertexFilter37 = v -> {
+			++calls37[0];
+			return v % 3 != 0;
+		};
+		Predicate<Edge<Integer>> edgeFilter37 = e -> (e.getU() + e.getV()) % 2 == 0;
+		DirectedSubgraphView<Integer> view37 = graph37.subgraph(vertexFilter37, edgeFilter37);
+		DirectedGraph<Integer> copy37 = new DirectedGraph<>();
+		for (Integer v : graph37.getVertexes())
+			if (v % 3 != 0)
+				copy37.addVertex(v);
+		for (Edge<Integer> e : graph37.getEdges())
+			if (e.getU() % 3 != 0 && e.getV() % 3 != 0 && (e.getU() + e.getV()) % 2 == 0)
+				copy37.addEdge(e.getU(), e.getV());
+		assert(view37.vertexCount() == copy37.vertexCount() && view37.edgeCount() == copy37.edgeCount());
+		assert(view37.getVertexes().equals(copy37.getVertexes()) && new HashSet<>(view37.getEdges()).equals(new HashSet<>(copy37.getEdges())));
+		assert(view37.freeze().targets() == graph37.freeze().targets() && view37.freeze().offsets() == graph37.freeze().offsets());//no arrays are copied
+		assert(graph37.subgraph(vertexFilter37, edgeFilter37).freeze() == view37.freeze() && masks37[0] == 1);//the same filters share a mask
+		assert(view37.getAdjacencyList().get(1) == view37.getAdjacencyList().get(1));
+		assert(view37.components().count() == copy37.components().count() && view37.triangles().total() == copy37.triangles().total());
+		assert(view37.getStronglyConnectedComponents().size() == copy37.getStronglyConnectedComponents().size() && view37.isCyclic() == copy37.isCyclic());
+		Random random37 = new Random(37);
+		for (int q = 0; q < 300; ++q) {
+			int u = 1 + 3 * random37.nextInt(133), v = 2 + 3 * random37.nextInt(133);
+			assert(view37.shortestPath(u, v) == copy37.shortestPath(u, v) && view37.contains(u) == copy37.contains(u));
+			if (!view37.contains(u))
+				continue;
+			assert(view37.degree(u) == (copy37.getAdjacencyList().get(u) == null ? 0 : copy37.degree(u)));//a vertex without edges have no adjacency set in a graph
+			Set<Integer> reached37 = new HashSet<>();
+			view37.breadthFirstIterator(u).forEachRemaining(reached37::add);
+			Set<Integer> expected37 = new HashSet<>();
+			copy37.depthFirstIterator(u).forEachRemaining(expected37::add);
+			assert(reached37.equals(expected37));
+		}
+		assert(calls37[0] == 400 && masks37[0] == 1);//every run reused the mask
+		graph37.addEdge(1, 401);
+		graph37.addEdge(401, 5);
+		assert(view37.contains(401) && !view37.contains(3) && view37.getAdjacencyList().get(1).contains(401) && calls37[0] == 801 && masks37[0] == 2);
+		assert(view37.getStatistics().edgeCount() == view37.edgeCount() && view37.shortestPath(1, 5) == 2);
+		graph37.setAlgorithmListener(null);
+		DirectedSubgraphView<Integer> nested37 = view37.subgraph(v -> v < 200, e -> true);
+		long nestedEdges37 = copy37.getEdges().stream().filter(e -> e.getU() < 200 && e.getV() < 200).count();
+		assert(nested37.vertexCount() == copy37.getVertexes().stream().filter(v -> v < 200).count() && nested37.edgeCount() == nestedEdges37);
+		assert(nested37.freeze().targets() == graph37.freeze().targets() && !nested37.contains(201) && !nested37.contains(3));
+		for (Runnable mutation : new Runnable[] {() -> view37.addEdge(1, 2), () -> view37.removeVertex(1), () -> view37.getVertexes().add(3), () -> view37.getAdjacencyList().get(1).clear(), () -> nested37.addVertex(7)})
+			try {
+				mutation.run();
+				assert false;
+			} catch (UnsupportedOperationException e) {}
+		DirectedSubgraphView<Integer> induced37 = graph37.inducedSubgraph(Arrays.asList(1, 401, 5, 1000));
+		assert(induced37.vertexCount() == 3 && induced37.edgeCount() == graph37.subgraph(v -> v == 1 || v == 5 || v == 401, e -> true).edgeCount());
+		DirectedGraph<Integer> dag37 = GraphGenerator.randomDag(300, 1200, 37).toDirectedGraph();
+		DirectedSubgraphView<Integer> dagView37 = dag37.subgraph(v -> v % 4 != 0, e -> e.getV() - e.getU() != 7);
+		List<Integer> order37 = dagView37.topologicalSort();
+		assert(order37 != null && order37.size() == dagView37.vertexCount() && !dagView37.isCyclic());
+		for (Edge<Integer> e : dagView37.getEdges())
+			assert(order37.indexOf(e.getU()) < order37.indexOf(e.getV()));
+		assert(dagView37.topologicalLevels().stream().mapToInt(List::size).sum() == dagView37.vertexCount());
+		Network<Integer> flow37 = GraphGenerator.erdosRenyi(200, 0.05, true, 37).randomWeights(1, 50, 37).toNetwork(true);
+		NetworkSubgraphView<Integer> flowView37 = flow37.subgraph(v -> v != 7, e -> e.getWeight() > 10);
+		Network<Integer> flowCopy37 = new Network<>(true);
+		for (Integer v : flow37.getVertexes())
+			if (v != 7)
+				flowCopy37.addVertex(v);
+		for (WeightedEdge<Integer> e : flow37.getEdges())
+			if (e.getU() != 7 && e.getV() != 7 && e.getWeight() > 10)
+				flowCopy37.addEdge(e.getU(), e.getV(), e.getWeight());
+		assert(flowView37.maxFlow(0, 199) == flowCopy37.maxFlow(0, 199) && flowView37.maxFlow(3, 150) == flowCopy37.maxFlow(3, 150));
+		Network<Integer> network37 = GraphGenerator.grid(30, 30, 1, 0, 37).randomWeights(1, 100, 37).toNetwork(false);
+		NetworkSubgraphView<Integer> heavy37 = network37.subgraph(v -> v < 600, e -> e.getWeight() > 30);
+		Network<Integer> heavyCopy37 = new Network<>(false);
+		for (Integer v : network37.getVertexes())
+			if (v < 600)
+				heavyCopy37.addVertex(v);
+		for (WeightedEdge<Integer> e : network37.getEdges())
+			if (e.getU() < 600 && e.getV() < 600 && e.getWeight() > 30)
+				heavyCopy37.addEdge(e.getU(), e.getV(), e.getWeight());
+		assert(heavy37.edgeCount() == heavyCopy37.edgeCount() && heavy37.edgeSum() == heavyCopy37.edgeSum() && heavy37.getStatistics().minWeight() > 30);
+		assert(heavy37.components().count() == heavyCopy37.components().count() && heavy37.freeze().weights() == network37.freeze().weights());
+		assert(heavy37.spanningTree().edgeSum() == heavyCopy37.spanningTree().edgeSum());
+		for (int q = 0; q < 100; ++q) {
+			int u = random37.nextInt(600), v = random37.nextInt(600);
+			assert(heavy37.shortestPath(u, v) == heavyCopy37.shortestPath(u, v) && heavy37.deltaStepping(u)[heavy37.freeze().indexOf(v)] == heavyCopy37.deltaStepping(u)[heavyCopy37.freeze().indexOf(v)]);
+			Set<Integer> reached37 = new HashSet<>();
+			heavy37.depthFirstIterator(u).forEachRemaining(reached37::add);
+			assert(reached37.size() == heavy37.components().members(heavy37.components().component((Integer) u)).size());
+		}
+		try {
+			heavy37.addEdge(1, 2, 3);
+			assert false;
+		} catch (UnsupportedOperationException e) {}
+		out.println(heavy37.vertexCount() + " vertexes and " + heavy37.edgeCount() + " edges above weight 30");
+		out.println("end of test 37\n");
+		
 		assert false : "assert's working";//make sure assert's enabled
 	}
+	
+	/*
+	 * A vertex with a position for A* search tests
+	 */
+	private static class Point implements Locatable {
+		private double x, y;
+		
+		Point(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+		
+		@Override
+		public double getX() {
+			return x;
+		}
+		
+		@Override
+		public double getY() {
+			return y;
+		}
+	}
 }
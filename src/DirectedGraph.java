@@ -1,5 +1,10 @@
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -7,7 +12,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import java.util.function.Predicate;
+
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * The {@code DirectedGraph} class wraps commom operations on directed graphs.
@@ -31,11 +43,112 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 	 */
 	private enum Colour{WHITE, GRAY, BLACK};
 	
+	/**
+	 * {@code boolean} flag that indicates if the topological ordering is maintained on every edge insertion
+	 */
+	private boolean incremental;
+	
+	/**
+	 * Maintained topological ordering, only used in incremental mode
+	 */
+	private List<T> order;
+	
+	/**
+	 * Position of each vertex in the maintained ordering
+	 */
+	private Map<T, Integer> ord;
+	
+	/**
+	 * Predecessors of each vertex, they're needed to search backward from the "from" vertex of a new edge
+	 */
+	private Map<T, Set<T>> pred;
+	
 	/**
 	 * Creates new and empty {@code DirectedGraph} object.
 	 */
 	public DirectedGraph() {
+		this(false);
+	}
+	
+	/**
+	 * Creates new and empty {@code DirectedGraph} object.
+	 * If {@code incremental} is set, the graph is kept acyclic and its topological ordering is maintained
+	 * on every edge insertion (Pearce-Kelly algorithm), only the vertexes between the endpoints of the new edge
+	 * in the current ordering are visited, so the cost is proportional to the affected region instead of whole graph.
+	 * Removing a vertex takes O(V) time in this mode since the vertexes after it in the ordering move one place down.
+	 * 
+	 * @param incremental
+	 *        maintain topological ordering incrementally?
+	 */
+	public DirectedGraph(boolean incremental) {
 		super();
+		
+		this.incremental = incremental;
+		
+		if (incremental) {
+			order = new ArrayList<>();
+			ord = new HashMap<>();
+			pred = new HashMap<>();
+		}
+	}
+	
+	/**
+	 * Creates a {@code DirectedGraph} object straight from arrays of edges, it's used for bulk loading.
+	 * Vertex i is {@code vertexes[i]} and edge e goes from {@code vertexes[sources[e]]} to {@code vertexes[targets[e]]},
+	 * all vertexes are added and duplicate edges are added once, just like {@code addEdge} would do.
+	 * The collections are sized up front and filled directly without the lookups of {@code addEdge}.
+	 * 
+	 * @param vertexes
+	 *        vertex of each index
+	 * @param sources
+	 *        "from" vertex index of each edge
+	 * @param targets
+	 *        "to" vertex index of each edge
+	 */
+	DirectedGraph(T[] vertexes, int[] sources, int[] targets) {
+		this(false);
+		
+		int n = vertexes.length;
+		int[] degree = new int[n];
+		
+		for (int u : sources)
+			++degree[u];
+		
+		this.vertexes = new HashSet<>(capacity(n));
+		adj = new HashMap<>(capacity(n));
+		edges = new ArrayList<>(sources.length);
+		
+		for (T vertex : vertexes) {
+			this.vertexes.add(vertex);
+			stats.vertexAdded(vertex);
+		}
+		
+		@SuppressWarnings("unchecked")
+		Set<T>[] successors = new Set[n];
+		
+		for (int u = 0; u < n; ++u)
+			if (degree[u] > 0) {
+				successors[u] = new HashSet<>(capacity(degree[u]));
+				adj.put(vertexes[u], successors[u]);
+			}
+		
+		for (int e = 0; e < sources.length; ++e) {
+			int u = sources[e];
+			
+			if (successors[u].add(vertexes[targets[e]])) {
+				edges.add(new Edge<>(vertexes[u], vertexes[targets[e]]));
+				stats.edgeAdded(vertexes[u], vertexes[targets[e]]);
+			}
+		}
+	}
+	
+	/**
+	 * Indicates if the topological ordering of the graph is maintained incrementally.
+	 * 
+	 * @return {@code true} if the ordering is maintained {@code false} otherwise
+	 */
+	public boolean isIncremental() {
+		return incremental;
 	}
 	
 	/**
@@ -45,15 +158,31 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 	 * @return {@code true} if the graph have a cycle else {@code} false
 	 */
 	public boolean isCyclic() {
+		if (incremental)
+			return false;//edges that create a cycle are rejected in incremental mode
+		
+		return isCyclic(this);
+	}
+	
+	/**
+	 * Tests if a directed graph have a cycle, it's shared with {@code DirectedSubgraphView}.
+	 * 
+	 * @param graph
+	 *        directed graph or a view of it
+	 * 
+	 * @return {@code true} if the graph have a cycle else {@code} false
+	 */
+	static <T> boolean isCyclic(AbstractGraph<T> graph) {
+		Map<T, Set<T>> adj = graph.getAdjacencyList();
 		Map<T, Colour> colour = new HashMap<>();
 		
-		for (T vertex : vertexes)
+		for (T vertex : graph.getVertexes())
 			colour.put(vertex, Colour.WHITE);
 		
 		boolean cycle = false;
 		
-		for (T vertex : vertexes)
-			if (colour.get(vertex) == Colour.WHITE && DFS1(vertex, colour)) {
+		for (T vertex : graph.getVertexes())
+			if (colour.get(vertex) == Colour.WHITE && DFS1(adj, vertex, colour)) {
 				cycle = true;
 				break;
 			}
@@ -61,13 +190,13 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 		return cycle;
 	}
 	
-	private boolean DFS1(T u, Map<T, Colour> colour) {
+	private static <T> boolean DFS1(Map<T, Set<T>> adj, T u, Map<T, Colour> colour) {
 		colour.put(u, Colour.GRAY);
 		
 		if (adj.get(u) != null)
 			for (T v : adj.get(u))
 				if (colour.get(v) == Colour.WHITE) {
-					if (DFS1(v, colour))
+					if (DFS1(adj, v, colour))
 						return true;//cycle found!
 				} else if (colour.get(v) == Colour.GRAY)//if already visited vertex's colour is gray which means a back edge (u to ancestor v) is found
 					return true;
@@ -81,36 +210,134 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 	 * Returns topological ordering of directed acyclic graph (DAG) edges.
 	 * Topological sorting means to organize the directed edges in such way like "from" vertexes
 	 * comes first before "to" vertexes. There's no topological ordering for directed cyclic graphs.
+	 * In incremental mode, a read-only live view of the maintained ordering is returned in O(1) time without any traversal,
+	 * it follows later mutations of the graph, copy it to keep the ordering of the moment.
 	 * 
 	 * @return topological ordering of DAG edges, {@code null} if the directed graph have a cycle
 	 */
 	public List<T> topologicalSort() {
-		if (isCyclic())
+		if (incremental)
+			return Collections.unmodifiableList(order);
+		
+		return topologicalSort(this);
+	}
+	
+	/**
+	 * Sorts a directed acyclic graph topologically with DFS, it's shared with {@code DirectedSubgraphView}.
+	 * 
+	 * @param graph
+	 *        directed graph or a view of it
+	 * 
+	 * @return topological ordering of DAG edges, {@code null} if the graph have a cycle
+	 */
+	static <T> List<T> topologicalSort(AbstractGraph<T> graph) {
+		GraphEvents.Run run = GraphEvents.start(graph.getAlgorithmListener(), graph);
+		
+		if (isCyclic(graph)) {
+			run.finish("TopologicalSort.Cyclic", 0, 0, 0, 0, 0);//only the cycle check ran
 			return null;
+		}
 		
+		Map<T, Set<T>> adj = graph.getAdjacencyList();
 		Set<T> visited = new HashSet<>();
 		List<T> order = new ArrayList<>();
 		
-		for (T vertex : vertexes)
+		for (T vertex : graph.getVertexes())
 			if (!visited.contains(vertex))
-				DFS2(vertex, visited, order);
+				DFS2(adj, vertex, visited, order);
 		
 		Collections.reverse(order);
 		
+		run.finish("TopologicalSort.DFS", graph.vertexCount(), graph.edgeCount(), 0, 0, 0);//a full DFS visits every vertex and scans every edge once
+		
 		return order;
 	}
 	
-	private void DFS2(T u, Set<T> visited, List<T> order) {
+	private static <T> void DFS2(Map<T, Set<T>> adj, T u, Set<T> visited, List<T> order) {
 		visited.add(u);
 		
 		if (adj.get(u) != null)
 			for (T v : adj.get(u))
 				if (!visited.contains(v))
-					DFS2(v, visited, order);
+					DFS2(adj, v, visited, order);
 		
 		order.add(u);
 	}
 	
+	/**
+	 * Groups vertexes of directed acyclic graph (DAG) into topological levels (Kahn's algorithm).
+	 * The first level have vertexes without incoming edges and each next level have vertexes
+	 * whose predecessors are all in earlier levels, so vertexes of the same level can be processed in parallel.
+	 * Levels are peeled in parallel with atomic in-degree counters, a cycle is detected when some vertexes are never peeled.
+	 * A run on a cyclic graph is reported as "TopologicalLevels.Cyclic".
+	 * 
+	 * @return topological levels of DAG vertexes, {@code null} if the directed graph have a cycle
+	 */
+	public List<List<T>> topologicalLevels() {
+		return topologicalLevels(this);
+	}
+	
+	/**
+	 * Groups vertexes of a directed acyclic graph into topological levels, it's shared with {@code DirectedSubgraphView}.
+	 * Dropped vertexes and edges of a masked snapshot are skipped.
+	 * 
+	 * @param graph
+	 *        directed graph or a view of it
+	 * 
+	 * @return topological levels of DAG vertexes, {@code null} if the graph have a cycle
+	 */
+	static <T> List<List<T>> topologicalLevels(AbstractGraph<T> graph) {
+		GraphEvents.Run run = GraphEvents.start(graph.getAlgorithmListener(), graph);
+		long edgeScans = 0, maxFrontier = 0;
+		
+		CSRGraph<T> csr = graph.freeze();
+		
+		int n = csr.vertexCount();
+		int[] offsets = csr.offsets();
+		int[] targets = csr.targets();
+		
+		AtomicIntegerArray indegree = new AtomicIntegerArray(n);
+		
+		IntStream.range(0, n).parallel().forEach(u -> {
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+				if (csr.hasEdge(e))
+					indegree.incrementAndGet(targets[e]);
+		});
+		
+		int[] frontier = IntStream.range(0, n).filter(u -> csr.hasVertex(u) && indegree.get(u) == 0).toArray();
+		int[] next = new int[n];
+		int peeled = 0;
+		
+		List<List<T>> levels = new ArrayList<>();
+		
+		while (frontier.length > 0) {
+			List<T> level = new ArrayList<>(frontier.length);
+			
+			for (int u : frontier) {
+				level.add(csr.vertex(u));
+				edgeScans += csr.degree(u);
+			}
+			
+			levels.add(level);
+			peeled += frontier.length;
+			maxFrontier = Math.max(maxFrontier, frontier.length);
+			
+			AtomicInteger size = new AtomicInteger();
+			
+			new Wavefront(frontier, 0, frontier.length, csr, indegree, next, size).invoke();
+			
+			frontier = Arrays.copyOf(next, size.get());
+			
+			Arrays.sort(frontier);//the order they're peeled in is not deterministic
+		}
+		
+		boolean cyclic = peeled < csr.keptVertexCount();//unpeeled vertexes are on a cycle or behind one
+		
+		run.finish(cyclic ? "TopologicalLevels.Cyclic" : "TopologicalLevels", peeled, edgeScans, 0, 0, maxFrontier);
+		
+		return cyclic ? null : levels;
+	}
+	
 	/**
 	 * Computes all the graph's strongly connected components (SCC).
 	 * The SCC is a component of the directed graph where all of vertxes of the component are reachable to each other.
@@ -118,7 +345,19 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 	 * @return list of graph's SCCs
 	 */
 	public List<List<T>> getStronglyConnectedComponents() {
-		return new Kosaraju(this).sccs();
+		return getStronglyConnectedComponents(this);
+	}
+	
+	/**
+	 * Computes strongly connected components of a directed graph with Kosaraju's algorithm, it's shared with {@code DirectedSubgraphView}.
+	 * 
+	 * @param graph
+	 *        directed graph or a view of it
+	 * 
+	 * @return list of graph's SCCs
+	 */
+	static <T> List<List<T>> getStronglyConnectedComponents(AbstractGraph<T> graph) {
+		return new Kosaraju<>(graph).sccs();
 	}
 	
 	/**
@@ -140,6 +379,35 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 		return digraph;
 	}
 	
+	/**
+	 * Returns a read-only view of the vertexes and edges of the graph that pass the filters,
+	 * the view has the algorithms of the directed graph too.
+	 * 
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge, an edge is kept only if both of its vertexes are kept too
+	 * 
+	 * @return {@code DirectedSubgraphView} of the graph
+	 */
+	@Override
+	public DirectedSubgraphView<T> subgraph(Predicate<? super T> vertexFilter, Predicate<? super Edge<T>> edgeFilter) {
+		return new DirectedSubgraphView<>(this, vertexFilter, edgeFilter);
+	}
+	
+	/**
+	 * Returns a read-only view of the subgraph induced by the vertexes, the view has the algorithms of the directed graph too.
+	 * 
+	 * @param subset
+	 *        vertexes of the subgraph
+	 * 
+	 * @return {@code DirectedSubgraphView} of the graph
+	 */
+	@Override
+	public DirectedSubgraphView<T> inducedSubgraph(Collection<? extends T> subset) {
+		return (DirectedSubgraphView<T>) super.inducedSubgraph(subset);
+	}
+	
 	/**
 	 * Counts and returns number of directed edges in the graph.
 	 * 
@@ -147,7 +415,7 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 	 */
 	@Override
 	public int edgeCount() {
-		return edges.size();
+		return stats.edgeCount();
 	}
 	
 	/**
@@ -161,23 +429,88 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 		return true;
 	}
 	
+	/**
+	 * Adds a vertex in the graph.
+	 * 
+	 * @param vertex
+	 *        vertex to be added
+	 */
+	@Override
+	public void addVertex(T vertex) {
+		super.addVertex(vertex);
+		
+		if (incremental)
+			place(vertex);
+	}
+	
+	/**
+	 * Removes a vertex in the graph.
+	 * In incremental mode, the vertexes after it in the maintained ordering move one place down, it takes O(V) time.
+	 * 
+	 * @param vertex
+	 *        vertex to be removed
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex does not exist
+	 */
+	@Override
+	public void removeVertex(T vertex) {
+		Set<T> successors = adj.get(vertex);
+		
+		super.removeVertex(vertex);
+		
+		if (!incremental)
+			return;
+		
+		//removing a vertex never breaks the ordering, just close the gap it leaves
+		int position = ord.remove(vertex);
+		
+		order.remove(position);
+		
+		for (int i = position; i < order.size(); ++i)
+			ord.put(order.get(i), i);
+		
+		pred.remove(vertex);
+		
+		if (successors != null)
+			for (T s : successors)
+				if (pred.get(s) != null)
+					pred.get(s).remove(vertex);
+	}
+	
 	/**
 	 * Adds a directed edge to the graph.
 	 * 
 	 * @param u "from" vertex
 	 * @param v "to" vertex
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph is incremental and the edge (u, v) created a cycle
 	 */
 	@Override
 	public void addEdge(T u, T v) {
 		check(u, v);
 		
-		Edge<T> edge = new Edge<>(u, v);
-		
-		if (!edges.contains(edge))
-			edges.add(edge);
-		else
+		if (adj.containsKey(u) && adj.get(u).contains(v))
 			return;//the edge already exists, so do nothing
 		
+		if (incremental) {
+			if (u.equals(v))
+				throw new IllegalArgumentException("A newly added edge created a cycle!");
+			
+			place(u);
+			place(v);
+			
+			if (!reorder(u, v))
+				throw new IllegalArgumentException("A newly added edge created a cycle!");
+			
+			if (!pred.containsKey(v))
+				pred.put(v, new HashSet<>());
+			
+			pred.get(v).add(u);
+		}
+		
+		edges.add(new Edge<>(u, v));
+		stats.edgeAdded(u, v);
+		
 		vertexes.add(u);
 		vertexes.add(v);
 		
@@ -185,6 +518,7 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 			adj.put(u, new HashSet<>());
 		
 		adj.get(u).add(v);
+		++modCount;
 	}
 	
 	/**
@@ -199,28 +533,187 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 	public void removeEdge(T u, T v) {
 		check(u, v);
 		
+		if (adj.get(u) == null || !adj.get(u).remove(v))
+			return;//the edge does not exist
+		
 		Edge<T> lookfor = new Edge<>(u, v);
 		
 		edges = edges.parallelStream().filter(e -> !e.equals(lookfor)).collect(Collectors.toList());
+		stats.edgeRemoved(u, v);
+		++modCount;
+		
+		if (incremental && pred.get(v) != null)
+			pred.get(v).remove(u);
+	}
+	
+	/*
+	 * Appends a new vertex to the end of the maintained ordering.
+	 */
+	private void place(T vertex) {
+		if (ord.containsKey(vertex))
+			return;
+		
+		ord.put(vertex, order.size());
+		order.add(vertex);
+	}
+	
+	/*
+	 * Restores the topological ordering after inserting edge (u, v), Pearce-Kelly algorithm.
+	 * Only vertexes whose positions lie between v and u are explored:
+	 * forward from v (deltaF) and backward from u (deltaB), then both sets are
+	 * shuffled into the positions they already occupy, deltaB first.
+	 * Returns false if the edge would create a cycle, the ordering is left untouched in that case.
+	 */
+	private boolean reorder(T u, T v) {
+		int lb = ord.get(v);
+		int ub = ord.get(u);
+		
+		if (lb > ub)
+			return true;//the ordering is still valid
+		
+		List<T> deltaF = new ArrayList<>();
+		List<T> deltaB = new ArrayList<>();
+		
+		Set<T> visited = new HashSet<>();
+		Deque<T> stack = new ArrayDeque<>();
+		
+		visited.add(v);
+		stack.push(v);
+		
+		while (!stack.isEmpty()) {
+			T w = stack.pop();
+			
+			deltaF.add(w);
+			
+			if (adj.get(w) != null)
+				for (T x : adj.get(w)) {
+					int position = ord.get(x);
+					
+					if (position == ub)
+						return false;//u is reachable from v, cycle found!
+					
+					if (position < ub && !visited.contains(x)) {
+						visited.add(x);
+						stack.push(x);
+					}
+				}
+		}
+		
+		visited.clear();
+		visited.add(u);
+		stack.push(u);
+		
+		while (!stack.isEmpty()) {
+			T w = stack.pop();
+			
+			deltaB.add(w);
+			
+			if (pred.get(w) != null)
+				for (T x : pred.get(w))
+					if (ord.get(x) > lb && !visited.contains(x)) {
+						visited.add(x);
+						stack.push(x);
+					}
+		}
+		
+		Comparator<T> byPosition = Comparator.comparing(ord::get);
+		
+		deltaB.sort(byPosition);
+		deltaF.sort(byPosition);
+		
+		List<T> affected = new ArrayList<>(deltaB);
+		List<Integer> positions = new ArrayList<>();
+		
+		affected.addAll(deltaF);
+		
+		for (T w : affected)
+			positions.add(ord.get(w));
+		
+		Collections.sort(positions);
+		
+		for (int i = 0; i < affected.size(); ++i) {
+			ord.put(affected.get(i), positions.get(i));
+			order.set(positions.get(i), affected.get(i));
+		}
+		
+		return true;
+	}
+	
+	/*
+	 * A nested class to peel one topological level in parallel,
+	 * the range of frontier vertexes is split until it's small enough.
+	 */
+	private static class Wavefront extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		
+		static final int THRESHOLD = 512;
+		
+		int[] frontier;
+		int from;
+		int to;
+		
+		CSRGraph<?> graph;
+		AtomicIntegerArray indegree;
+		
+		int[] next;
+		AtomicInteger size;
+		
+		Wavefront(int[] frontier, int from, int to, CSRGraph<?> graph, AtomicIntegerArray indegree, int[] next, AtomicInteger size) {
+			this.frontier = frontier;
+			this.from = from;
+			this.to = to;
+			this.graph = graph;
+			this.indegree = indegree;
+			this.next = next;
+			this.size = size;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from > THRESHOLD) {
+				int mid = (from + to) >>> 1;
+				
+				invokeAll(new Wavefront(frontier, from, mid, graph, indegree, next, size),
+						  new Wavefront(frontier, mid, to, graph, indegree, next, size));
+				
+				return;
+			}
+			
+			int[] offsets = graph.offsets();
+			int[] targets = graph.targets();
+			
+			for (int i = from; i < to; ++i) {
+				int u = frontier[i];
+				
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+					if (graph.hasEdge(e) && indegree.decrementAndGet(targets[e]) == 0)//the last predecessor is done, exactly one thread sees zero
+						next[size.getAndIncrement()] = targets[e];
+			}
+		}
 	}
 	
 	/*
 	 * A nested class to hold methods of Kosaraju's
 	 * SCC algorithm, it's a bit complex.
 	 */
-	private class Kosaraju {
-		DirectedGraph<T> digraph;
+	private static class Kosaraju<T> {
+		AbstractGraph<T> digraph;
 		
 		Set<T> vertexes;
 		Map<T, Set<T>> adj;
 		
-		Kosaraju(DirectedGraph<T> digraph) {
+		long visits, edgeScans;
+		int depth, maxDepth;//recursion depth is the frontier of a recursive DFS
+		
+		Kosaraju(AbstractGraph<T> digraph) {
 			this.digraph = digraph;
 			vertexes = digraph.getVertexes();
 			adj = digraph.getAdjacencyList();
 		}
 		
 		List<List<T>> sccs() {
+			GraphEvents.Run run = GraphEvents.start(digraph.getAlgorithmListener(), digraph);
+			
 			Set<T> visited = new HashSet<>();
 			Stack<T> stack = new Stack<>();
 			
@@ -229,7 +722,7 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 					DFS1(vertex, visited, stack);
 			
 			visited.clear();
-			adj = digraph.transpose().getAdjacencyList();
+			adj = transpose();
 			
 			List<List<T>> sccs = new ArrayList<>();
 			
@@ -245,28 +738,57 @@ public class DirectedGraph<T> extends AbstractGraph<T> implements Graph<T>, Iter
 				}
 			}
 			
+			run.finish("Kosaraju", visits, edgeScans, 0, 0, maxDepth);
+			
 			return sccs;
 		}
 		
+		/*
+		 * Reverses the adjacency list, it works on a view too unlike DirectedGraph.transpose().
+		 */
+		Map<T, Set<T>> transpose() {
+			Map<T, Set<T>> transposed = new HashMap<>();
+			
+			for (T u : vertexes)
+				if (adj.get(u) != null)
+					for (T v : adj.get(u))
+						transposed.computeIfAbsent(v, key -> new HashSet<>()).add(u);
+			
+			return transposed;
+		}
+		
 		void DFS1(T u, Set<T> visited, Stack<T> stack) {
 			visited.add(u);
+			++visits;
+			maxDepth = Math.max(maxDepth, ++depth);
 			
 			if (adj.get(u) != null)
-				for (T v : adj.get(u))
+				for (T v : adj.get(u)) {
+					++edgeScans;
+					
 					if (!visited.contains(v))
 						DFS1(v, visited, stack);
+				}
 			
+			--depth;
 			stack.push(u);
 		}
 		
 		void DFS2(T u, Set<T> visited, List<T> scc) {
 			visited.add(u);
 			scc.add(u);
+			++visits;
+			maxDepth = Math.max(maxDepth, ++depth);
 			
 			if (adj.get(u) != null)
-				for (T v : adj.get(u))
+				for (T v : adj.get(u)) {
+					++edgeScans;
+					
 					if (!visited.contains(v))
 						DFS2(v, visited, scc);
+				}
+			
+			--depth;
 		}
 	}
 }
@@ -0,0 +1,104 @@
+import java.util.Collection;
+import java.util.List;
+
+import java.util.function.Predicate;
+
+/**
+ * The {@code DirectedSubgraphView} is a {@code SubgraphView} of a {@code DirectedGraph}, it has the algorithms
+ * of the directed graph too, they're shared with {@code DirectedGraph} and run on the view directly.
+ * 
+ * @param <T> type of vertex
+ * 
+ * @author agent
+ * @see DirectedGraph#subgraph(Predicate, Predicate)
+ * @see SubgraphView
+ * @version 1.0 (10/19/2026)
+ */
+public class DirectedSubgraphView<T> extends SubgraphView<T> {
+	/**
+	 * Creates a view of the vertexes and edges of a directed graph that pass the filters.
+	 * 
+	 * @param graph
+	 *        the underlying graph, a {@code DirectedGraph} or a view of it
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph is not directed
+	 */
+	public DirectedSubgraphView(AbstractGraph<T> graph, Predicate<? super T> vertexFilter, Predicate<? super Edge<T>> edgeFilter) {
+		super(graph, vertexFilter, edgeFilter);
+		
+		if (!graph.isDirected())
+			throw new IllegalArgumentException("The graph is not directed!");
+	}
+	
+	/**
+	 * Returns {@code boolean} value to indicate if the view have a cycle.
+	 * 
+	 * @return {@code true} if the view have a cycle else {@code false}
+	 * @see DirectedGraph#isCyclic()
+	 */
+	public boolean isCyclic() {
+		return DirectedGraph.isCyclic(this);
+	}
+	
+	/**
+	 * Returns topological ordering of the view if it's acyclic.
+	 * 
+	 * @return topological ordering of the vertexes, {@code null} if the view have a cycle
+	 * @see DirectedGraph#topologicalSort()
+	 */
+	public List<T> topologicalSort() {
+		return DirectedGraph.topologicalSort(this);
+	}
+	
+	/**
+	 * Groups vertexes of the view into topological levels if it's acyclic.
+	 * 
+	 * @return topological levels of the vertexes, {@code null} if the view have a cycle
+	 * @see DirectedGraph#topologicalLevels()
+	 */
+	public List<List<T>> topologicalLevels() {
+		return DirectedGraph.topologicalLevels(this);
+	}
+	
+	/**
+	 * Computes all strongly connected components (SCC) of the view.
+	 * 
+	 * @return list of the view's SCCs
+	 * @see DirectedGraph#getStronglyConnectedComponents()
+	 */
+	public List<List<T>> getStronglyConnectedComponents() {
+		return DirectedGraph.getStronglyConnectedComponents(this);
+	}
+	
+	/**
+	 * Returns a read-only view of the vertexes and edges of this view that pass the filters.
+	 * 
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge, an edge is kept only if both of its vertexes are kept too
+	 * 
+	 * @return {@code DirectedSubgraphView} of the view
+	 */
+	@Override
+	public DirectedSubgraphView<T> subgraph(Predicate<? super T> vertexFilter, Predicate<? super Edge<T>> edgeFilter) {
+		return new DirectedSubgraphView<>(this, vertexFilter, edgeFilter);
+	}
+	
+	/**
+	 * Returns a read-only view of the subgraph of this view induced by the vertexes.
+	 * 
+	 * @param subset
+	 *        vertexes of the subgraph
+	 * 
+	 * @return {@code DirectedSubgraphView} of the view
+	 */
+	@Override
+	public DirectedSubgraphView<T> inducedSubgraph(Collection<? extends T> subset) {
+		return (DirectedSubgraphView<T>) super.inducedSubgraph(subset);
+	}
+}
@@ -61,7 +61,7 @@ public class DisjointSetUnion<T> {
 	
 	private T findUtil(T x) {
 		if (!x.equals(parent.get(x)))//if (x != parent[x])
-			parent.put(parent.get(x), find(parent.get(x)));//parent[x] = find(parent[x]);
+			parent.put(x, find(parent.get(x)));//parent[x] = find(parent[x]);
 		
 		return parent.get(x);//return parent[x];
 	}
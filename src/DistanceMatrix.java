@@ -0,0 +1,129 @@
+/**
+ * The {@code DistanceMatrix} holds distances between all pairs of vertexes of a graph
+ * in a single primitive array, row u is the distances from vertex u.
+ * Vertexes are indexed the same way as in the {@code CSRGraph} snapshot the matrix was computed from.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#allPairsShortestPaths(DistanceMatrix.Mode)
+ * @see AbstractWeightedGraph#allPairsShortestPaths(DistanceMatrix.Mode)
+ * @version 1.0 (10/19/2026)
+ */
+public class DistanceMatrix<T> {
+	/**
+	 * An enumeration of all pairs shortest paths algorithms.
+	 * 
+	 * {@code Mode.FLOYD_WARSHALL} means cache blocked parallel Floyd-Warshall algorithm, it's O(V^3) but it's the fastest for dense graphs
+	 * and it allows negative weights
+	 * {@code Mode.PER_SOURCE} means a BFS (unweighted graphs) or Dijkstra's algorithm (weighted graphs) from every vertex in parallel,
+	 * it's the fastest for sparse graphs
+	 * {@code Mode.AUTO} means pick one of them based on density and weights of the graph
+	 */
+	public enum Mode{AUTO, FLOYD_WARSHALL, PER_SOURCE};
+	
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Number of vertexes
+	 */
+	private int n;
+	
+	/**
+	 * Distance from vertex i to vertex j is at {@code i * n + j}, {@code WeightedGraph.INF} or more if there's no path
+	 */
+	private int[] dist;
+	
+	DistanceMatrix(CSRGraph<T> graph, int[] dist) {
+		this.graph = graph;
+		this.n = graph.vertexCount();
+		this.dist = dist;
+	}
+	
+	/**
+	 * Returns number of vertexes, the matrix is size x size.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int size() {
+		return n;
+	}
+	
+	/**
+	 * Returns index of a vertex in the matrix.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return index of the vertex, -1 if it DNE
+	 */
+	public int indexOf(T vertex) {
+		return graph.indexOf(vertex);
+	}
+	
+	/**
+	 * Returns the vertex with an index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return vertex
+	 */
+	public T vertex(int i) {
+		return graph.vertex(i);
+	}
+	
+	/**
+	 * Returns distance between vertexes by their indexes.
+	 * 
+	 * @param i
+	 *        index of "from" vertex
+	 * @param j
+	 *        index of "to" vertex
+	 * 
+	 * @return shortest path between the vertexes, -1 if there's no such path
+	 */
+	public int distance(int i, int j) {
+		if (i < 0 || i >= n || j < 0 || j >= n)
+			throw new IndexOutOfBoundsException();
+		
+		int d = dist[i * n + j];
+		
+		return d >= WeightedGraph.INF ? -1 : d;
+	}
+	
+	/**
+	 * Returns distance between vertexes.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * 
+	 * @return shortest path between the vertexes, -1 if there's no such path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public int distance(T u, T v) {
+		int i = indexOf(u);
+		int j = indexOf(v);
+		
+		if (i < 0 || j < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return distance(i, j);
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code DistanceMatrix} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "DistanceMatrix[size=" + n + "]";
+	}
+}
@@ -85,7 +85,7 @@ public class Edge<T> {
 	 */
 	@Override
 	public int hashCode() {
-		return from.hashCode() ^ to.hashCode();
+		return 31 * from.hashCode() + to.hashCode();
 	}
 	
 	/**
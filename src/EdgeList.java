@@ -0,0 +1,317 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code EdgeList} is a compact list of edges between integer vertexes 0 to n - 1 stored in primitive arrays.
+ * It's what {@code GraphGenerator} produces, it can be loaded into {@code DirectedGraph}, {@code Forest} and {@code Network},
+ * frozen straight into a {@code CSRGraph} when it's too big for adjacency maps, or saved in a binary format.
+ * 
+ * The binary format is: magic number, version, number of vertexes, number of edges, a weighted flag,
+ * then "from" vertex, "to" vertex (and weight) of each edge, all big endian.
+ * 
+ * @author agent
+ * @see GraphGenerator
+ * @version 1.0 (10/19/2026)
+ */
+public class EdgeList {
+	/**
+	 * Magic number of the binary format ("GRPH")
+	 */
+	private static final int MAGIC = 0x47525048;
+	
+	/**
+	 * Version of the binary format
+	 */
+	private static final int VERSION = 1;
+	
+	/**
+	 * Number of vertexes
+	 */
+	private int n;
+	
+	/**
+	 * "from" and "to" vertexes of the edges
+	 */
+	private int[] sources, targets;
+	
+	/**
+	 * Edge weights, {@code null} if the edges are unweighted
+	 */
+	private int[] weights;
+	
+	/**
+	 * Creates a new {@code EdgeList} object, the arrays are taken as they are.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param sources
+	 *        "from" vertex of each edge
+	 * @param targets
+	 *        "to" vertex of each edge
+	 * @param weights
+	 *        weight of each edge, {@code null} if the edges are unweighted
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the arrays differ in length
+	 */
+	public EdgeList(int n, int[] sources, int[] targets, int[] weights) {
+		Objects.requireNonNull(sources);
+		Objects.requireNonNull(targets);
+		
+		if (n < 0 || sources.length != targets.length || (weights != null && weights.length != sources.length))
+			throw new IllegalArgumentException("Edge arrays don't match!");
+		
+		this.n = n;
+		this.sources = sources;
+		this.targets = targets;
+		this.weights = weights;
+	}
+	
+	/**
+	 * Returns number of vertexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int vertexCount() {
+		return n;
+	}
+	
+	/**
+	 * Returns number of edges.
+	 * 
+	 * @return number of edges
+	 */
+	public int edgeCount() {
+		return sources.length;
+	}
+	
+	/**
+	 * Returns "from" vertexes of the edges. The array is shared, don't modify it.
+	 * 
+	 * @return "from" vertexes
+	 */
+	public int[] sources() {
+		return sources;
+	}
+	
+	/**
+	 * Returns "to" vertexes of the edges. The array is shared, don't modify it.
+	 * 
+	 * @return "to" vertexes
+	 */
+	public int[] targets() {
+		return targets;
+	}
+	
+	/**
+	 * Returns weights of the edges. The array is shared, don't modify it.
+	 * 
+	 * @return edge weights, {@code null} if the edges are unweighted
+	 */
+	public int[] weights() {
+		return weights;
+	}
+	
+	/**
+	 * Gives every edge a random weight in range [min, max], the same seed always gives the same weights.
+	 * Weights are drawn in parallel.
+	 * 
+	 * @param min
+	 *        smallest weight
+	 * @param max
+	 *        largest weight
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return this {@code EdgeList} object
+	 */
+	public EdgeList randomWeights(int min, int max, long seed) {
+		if (min > max)
+			throw new IllegalArgumentException("min > max");
+		
+		int[] weights = new int[sources.length];
+		int chunks = GraphGenerator.chunks(weights.length);
+		
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			SplittableRandom random = GraphGenerator.random(seed, chunk);
+			
+			for (int e = chunk * GraphGenerator.CHUNK, end = Math.min(weights.length, e + GraphGenerator.CHUNK); e < end; ++e)
+				weights[e] = min + (int) random.nextLong((long) max - min + 1);
+		});
+		
+		this.weights = weights;
+		
+		return this;
+	}
+	
+	/**
+	 * Loads the edges into a new {@code DirectedGraph} object, vertexes without edges are added too.
+	 * The graph is filled in bulk, its collections are sized once instead of growing edge by edge.
+	 * 
+	 * @return {@code DirectedGraph} object
+	 */
+	public DirectedGraph<Integer> toDirectedGraph() {
+		GraphEvents.Mutation event = GraphEvents.mutation();
+		
+		DirectedGraph<Integer> graph = new DirectedGraph<>(vertexes(), sources, targets);
+		
+		GraphEvents.report(event, "ingest", graph, graph.vertexCount(), graph.edgeCount(), sources.length);
+		
+		return graph;
+	}
+	
+	/**
+	 * Loads the edges into a new {@code Forest} object, vertexes without edges are added too.
+	 * The forest is filled in bulk, its collections are sized once instead of growing edge by edge.
+	 * 
+	 * @return {@code Forest} object
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the edges have a cycle
+	 */
+	public Forest<Integer> toForest() {
+		GraphEvents.Mutation event = GraphEvents.mutation();
+		
+		Forest<Integer> forest = new Forest<>(vertexes(), sources, targets);
+		
+		GraphEvents.report(event, "ingest", forest, forest.vertexCount(), forest.edgeCount(), sources.length);
+		
+		return forest;
+	}
+	
+	/**
+	 * Loads the edges into a new {@code Network} object, vertexes without edges are added too.
+	 * Unweighted edges get weight 1. The network is filled in bulk, its collections are sized once instead of growing edge by edge.
+	 * 
+	 * @param directed
+	 *        are the edges directed?
+	 * 
+	 * @return {@code Network} object
+	 */
+	public Network<Integer> toNetwork(boolean directed) {
+		GraphEvents.Mutation event = GraphEvents.mutation();
+		
+		Network<Integer> network = new Network<>(vertexes(), sources, targets, weights, directed);
+		
+		GraphEvents.report(event, "ingest", network, network.vertexCount(), network.edgeCount(), sources.length);
+		
+		return network;
+	}
+	
+	/*
+	 * Boxed vertexes 0 to n - 1, index i holds vertex i.
+	 */
+	private Integer[] vertexes() {
+		Integer[] vertexes = new Integer[n];
+		
+		for (int i = 0; i < n; ++i)
+			vertexes[i] = i;
+		
+		return vertexes;
+	}
+	
+	/**
+	 * Freezes the edges straight into a {@code CSRGraph}, it skips adjacency maps
+	 * so it's the way to go for graphs with hundreds of millions of edges.
+	 * 
+	 * @param directed
+	 *        are the edges directed?
+	 * 
+	 * @return {@code CSRGraph} snapshot of the edges
+	 */
+	public CSRGraph<Integer> toCSR(boolean directed) {
+		GraphEvents.Mutation event = GraphEvents.mutation();
+		
+		CSRGraph<Integer> csr = CSRGraph.of(n, sources, targets, weights, directed);
+		
+		GraphEvents.report(event, "ingest", csr, csr.vertexCount(), csr.edgeCount(), sources.length);
+		
+		return csr;
+	}
+	
+	/**
+	 * Writes the edges in the binary format, the stream is not closed.
+	 * 
+	 * @param out
+	 *        output stream
+	 * 
+	 * @throws IOException if it can't be written
+	 */
+	public void write(OutputStream out) throws IOException {
+		Objects.requireNonNull(out);
+		
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+		
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		data.writeInt(n);
+		data.writeInt(sources.length);
+		data.writeBoolean(weights != null);
+		
+		for (int e = 0; e < sources.length; ++e) {
+			data.writeInt(sources[e]);
+			data.writeInt(targets[e]);
+			
+			if (weights != null)
+				data.writeInt(weights[e]);
+		}
+		
+		data.flush();
+	}
+	
+	/**
+	 * Reads edges written by {@code write}, the stream is not closed.
+	 * 
+	 * @param in
+	 *        input stream
+	 * 
+	 * @return {@code EdgeList} object
+	 * 
+	 * @throws IOException if it can't be read or it's not in the binary format
+	 */
+	public static EdgeList read(InputStream in) throws IOException {
+		Objects.requireNonNull(in);
+		
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+		
+		if (data.readInt() != MAGIC || data.readInt() != VERSION)
+			throw new IOException("Not an edge list!");
+		
+		int n = data.readInt();
+		int m = data.readInt();
+		boolean weighted = data.readBoolean();
+		
+		if (n < 0 || m < 0)
+			throw new IOException("Corrupted edge list!");
+		
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		int[] weights = weighted ? new int[m] : null;
+		
+		for (int e = 0; e < m; ++e) {
+			sources[e] = data.readInt();
+			targets[e] = data.readInt();
+			
+			if (weighted)
+				weights[e] = data.readInt();
+		}
+		
+		return new EdgeList(n, sources, targets, weights);
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code EdgeList} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "EdgeList[vertexes=" + n + ", edges=" + sources.length + ", weighted=" + (weights != null) + "]";
+	}
+}
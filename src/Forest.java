@@ -1,14 +1,11 @@
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Objects;
 import java.util.Set;
 
-import java.util.stream.Collectors;
-
 /**
  * A {@code Forest} represents an undirected graph without cycles.
  * 
@@ -22,16 +19,28 @@ import java.util.stream.Collectors;
  */
 public class Forest<T> extends AbstractGraph<T> implements Graph<T>, IterableGraph<T> {
 	/**
-	 * An enumeration of colours used for bipartite graph checking.
+	 * Since the forest is an acyclic graph,
+	 * This data structure will ensure the graph have no cycles.
+	 * It's better than checking if the graph have cycles with DFS each time,
+	 * and unlike a union find it follows removed edges too.
 	 */
-	private enum Colour{UNCOLOURED, WHITE, BLACK};
+	private LinkCutTree<T> tree;
 	
 	/**
-	 * Since the forest is an acyclic graph,
-	 * This data structure will ensure the graph have no cycles.
-	 * It's better than checking if the graph have cycles with DFS each time.
+	 * Position of every edge in the collection of edges, both directions of an edge are there,
+	 * so an edge is removed in O(1) time by moving the last edge into its place
+	 */
+	private Map<Edge<T>, Integer> positions;
+	
+	/**
+	 * Cached LCA index of the forest, it belongs to the snapshot it was built from
+	 */
+	private TreeIndex<T> index;
+	
+	/**
+	 * Roots chosen with {@link #setRoot(Object)} in order they were chosen
 	 */
-	private DisjointSetUnion<T> dsu;
+	private List<T> roots;
 	
 	/**
 	 * A single default constructor creates new Forest.
@@ -39,124 +48,270 @@ public class Forest<T> extends AbstractGraph<T> implements Graph<T>, IterableGra
 	public Forest() {
 		super();
 		
-		dsu = new DisjointSetUnion<>();
+		tree = new LinkCutTree<>();
+		positions = new HashMap<>();
+		roots = new ArrayList<>();
+		stats = new GraphStatistics<>(false);
 	}
 	
 	/**
-	 * Bipartite graph is a graph whose vertexes can be divided into two sets where vertexes
-	 * in each set cannot have an edge each other, the bipartite graph is also known as "two colourable" graph.
-	 * To check if the graph is bipartite, BFS is used.
+	 * Creates a {@code Forest} object straight from arrays of edges, it's used for bulk loading.
+	 * Vertex i is {@code vertexes[i]} and edge e joins {@code vertexes[sources[e]]} and {@code vertexes[targets[e]]},
+	 * all vertexes are added and duplicate edges are added once, just like {@code addEdge} would do.
+	 * The collections are sized up front and filled directly without the lookups of {@code addEdge}.
+	 * 
+	 * @param vertexes
+	 *        vertex of each index
+	 * @param sources
+	 *        first vertex index of each edge
+	 * @param targets
+	 *        second vertex index of each edge
 	 * 
-	 * @return {@code true} if the forest is bipartite {@code false} otherwise
+	 * @throw java.lang.IllegalArgumentException if the edges have a cycle
 	 */
-	public boolean isBipartite() {
-		Set<T> visited = new HashSet<>();
-		Map<T, Colour> colour = new HashMap<>();
+	Forest(T[] vertexes, int[] sources, int[] targets) {
+		this();
 		
-		Boolean bipartite = true;
+		int n = vertexes.length;
+		int[] degree = new int[n];
 		
-		for (T vertex : vertexes)
-			colour.put(vertex, Colour.UNCOLOURED);
+		for (int e = 0; e < sources.length; ++e) {
+			++degree[sources[e]];
+			++degree[targets[e]];
+		}
 		
-		for (T vertex : vertexes)//because the graph might be disconnected, so BFS all
-			if (!visited.contains(vertex))
-				BFS(vertex, visited, colour, bipartite);
+		this.vertexes = new HashSet<>(capacity(n));
+		adj = new HashMap<>(capacity(n));
+		edges = new ArrayList<>(2 * sources.length);
+		positions = new HashMap<>(capacity(2 * sources.length));
 		
-		return bipartite;
-	}
-	
-	private void BFS(T src, Set<T> visited, Map<T, Colour> colour, Boolean bipartite) {
-		Queue<T> Q = new ArrayDeque<>();//it might not work with earlier versions of Java, use java.util.LinkedList if necessary
+		for (T vertex : vertexes) {
+			this.vertexes.add(vertex);
+			stats.vertexAdded(vertex);
+		}
 		
-		visited.add(src);
-		colour.put(src, Colour.WHITE);
-		Q.add(src);
+		@SuppressWarnings("unchecked")
+		Set<T>[] neighbours = new Set[n];
+		
+		for (int u = 0; u < n; ++u)
+			if (degree[u] > 0) {
+				neighbours[u] = new HashSet<>(capacity(degree[u]));
+				adj.put(vertexes[u], neighbours[u]);
+			}
 		
-		while (!Q.isEmpty()) {
-			T u = Q.poll();
+		for (int e = 0; e < sources.length; ++e) {
+			int u = sources[e];
+			int v = targets[e];
 			
-			if (adj.get(u) == null)
-				continue;
+			if (neighbours[u].contains(vertexes[v]))
+				continue;//the edge already exists
 			
-			for (T v : adj.get(u)) {
-				if (colour.get(u) == colour.get(v)) {//if an edge have vertexes share same colour
-					bipartite = false;
-					return;
-				}
-				
-				colour.put(v, (colour.get(u) == Colour.WHITE) ? Colour.BLACK : Colour.WHITE);
-				
-				if (!visited.contains(v)) {
-					visited.add(v);
-					Q.add(v);
-				}
-			}
+			if (!tree.link(vertexes[u], vertexes[v]))
+				throw new IllegalArgumentException("A newly added edge created a cycle!");
+			
+			neighbours[u].add(vertexes[v]);
+			neighbours[v].add(vertexes[u]);
+			
+			index(new Edge<>(vertexes[u], vertexes[v]));
+			index(new Edge<>(vertexes[v], vertexes[u]));
 		}
 	}
 	
 	/**
-	 * Finds all connected components in a graph.
+	 * Finds all connected components in a graph with {@link #components()}.
 	 * 
 	 * @return List of connected components of the graph
 	 */
 	public List<List<T>> getConnectedComponents() {
-		List<List<T>> connectedComponents = new ArrayList<>();
+		return components().members();
+	}
+	
+	/**
+	 * Checks if two vertexes are in the same tree, it takes O(log n) amortized time on the dynamic tree
+	 * that keeps the forest acyclic, so it needs no rebuild after edges are added or removed.
+	 * 
+	 * @param u
+	 *        first vertex
+	 * @param v
+	 *        second vertex
+	 * 
+	 * @return {@code true} if the vertexes are connected {@code false} otherwise
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public boolean connected(T u, T v) {
+		check(u, v);
 		
-		Set<T> visited = new HashSet<>();
+		if (!contains(u) || !contains(v))
+			throw new IllegalArgumentException("The vertex does not exist!");
 		
-		for (T vertex : vertexes)
-			if (!visited.contains(vertex)) {
-				visited.add(vertex);
-				
-				List<T> component = new ArrayList<>();
-				
-				DFS(vertex, visited, component);
-				
-				connectedComponents.add(component);
-			}
+		return tree.connected(u, v);
+	}
+	
+	/**
+	 * Roots the tree of a vertex at the vertex, it changes answers of {@link #lca(Object, Object)}, {@link #depth(Object)}
+	 * and {@link #root(Object)} of the tree. A tree without a chosen root is rooted at its first vertex in {@code freeze()}.
+	 * If edges join trees with chosen roots later, the root chosen last is kept, the other one is used again once they're cut apart.
+	 * 
+	 * @param vertex
+	 *        new root of its tree
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public void setRoot(T vertex) {
+		check(vertex);
 		
-		return connectedComponents;
+		if (!contains(vertex))
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		roots.remove(vertex);
+		roots.add(vertex);//earlier roots of the same tree stay, the index skips them since the root chosen last goes first
+		index = null;//the snapshot stays the same, so the index has to be dropped
 	}
 	
-	private void DFS(T u, Set<T> visited, List<T> component) {
-		visited.add(u);
-		component.add(u);
+	/**
+	 * Returns lowest common ancestor of two vertexes, every tree of the forest is rooted at the vertex chosen with {@link #setRoot(Object)}
+	 * or else at its first vertex in {@code freeze()}. Queries take O(1) time on an index built with a DFS preorder and a sparse table
+	 * of the shallowest vertex of every range, the index is built lazily and rebuilt after the forest is modified or a root is chosen.
+	 * 
+	 * @param u
+	 *        first vertex
+	 * @param v
+	 *        second vertex
+	 * 
+	 * @return the deepest vertex that is an ancestor of both vertexes, {@code null} if they are in different trees
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public T lca(T u, T v) {
+		TreeIndex<T> index = treeIndex();
+		int lca = index.lca(indexOf(index, u), indexOf(index, v));
 		
-		if (adj.get(u) == null)
-			return;
+		return lca < 0 ? null : index.graph.vertex(lca);
+	}
+	
+	/**
+	 * Returns depth of a vertex in its tree, the root have depth 0. It takes O(1) time.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return depth of the vertex
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 * @see #lca(Object, Object)
+	 */
+	public int depth(T vertex) {
+		TreeIndex<T> index = treeIndex();
 		
-		for (T v : adj.get(u))
-			if (!visited.contains(v)) {
-				visited.add(v);
-				
-				DFS(v, visited, component);
-			}
+		return index.depth(indexOf(index, vertex));
 	}
 	
 	/**
-	 * Counts and returns number of undirected edges in the graph.
+	 * Returns root of the tree of a vertex, it's the vertex chosen with {@link #setRoot(Object)} or else the first vertex of the tree in {@code freeze()}.
+	 * It takes O(1) time.
 	 * 
-	 * @return number of edges
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return root of the tree
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 * @see #lca(Object, Object)
+	 */
+	public T root(T vertex) {
+		TreeIndex<T> index = treeIndex();
+		
+		return index.graph.vertex(index.root(indexOf(index, vertex)));
+	}
+	
+	/**
+	 * Returns number of edges on the path between two vertexes. It takes O(1) time.
+	 * 
+	 * @param u
+	 *        first vertex
+	 * @param v
+	 *        second vertex
+	 * 
+	 * @return distance between the vertexes, -1 if they are in different trees
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 * @see #lca(Object, Object)
+	 */
+	public int distance(T u, T v) {
+		TreeIndex<T> index = treeIndex();
+		
+		return index.distance(indexOf(index, u), indexOf(index, v));
+	}
+	
+	/**
+	 * Computes a shortest path between vertexes u and v, the only path between vertexes of a tree.
+	 * It takes O(1) time with the index of {@link #distance(Object, Object)} instead of BFS.
+	 * 
+	 * @param u
+	 *        source vertex
+	 * @param v
+	 *        destination vertex
+	 * 
+	 * @return shortest path between vertexes u and v if exists else -1
 	 */
 	@Override
-	public int edgeCount() {
-		Set<Edge<T>> set = new HashSet<>();//make sure no edges are counted twice
+	public int shortestPath(T u, T v) {
+		check(u, v);
 		
-		int total = 0;
+		TreeIndex<T> index = treeIndex();
+		int i = index.graph.indexOf(u);
+		int j = index.graph.indexOf(v);
 		
-		for (Edge<T> edge : edges) {
-			T u = edge.getU();
-			T v = edge.getV();
+		if (i < 0 || j < 0)
+			return u.equals(v) ? 0 : -1;
+		
+		return index.distance(i, j);
+	}
+	
+	/*
+	 * Returns the tree index of the current snapshot, it's rebuilt only if the forest was modified.
+	 */
+	private TreeIndex<T> treeIndex() {
+		CSRGraph<T> graph = freeze();
+		TreeIndex<T> index = this.index;
+		
+		if (index == null || index.graph != graph) {
+			GraphEvents.Run run = GraphEvents.start(listener, this);
 			
-			Edge<T> reverse = new Edge<>(v, u);
+			int[] roots = new int[this.roots.size()];
 			
-			if (!set.contains(reverse)) {
-				total++;
-				set.add(edge);
-			}
+			for (int i = 0; i < roots.length; ++i)
+				roots[i] = graph.indexOf(this.roots.get(roots.length - 1 - i));//the root chosen last goes first
+			
+			index = new TreeIndex<>(graph, roots);
+			this.index = index;
+			
+			run.finish("TreeIndex", graph.vertexCount(), graph.edgeCount(), 0, 0, 0);
 		}
 		
-		return total;
+		return index;
+	}
+	
+	private int indexOf(TreeIndex<T> index, T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = index.graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return i;
+	}
+	
+	/**
+	 * Counts and returns number of undirected edges in the graph.
+	 * 
+	 * @return number of edges
+	 */
+	@Override
+	public int edgeCount() {
+		return stats.edgeCount();
 	}
 	
 	/**
@@ -184,12 +339,12 @@ public class Forest<T> extends AbstractGraph<T> implements Graph<T>, IterableGra
 		
 		Edge<T> edge = new Edge<>(u, v);
 		
-		if (!edges.contains(edge)) {
-			if (!dsu.union(u, v))
+		if (!adj.containsKey(u) || !adj.get(u).contains(v)) {//the adjacency list is much faster to look up than the edges
+			if (!tree.link(u, v))
 				throw new IllegalArgumentException("A newly added edge created a cycle!");
 			
-			edges.add(edge);
-			edges.add(new Edge<>(v, u));//don't forgot another edge since it's undirected graph!
+			index(edge);
+			index(new Edge<>(v, u));//don't forgot another edge since it's undirected graph!
 		} else
 			return;//the edge already exists, so do nothing
 		
@@ -204,10 +359,11 @@ public class Forest<T> extends AbstractGraph<T> implements Graph<T>, IterableGra
 		
 		adj.get(u).add(v);
 		adj.get(v).add(u);
+		++modCount;
 	}
 	
 	/**
-	 * Removes an edge in the graph.
+	 * Removes an edge in the graph, it takes O(log n) amortized time. Nothing happens if the edge does not exist.
 	 * 
 	 * @param u
 	 *        "from" vertex
@@ -218,10 +374,83 @@ public class Forest<T> extends AbstractGraph<T> implements Graph<T>, IterableGra
 	public void removeEdge(T u, T v) {
 		check(u, v);
 		
-		Edge<T> lookfor = new Edge<>(u, v);
-		Edge<T> reverse = new Edge<>(v, u);
+		if (adj.get(u) == null || !adj.get(u).remove(v))
+			return;//the edge does not exist, so the graph is unchanged
+		
+		adj.get(v).remove(u);
+		
+		unindex(new Edge<>(u, v));
+		unindex(new Edge<>(v, u));
+		
+		tree.cut(u, v);
+		++modCount;
+	}
+	
+	/**
+	 * Removes a vertex in the graph, its edges are cut from the dynamic tree first and it's no longer a chosen root.
+	 * It takes time proportional to the degree of the vertex instead of scanning all edges.
+	 * 
+	 * @param vertex
+	 *        vertex to be removed
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex does not exist
+	 */
+	@Override
+	public void removeVertex(T vertex) {
+		check(vertex);
+		
+		if (!contains(vertex))
+			throw new IllegalArgumentException();
+		
+		GraphEvents.Mutation event = GraphEvents.mutation();
+		
+		int edgeCount = edgeCount();
+		
+		Set<T> neighbours = adj.remove(vertex);
+		
+		if (neighbours != null)
+			for (T neighbour : neighbours) {
+				adj.get(neighbour).remove(vertex);
+				
+				unindex(new Edge<>(vertex, neighbour));
+				unindex(new Edge<>(neighbour, vertex));
+				
+				tree.cut(vertex, neighbour);
+			}
+		
+		vertexes.remove(vertex);
+		tree.remove(vertex);
+		roots.remove(vertex);
+		
+		stats.vertexRemoved(vertex);
+		++modCount;
+		
+		GraphEvents.report(event, "removeVertex", this, vertexCount(), edgeCount(), edgeCount - edgeCount());
+	}
+	
+	/*
+	 * Appends an edge to the collection of edges and remembers its position, the statistics are updated too.
+	 */
+	private void index(Edge<T> edge) {
+		positions.put(edge, edges.size());
+		edges.add(edge);
+		
+		stats.edgeAdded(edge.getU(), edge.getV());
+	}
+	
+	/*
+	 * Removes an edge from the collection of edges, the last edge takes its place and the statistics are updated too.
+	 */
+	private void unindex(Edge<T> edge) {
+		int position = positions.remove(edge);
+		Edge<T> last = edges.remove(edges.size() - 1);
+		
+		if (position < edges.size()) {
+			edges.set(position, last);
+			positions.put(last, position);
+		}
 		
-		edges = edges.parallelStream().filter(e -> !e.equals(lookfor) && !e.equals(reverse)).collect(Collectors.toList());
+		stats.edgeRemoved(edge.getU(), edge.getV());
 	}
 	
 	/**
@@ -0,0 +1,211 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The {@code GraphEvents} holds JDK Flight Recorder events of the graph classes, so graph work shows up
+ * in a recording as named algorithm runs and mutations instead of anonymous {@code HashMap} frames.
+ * 
+ * Events follow the usual JFR idiom: an event object is created and begun before the work and only filled and committed
+ * if {@code shouldCommit()} says so, algorithms do it with {@code start(listener, graph)} and {@code Run.finish(...)}.
+ * Until Flight Recorder is started, a run without a listener is a shared idle {@code Run} and a mutation has no event,
+ * so nothing is allocated and the clock is never read. Algorithm runs shorter than 1 ms are dropped by default,
+ * so the events can be left on permanently.
+ * Thresholds can be changed in a .jfc file or with {@code jfr configure}, for example {@code graphapi.Algorithm#threshold=0 ms}.
+ * Stack traces are off by default since the event names the operation already.
+ * 
+ * @author agent
+ * @see AlgorithmListener
+ * @version 1.0 (10/19/2026)
+ */
+public final class GraphEvents {
+	private GraphEvents() {
+	}
+	
+	/**
+	 * The {@code Algorithm} event is a single algorithm run.
+	 */
+	@Name("graphapi.Algorithm")
+	@Label("Graph Algorithm")
+	@Category("Graph API")
+	@Description("A graph algorithm run with the work it did")
+	@StackTrace(false)
+	@Threshold("1 ms")
+	public static class Algorithm extends Event {
+		@Label("Algorithm")
+		@Description("Algorithm variant, for example BFS, SPFA or Kosaraju")
+		String algorithm;
+		
+		@Label("Graph Class")
+		String graph;
+		
+		@Label("Vertexes")
+		int vertexes;
+		
+		@Label("Edges")
+		int edges;
+		
+		@Label("Visits")
+		@Description("Visited (dequeued) vertexes")
+		long visits;
+		
+		@Label("Edge Scans")
+		long edgeScans;
+		
+		@Label("Relaxations")
+		@Description("Edges that improved the answer")
+		long relaxations;
+		
+		@Label("Augmenting Paths")
+		long augmentations;
+		
+		@Label("Max Frontier")
+		@Description("High-water mark of the queue or stack")
+		long maxFrontier;
+	}
+	
+	/**
+	 * The {@code Mutation} event is a costly change of a graph, a vertex removal or a bulk ingest.
+	 */
+	@Name("graphapi.Mutation")
+	@Label("Graph Mutation")
+	@Category("Graph API")
+	@Description("A vertex removal or a bulk ingest of edges")
+	@StackTrace(false)
+	@Threshold("1 ms")
+	public static class Mutation extends Event {
+		@Label("Operation")
+		@Description("removeVertex or ingest")
+		String operation;
+		
+		@Label("Graph Class")
+		String graph;
+		
+		@Label("Vertexes")
+		@Description("Number of vertexes after the mutation")
+		int vertexes;
+		
+		@Label("Edges")
+		@Description("Number of edges after the mutation")
+		int edges;
+		
+		@Label("Affected Edges")
+		@Description("Removed or ingested edges")
+		long affected;
+	}
+	
+	/*
+	 * Starts an algorithm run of the graph, it's reported to the listener and as an Algorithm event when it's finished.
+	 */
+	static Run start(AlgorithmListener listener, GraphBase<?> graph) {
+		if (listener == null && !FlightRecorder.isInitialized())
+			return Run.IDLE;
+		
+		return new Run(listener, graph);
+	}
+	
+	/**
+	 * The {@code Run} is a started algorithm run, it's timed only if a listener is set or the event is enabled.
+	 */
+	static final class Run {
+		/**
+		 * Run that reports nothing, it's shared by all runs without a listener while Flight Recorder is off
+		 */
+		private static final Run IDLE = new Run();
+		
+		private final AlgorithmListener listener;
+		
+		private final GraphBase<?> graph;
+		
+		private final Algorithm event;
+		
+		private final long start;
+		
+		private Run() {
+			listener = null;
+			graph = null;
+			event = null;
+			start = 0;
+		}
+		
+		private Run(AlgorithmListener listener, GraphBase<?> graph) {
+			this.listener = listener;
+			this.graph = graph;
+			
+			event = new Algorithm();
+			event.begin();
+			start = listener != null || event.isEnabled() ? System.nanoTime() : 0;
+		}
+		
+		/*
+		 * Finishes the run and reports it with the name of the algorithm and its counters.
+		 */
+		void finish(String algorithm, long visits, long edgeScans, long relaxations, long augmentations, long maxFrontier) {
+			if (event == null)
+				return;//idle run
+			
+			event.end();
+			
+			if (listener != null || event.shouldCommit())
+				report(listener, event, new AlgorithmMetrics(algorithm, System.nanoTime() - start, visits, edgeScans, relaxations, augmentations, maxFrontier), graph, graph.vertexCount(), graph.edgeCount());
+		}
+	}
+	
+	/*
+	 * Begins a mutation event, it's {@code null} until Flight Recorder is started.
+	 */
+	static Mutation mutation() {
+		if (!FlightRecorder.isInitialized())
+			return null;
+		
+		Mutation event = new Mutation();
+		event.begin();
+		
+		return event;
+	}
+	
+	/*
+	 * Reports a finished run to the listener and commits the event, the event must be ended already.
+	 */
+	static void report(AlgorithmListener listener, Algorithm event, AlgorithmMetrics metrics, Object graph, int vertexes, int edges) {
+		if (listener != null)
+			listener.onRun(metrics);
+		
+		if (event.shouldCommit()) {
+			event.algorithm = metrics.getAlgorithm();
+			event.graph = graph.getClass().getName();
+			event.vertexes = vertexes;
+			event.edges = edges;
+			event.visits = metrics.getVisits();
+			event.edgeScans = metrics.getEdgeScans();
+			event.relaxations = metrics.getRelaxations();
+			event.augmentations = metrics.getAugmentations();
+			event.maxFrontier = metrics.getMaxFrontier();
+			event.commit();
+		}
+	}
+	
+	/*
+	 * Ends and commits a mutation event made by {@code mutation()}, a {@code null} event is ignored.
+	 */
+	static void report(Mutation event, String operation, Object graph, int vertexes, int edges, long affected) {
+		if (event == null)
+			return;
+		
+		event.end();
+		
+		if (event.shouldCommit()) {
+			event.operation = operation;
+			event.graph = graph.getClass().getName();
+			event.vertexes = vertexes;
+			event.edges = edges;
+			event.affected = affected;
+			event.commit();
+		}
+	}
+}
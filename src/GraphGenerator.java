@@ -0,0 +1,376 @@
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code GraphGenerator} makes synthetic graphs of realistic shapes for benchmarks and load tests.
+ * The work is split into fixed size chunks that are generated in parallel, every chunk has its own
+ * random generator derived from the seed and the chunk number, so the same seed always gives the same graph
+ * no matter how many threads are used.
+ * 
+ * Generated graphs may have duplicate edges and self loops unless it's noted otherwise,
+ * {@code DirectedGraph} and {@code Network} ignore duplicates when the edges are loaded.
+ * 
+ * @author agent
+ * @see EdgeList
+ * @version 1.0 (10/19/2026)
+ */
+public class GraphGenerator {
+	/**
+	 * Number of edges (or vertexes) generated by a single task
+	 */
+	static final int CHUNK = 1 << 16;
+	
+	private GraphGenerator() {
+	}
+	
+	/**
+	 * Generates a recursive matrix (R-MAT) graph, a Kronecker graph with power law degrees like social and web graphs.
+	 * Every edge picks one of four quadrants of the adjacency matrix with probabilities a, b, c and 1 - a - b - c
+	 * and then recursively a quadrant of that quadrant, {@code scale} times.
+	 * 
+	 * @param scale
+	 *        the graph have 2^scale vertexes
+	 * @param edgeFactor
+	 *        the graph have edgeFactor * 2^scale edges
+	 * @param a
+	 *        probability of top left quadrant
+	 * @param b
+	 *        probability of top right quadrant
+	 * @param c
+	 *        probability of bottom left quadrant
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated directed edges
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the parameters are out of range
+	 */
+	public static EdgeList rmat(int scale, int edgeFactor, double a, double b, double c, long seed) {
+		if (scale < 0 || scale > 30 || edgeFactor < 0 || (long) edgeFactor << scale > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("The graph is too big!");
+		
+		if (a < 0 || b < 0 || c < 0 || a + b + c > 1)
+			throw new IllegalArgumentException("Bad quadrant probabilities!");
+		
+		int n = 1 << scale;
+		int m = edgeFactor * n;
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		double ab = a + b;
+		double abc = a + b + c;
+		
+		IntStream.range(0, chunks(m)).parallel().forEach(chunk -> {
+			SplittableRandom random = random(seed, chunk);
+			
+			for (int e = chunk * CHUNK, end = Math.min(m, e + CHUNK); e < end; ++e) {
+				int u = 0;
+				int v = 0;
+				
+				for (int bit = scale - 1; bit >= 0; --bit) {
+					double r = random.nextDouble();
+					
+					if (r >= abc) {
+						u |= 1 << bit;
+						v |= 1 << bit;
+					} else if (r >= ab)
+						u |= 1 << bit;
+					else if (r >= a)
+						v |= 1 << bit;
+				}
+				
+				sources[e] = u;
+				targets[e] = v;
+			}
+		});
+		
+		return new EdgeList(n, sources, targets, null);
+	}
+	
+	/**
+	 * Generates a R-MAT graph with the quadrant probabilities of Graph500 benchmark (0.57, 0.19, 0.19, 0.05).
+	 * 
+	 * @param scale
+	 *        the graph have 2^scale vertexes
+	 * @param edgeFactor
+	 *        the graph have edgeFactor * 2^scale edges
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated directed edges
+	 */
+	public static EdgeList rmat(int scale, int edgeFactor, long seed) {
+		return rmat(scale, edgeFactor, 0.57, 0.19, 0.19, seed);
+	}
+	
+	/**
+	 * Generates an Erdos-Renyi random graph G(n, p) where every possible edge exists with probability p.
+	 * Instead of flipping a coin for each of n^2 pairs, gaps between existing edges are drawn from a geometric distribution,
+	 * so the time is proportional to number of generated edges. The graph have no duplicate edges and no self loops.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param p
+	 *        probability of an edge
+	 * @param directed
+	 *        generate directed edges? Undirected edges are generated once with "from" vertex smaller than "to" vertex
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated edges
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the parameters are out of range
+	 */
+	public static EdgeList erdosRenyi(int n, double p, boolean directed, long seed) {
+		if (n < 0 || p < 0 || p > 1)
+			throw new IllegalArgumentException("Bad parameters!");
+		
+		int chunks = chunks(n);
+		IntList[] sources = new IntList[chunks];
+		IntList[] targets = new IntList[chunks];
+		double log = Math.log(1 - p);
+		
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			SplittableRandom random = random(seed, chunk);
+			IntList from = new IntList();
+			IntList to = new IntList();
+			
+			for (int u = chunk * CHUNK, end = Math.min(n, u + CHUNK); u < end && p > 0; ++u) {
+				long v = directed ? 0 : u + 1;
+				long candidates = directed ? n - 1 : n;//a directed vertex skips itself
+				
+				while (true) {
+					v += p == 1 ? 0 : (long) Math.floor(Math.log(1 - random.nextDouble()) / log);//number of skipped pairs
+					
+					if (v >= candidates)
+						break;
+					
+					from.add(u);
+					to.add((int) (directed && v >= u ? v + 1 : v));
+					
+					++v;
+				}
+			}
+			
+			sources[chunk] = from;
+			targets[chunk] = to;
+		});
+		
+		return new EdgeList(n, IntList.concat(sources), IntList.concat(targets), null);
+	}
+	
+	/**
+	 * Generates a Barabasi-Albert preferential attachment graph, every new vertex connects to d existing vertexes
+	 * with probability proportional to their degrees which gives scale free graphs.
+	 * It's the Batagelj-Brandes algorithm made parallel (Sanders and Schulz): edge e picks a random earlier
+	 * edge endpoint, the endpoint is resolved by following earlier random choices, each edge has
+	 * its own random stream so the edges don't depend on each other's generation.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param d
+	 *        number of edges added with each vertex
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated undirected edges, "from" vertex is the newer one
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the parameters are out of range
+	 */
+	public static EdgeList barabasiAlbert(int n, int d, long seed) {
+		if (n < 0 || d < 1 || (long) n * d > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Bad parameters!");
+		
+		int m = n * d;
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		
+		IntStream.range(0, chunks(m)).parallel().forEach(chunk -> {
+			for (int e = chunk * CHUNK, end = Math.min(m, e + CHUNK); e < end; ++e) {
+				sources[e] = e / d;
+				targets[e] = endpoint(e, d, seed);
+			}
+		});
+		
+		return new EdgeList(n, sources, targets, null);
+	}
+	
+	/*
+	 * Resolves "to" vertex of edge e, edge endpoints are numbered 2e ("from") and 2e + 1 ("to").
+	 * The "to" endpoint copies a uniformly random endpoint among 0 to 2e, an even endpoint is known right away,
+	 * an odd one is resolved the same way.
+	 */
+	private static int endpoint(int e, int d, long seed) {
+		while (true) {
+			long r = Math.floorMod(mix(seed ^ mix(e)), 2L * e + 1);
+			
+			if (r % 2 == 0)
+				return (int) (r / 2 / d);
+			
+			e = (int) (r / 2);
+		}
+	}
+	
+	/**
+	 * Generates a rows x cols grid where every vertex connects to its right and lower neighbours,
+	 * a road-like network is made by keeping each edge with probability {@code keep} and adding
+	 * a few diagonal shortcuts with probability {@code shortcut}.
+	 * Vertex of row r and column c is r * cols + c. The graph have no duplicate edges and no self loops.
+	 * 
+	 * @param rows
+	 *        number of rows
+	 * @param cols
+	 *        number of columns
+	 * @param keep
+	 *        probability of keeping a grid edge
+	 * @param shortcut
+	 *        probability of a diagonal edge
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated undirected edges
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the parameters are out of range
+	 */
+	public static EdgeList grid(int rows, int cols, double keep, double shortcut, long seed) {
+		if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE / 3 || keep < 0 || keep > 1 || shortcut < 0 || shortcut > 1)
+			throw new IllegalArgumentException("Bad parameters!");
+		
+		int n = rows * cols;
+		int chunks = chunks(n);
+		IntList[] sources = new IntList[chunks];
+		IntList[] targets = new IntList[chunks];
+		
+		IntStream.range(0, chunks).parallel().forEach(chunk -> {
+			SplittableRandom random = random(seed, chunk);
+			IntList from = new IntList();
+			IntList to = new IntList();
+			
+			for (int u = chunk * CHUNK, end = Math.min(n, u + CHUNK); u < end; ++u) {
+				int r = u / cols;
+				int c = u % cols;
+				
+				if (c + 1 < cols && random.nextDouble() < keep) {
+					from.add(u);
+					to.add(u + 1);
+				}
+				
+				if (r + 1 < rows && random.nextDouble() < keep) {
+					from.add(u);
+					to.add(u + cols);
+				}
+				
+				if (r + 1 < rows && c + 1 < cols && random.nextDouble() < shortcut) {
+					from.add(u);
+					to.add(u + cols + 1);
+				}
+			}
+			
+			sources[chunk] = from;
+			targets[chunk] = to;
+		});
+		
+		return new EdgeList(n, IntList.concat(sources), IntList.concat(targets), null);
+	}
+	
+	/**
+	 * Generates a random directed acyclic graph, every edge goes from a smaller vertex to a bigger one
+	 * so 0, 1, ..., n - 1 is a topological ordering. The graph have no self loops.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param m
+	 *        number of edges
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated directed edges
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the parameters are out of range
+	 */
+	public static EdgeList randomDag(int n, int m, long seed) {
+		if (n < 0 || m < 0 || (m > 0 && n < 2))
+			throw new IllegalArgumentException("Bad parameters!");
+		
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		
+		IntStream.range(0, chunks(m)).parallel().forEach(chunk -> {
+			SplittableRandom random = random(seed, chunk);
+			
+			for (int e = chunk * CHUNK, end = Math.min(m, e + CHUNK); e < end; ++e) {
+				int u = random.nextInt(n);
+				int v = random.nextInt(n - 1);
+				
+				if (v >= u)
+					++v;//skip self loop
+				
+				sources[e] = Math.min(u, v);
+				targets[e] = Math.max(u, v);
+			}
+		});
+		
+		return new EdgeList(n, sources, targets, null);
+	}
+	
+	/**
+	 * Generates a random forest, vertexes 0 to trees - 1 are roots and every other vertex
+	 * is attached to a uniformly random smaller vertex (random recursive trees).
+	 * The edges are always acyclic so they can be loaded into a {@code Forest}.
+	 * 
+	 * @param n
+	 *        number of vertexes
+	 * @param trees
+	 *        number of trees
+	 * @param seed
+	 *        random seed
+	 * 
+	 * @return generated undirected edges, "from" vertex is the parent
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the parameters are out of range
+	 */
+	public static EdgeList randomForest(int n, int trees, long seed) {
+		if (n < 0 || trees < 1 || trees > Math.max(n, 1))
+			throw new IllegalArgumentException("Bad parameters!");
+		
+		int m = n - Math.min(n, trees);
+		int[] sources = new int[m];
+		int[] targets = new int[m];
+		
+		IntStream.range(0, chunks(m)).parallel().forEach(chunk -> {
+			SplittableRandom random = random(seed, chunk);
+			
+			for (int e = chunk * CHUNK, end = Math.min(m, e + CHUNK); e < end; ++e) {
+				int v = trees + e;
+				
+				sources[e] = random.nextInt(v);
+				targets[e] = v;
+			}
+		});
+		
+		return new EdgeList(n, sources, targets, null);
+	}
+	
+	/*
+	 * Number of chunks needed for count items.
+	 */
+	static int chunks(int count) {
+		return (int) (((long) count + CHUNK - 1) / CHUNK);
+	}
+	
+	/*
+	 * Random generator of a chunk.
+	 */
+	static SplittableRandom random(long seed, int chunk) {
+		return new SplittableRandom(mix(seed + mix(chunk + 1L)));
+	}
+	
+	/*
+	 * SplitMix64 finalizer, it scrambles bits of x.
+	 */
+	static long mix(long x) {
+		x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+		x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+		
+		return x ^ (x >>> 31);
+	}
+}
@@ -43,6 +43,16 @@ public class GraphIterator<T> implements Iterator<T> {
 	 */
 	private boolean depthFirst;
 	
+	/**
+	 * Run of the traversal, it spans from creation of the iterator to its exhaustion and is reported then
+	 */
+	private GraphEvents.Run run;
+	
+	/**
+	 * Counters of the run
+	 */
+	private long visits, edgeScans, maxFrontier;
+	
 	/**
 	 * Creates a new {@code GraphIterator} object out of
 	 * specific graph, source vertex, and traversal style.
@@ -63,6 +73,7 @@ public class GraphIterator<T> implements Iterator<T> {
 		this.depthFirst = depthFirst;
 		
 		adj = graph.getAdjacencyList();
+		run = GraphEvents.start(graph.getAlgorithmListener(), graph);
 		
 		Q = new ArrayDeque<>();
 		marked = new HashSet<>();
@@ -94,17 +105,27 @@ public class GraphIterator<T> implements Iterator<T> {
 			throw new IllegalArgumentException("There are no more vertexes to explore!");
 		
 		T u = Q.pop();
+		++visits;
 		
-		for (T v : adj.get(u))
-			if (!marked.contains(v)) {
-				marked.add(v);
+		if (adj.get(u) != null)//vertexes without successors have no entry in a directed graph
+			for (T v : adj.get(u)) {
+				++edgeScans;
 				
-				if (depthFirst)
-					Q.addFirst(v);
-				else
-					Q.addLast(v);
+				if (!marked.contains(v)) {
+					marked.add(v);
+					
+					if (depthFirst)
+						Q.addFirst(v);
+					else
+						Q.addLast(v);
+				}
 			}
 		
+		maxFrontier = Math.max(maxFrontier, Q.size());
+		
+		if (Q.isEmpty())
+			run.finish(depthFirst ? "GraphIterator.DFS" : "GraphIterator.BFS", visits, edgeScans, 0, 0, maxFrontier);
+		
 		return u;
 	}
 }
@@ -0,0 +1,585 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The {@code GraphStatistics} keeps summary statistics of a graph up to date on every mutation,
+ * so edge count, sum of edge weights, minimum and maximum weight, degree histograms and maximum degrees
+ * can be read in O(1) time instead of scanning all edges on every call.
+ * An undirected edge is stored by the graph classes as two directed edges, both are recorded here
+ * and the counts are halved when they are read. An undirected self loop is stored and recorded once.
+ * 
+ * Degree histograms are arrays of vertex counts indexed by degree, an edge moves a vertex to the next or previous
+ * degree so the maximum degree moves by at most one. The minimum and maximum weights are kept with the number of edges
+ * having them and looked up again among the recorded weights only after the last edge of an extreme was removed.
+ * Only the graph classes record changes, the object handed out by {@code getStatistics()} can only be read.
+ * 
+ * Note: changes made directly to the collections returned by {@code getEdges()} or {@code getAdjacencyList()}
+ * bypass the statistics.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#getStatistics()
+ * @see AbstractWeightedGraph#getStatistics()
+ * @version 1.0 (10/19/2026)
+ */
+public class GraphStatistics<T> {
+	/**
+	 * {@code boolean} flag that indicates type of edge
+	 */
+	private boolean directed;
+	
+	/**
+	 * Number of recorded directed edges
+	 */
+	private long arcs;
+	
+	/**
+	 * Sum of weights of recorded directed edges
+	 */
+	private long weightSum;
+	
+	/**
+	 * Number and sum of weights of recorded self loops, an undirected one is recorded once
+	 */
+	private long loops, loopSum;
+	
+	/**
+	 * Number of recorded directed edges for each weight
+	 */
+	private WeightCount weightCount;
+	
+	/**
+	 * Minimum and maximum weights and number of recorded edges having them, a count of 0 means the extreme must be looked up again
+	 */
+	private int minWeight, maxWeight, minCount, maxCount;
+	
+	/**
+	 * Out and in degree of each vertex
+	 */
+	private Map<T, int[]> degrees;
+	
+	/**
+	 * Number of vertexes for each out and in degree
+	 */
+	private int[] outHistogram, inHistogram;
+	
+	/**
+	 * Largest out and in degree
+	 */
+	private int maxOutDegree, maxInDegree;
+	
+	/**
+	 * Read-only views of the histograms
+	 */
+	private Map<Integer, Integer> outHistogramView, inHistogramView;
+	
+	/**
+	 * Creates new and empty {@code GraphStatistics} object.
+	 * 
+	 * @param directed
+	 *        are the edges of the graph directed?
+	 */
+	GraphStatistics(boolean directed) {
+		this.directed = directed;
+		
+		weightCount = new WeightCount();
+		degrees = new HashMap<>();
+		outHistogram = new int[8];
+		inHistogram = new int[8];
+		outHistogramView = new HistogramView(true);
+		inHistogramView = new HistogramView(false);
+	}
+	
+	/**
+	 * Records a new vertex, it does nothing if the vertex is already recorded.
+	 * 
+	 * @param vertex
+	 *        new vertex
+	 */
+	void vertexAdded(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		if (degrees.containsKey(vertex))
+			return;
+		
+		degrees.put(vertex, new int[2]);
+		
+		++outHistogram[0];
+		++inHistogram[0];
+	}
+	
+	/**
+	 * Forgets a vertex, its edges must be removed first.
+	 * 
+	 * @param vertex
+	 *        removed vertex
+	 */
+	void vertexRemoved(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int[] degree = degrees.remove(vertex);
+		
+		if (degree == null)
+			return;
+		
+		--outHistogram[degree[0]];
+		--inHistogram[degree[1]];
+		
+		while (maxOutDegree > 0 && outHistogram[maxOutDegree] == 0)
+			--maxOutDegree;
+		
+		while (maxInDegree > 0 && inHistogram[maxInDegree] == 0)
+			--maxInDegree;
+	}
+	
+	/**
+	 * Records a new unweighted directed edge.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 */
+	void edgeAdded(T u, T v) {
+		vertexAdded(u);
+		vertexAdded(v);
+		
+		++arcs;
+		
+		if (u.equals(v))
+			++loops;
+		
+		int[] from = degrees.get(u), to = degrees.get(v);
+		
+		outHistogram = moveUp(outHistogram, from[0]++);
+		inHistogram = moveUp(inHistogram, to[1]++);
+		
+		maxOutDegree = Math.max(maxOutDegree, from[0]);
+		maxInDegree = Math.max(maxInDegree, to[1]);
+	}
+	
+	/**
+	 * Records a new weighted directed edge.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * @param weight
+	 *        edge weight
+	 */
+	void edgeAdded(T u, T v, int weight) {
+		edgeAdded(u, v);
+		
+		if (weightCount.size() == 0 || weight < minWeight) {
+			minWeight = weight;
+			minCount = 0;
+		}
+		
+		if (weightCount.size() == 0 || weight > maxWeight) {
+			maxWeight = weight;
+			maxCount = 0;
+		}
+		
+		if (weight == minWeight)
+			++minCount;
+		
+		if (weight == maxWeight)
+			++maxCount;
+		
+		weightSum += weight;
+		weightCount.add(weight, 1);
+		
+		if (u.equals(v))
+			loopSum += weight;
+	}
+	
+	/**
+	 * Forgets an unweighted directed edge.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 */
+	void edgeRemoved(T u, T v) {
+		int[] from = degrees.get(u), to = degrees.get(v);
+		
+		if (from == null || to == null)
+			return;
+		
+		--arcs;
+		
+		if (u.equals(v))
+			--loops;
+		
+		int out = from[0]--, in = to[1]--;
+		
+		--outHistogram[out];
+		++outHistogram[out - 1];
+		--inHistogram[in];
+		++inHistogram[in - 1];
+		
+		if (out == maxOutDegree && outHistogram[out] == 0)
+			--maxOutDegree;//the vertex itself has out - 1 now
+		
+		if (in == maxInDegree && inHistogram[in] == 0)
+			--maxInDegree;
+	}
+	
+	/**
+	 * Forgets a weighted directed edge.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * @param weight
+	 *        edge weight
+	 */
+	void edgeRemoved(T u, T v, int weight) {
+		edgeRemoved(u, v);
+		
+		weightSum -= weight;
+		weightCount.add(weight, -1);
+		
+		if (u.equals(v))
+			loopSum -= weight;
+		
+		if (weight == minWeight)
+			--minCount;
+		
+		if (weight == maxWeight)
+			--maxCount;
+	}
+	
+	/**
+	 * Returns number of edges in the graph.
+	 * 
+	 * @return number of edges
+	 */
+	public int edgeCount() {
+		return (int) (directed ? arcs : (arcs + loops) / 2);
+	}
+	
+	/**
+	 * Returns sum of edge weights in the graph.
+	 * 
+	 * @return sum of edge weights
+	 */
+	public long edgeSum() {
+		return directed ? weightSum : (weightSum + loopSum) / 2;
+	}
+	
+	/**
+	 * Returns the smallest edge weight in the graph.
+	 * It's looked up among the recorded weights if the last edge of the previous minimum was removed since the last call.
+	 * 
+	 * @return minimum weight, 0 if the graph have no weighted edges
+	 */
+	public int minWeight() {
+		if (weightCount.size() == 0)
+			return 0;
+		
+		if (minCount <= 0) {
+			minWeight = weightCount.min();
+			minCount = weightCount.get(minWeight);
+		}
+		
+		return minWeight;
+	}
+	
+	/**
+	 * Returns the largest edge weight in the graph.
+	 * It's looked up among the recorded weights if the last edge of the previous maximum was removed since the last call.
+	 * 
+	 * @return maximum weight, 0 if the graph have no weighted edges
+	 */
+	public int maxWeight() {
+		if (weightCount.size() == 0)
+			return 0;
+		
+		if (maxCount <= 0) {
+			maxWeight = weightCount.max();
+			maxCount = weightCount.get(maxWeight);
+		}
+		
+		return maxWeight;
+	}
+	
+	/**
+	 * Returns the largest number of successors a vertex have, same as the largest {@code degree(vertex)}.
+	 * 
+	 * @return maximum degree, 0 if the graph is empty
+	 */
+	public int maxDegree() {
+		return maxOutDegree();
+	}
+	
+	/**
+	 * Returns the largest number of outgoing edges a vertex have.
+	 * 
+	 * @return maximum out degree, 0 if the graph is empty
+	 */
+	public int maxOutDegree() {
+		return maxOutDegree;
+	}
+	
+	/**
+	 * Returns the largest number of incoming edges a vertex have.
+	 * 
+	 * @return maximum in degree, 0 if the graph is empty
+	 */
+	public int maxInDegree() {
+		return maxInDegree;
+	}
+	
+	/**
+	 * Returns a read-only histogram of out degrees, it maps a degree to number of vertexes having it.
+	 * The map is live, it follows later changes of the graph.
+	 * 
+	 * @return out degree histogram in increasing order of degrees
+	 */
+	public Map<Integer, Integer> outDegreeHistogram() {
+		return outHistogramView;
+	}
+	
+	/**
+	 * Returns a read-only histogram of in degrees, it maps a degree to number of vertexes having it.
+	 * The map is live, it follows later changes of the graph.
+	 * 
+	 * @return in degree histogram in increasing order of degrees
+	 */
+	public Map<Integer, Integer> inDegreeHistogram() {
+		return inHistogramView;
+	}
+	
+	/*
+	 * Moves a vertex from a degree to the next one, the histogram grows by doubling.
+	 */
+	private static int[] moveUp(int[] histogram, int degree) {
+		if (degree + 1 == histogram.length)
+			histogram = Arrays.copyOf(histogram, histogram.length * 2);
+		
+		--histogram[degree];
+		++histogram[degree + 1];
+		
+		return histogram;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code GraphStatistics} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "GraphStatistics[edges=" + edgeCount() + ", sum=" + edgeSum() + ", minWeight=" + minWeight() +
+			   ", maxWeight=" + maxWeight() + ", maxOutDegree=" + maxOutDegree() + ", maxInDegree=" + maxInDegree() + "]";
+	}
+	
+	/*
+	 * Read-only map view of a degree histogram, degrees without vertexes are left out.
+	 */
+	private class HistogramView extends AbstractMap<Integer, Integer> {
+		private final boolean out;
+		
+		HistogramView(boolean out) {
+			this.out = out;
+		}
+		
+		private int count(int degree) {
+			int[] histogram = out ? outHistogram : inHistogram;
+			
+			return degree >= 0 && degree < histogram.length ? histogram[degree] : 0;
+		}
+		
+		private int max() {
+			return out ? maxOutDegree : maxInDegree;
+		}
+		
+		@Override
+		public Integer get(Object key) {
+			int count = key instanceof Integer ? count((Integer) key) : 0;
+			
+			return count == 0 ? null : count;
+		}
+		
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+		
+		@Override
+		public Set<Map.Entry<Integer, Integer>> entrySet() {
+			return new AbstractSet<Map.Entry<Integer, Integer>>() {
+				@Override
+				public Iterator<Map.Entry<Integer, Integer>> iterator() {
+					return new Iterator<Map.Entry<Integer, Integer>>() {
+						private int degree = skip(0);
+						
+						private int skip(int degree) {
+							while (degree <= max() && count(degree) == 0)
+								++degree;
+							
+							return degree;
+						}
+						
+						@Override
+						public boolean hasNext() {
+							return degree <= max();
+						}
+						
+						@Override
+						public Map.Entry<Integer, Integer> next() {
+							if (!hasNext())
+								throw new NoSuchElementException();
+							
+							Map.Entry<Integer, Integer> entry = new AbstractMap.SimpleImmutableEntry<>(degree, count(degree));
+							
+							degree = skip(degree + 1);
+							
+							return entry;
+						}
+					};
+				}
+				
+				@Override
+				public int size() {
+					int size = 0;
+					
+					for (int degree = 0; degree <= max(); ++degree)
+						if (count(degree) > 0)
+							++size;
+					
+					return size;
+				}
+			};
+		}
+	}
+	
+	/*
+	 * Number of recorded edges for each weight, an open addressing hash table of int keys so updates don't box the weight.
+	 */
+	private static final class WeightCount {
+		private int[] keys = new int[16];
+		private int[] counts = new int[16];
+		private int used, size;
+		
+		/*
+		 * Number of recorded edges of all weights.
+		 */
+		int size() {
+			return size;
+		}
+		
+		int get(int key) {
+			int slot = find(key);
+			
+			return slot < 0 ? 0 : counts[slot];
+		}
+		
+		void add(int key, int delta) {
+			int slot = find(key);
+			
+			if (slot < 0) {
+				if (2 * (used + 1) > keys.length)
+					rehash();
+				
+				slot = ~find(key);
+				keys[slot] = key;
+				++used;
+			}
+			
+			counts[slot] += delta;
+			size += delta;
+			
+			if (counts[slot] == 0)
+				remove(slot);
+		}
+		
+		int min() {
+			int min = Integer.MAX_VALUE;
+			
+			for (int i = 0; i < keys.length; ++i)
+				if (counts[i] > 0)
+					min = Math.min(min, keys[i]);
+			
+			return min;
+		}
+		
+		int max() {
+			int max = Integer.MIN_VALUE;
+			
+			for (int i = 0; i < keys.length; ++i)
+				if (counts[i] > 0)
+					max = Math.max(max, keys[i]);
+			
+			return max;
+		}
+		
+		/*
+		 * Slot of the key, or the complement of the free slot it would go into.
+		 */
+		private int find(int key) {
+			int mask = keys.length - 1;
+			
+			for (int slot = hash(key) & mask; ; slot = slot + 1 & mask) {
+				if (counts[slot] == 0)
+					return ~slot;
+				
+				if (keys[slot] == key)
+					return slot;
+			}
+		}
+		
+		/*
+		 * Empties a slot and shifts the keys after it back so every key stays reachable from its home slot.
+		 */
+		private void remove(int slot) {
+			int mask = keys.length - 1;
+			
+			--used;
+			
+			for (int next = slot + 1 & mask; counts[next] != 0; next = next + 1 & mask) {
+				int home = hash(keys[next]) & mask;
+				
+				if ((next - home & mask) >= (next - slot & mask)) {
+					keys[slot] = keys[next];
+					counts[slot] = counts[next];
+					counts[next] = 0;
+					slot = next;
+				}
+			}
+		}
+		
+		private void rehash() {
+			int[] keys = this.keys, counts = this.counts;
+			
+			this.keys = new int[keys.length * 2];
+			this.counts = new int[keys.length * 2];
+			
+			for (int i = 0; i < keys.length; ++i)
+				if (counts[i] != 0) {
+					int slot = ~find(keys[i]);
+					
+					this.keys[slot] = keys[i];
+					this.counts[slot] = counts[i];
+				}
+		}
+		
+		private static int hash(int key) {
+			int h = key * 0x9E3779B9;
+			
+			return h ^ h >>> 16;
+		}
+	}
+}
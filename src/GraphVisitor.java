@@ -0,0 +1,68 @@
+/**
+ * The {@code GraphVisitor} is called back by visitor based traversals of a graph, it's the allocation-free
+ * alternative of {@code GraphIterator}. Every callback returns an {@code Action} that steers the traversal,
+ * callbacks that are not overridden just let it continue.
+ * 
+ * Order of callbacks: a vertex is discovered when it's reached for the first time, then every outgoing edge
+ * is reported with {@code onEdge}, and the vertex is finished when all of its edges were explored
+ * (in depth first traversal, when all vertexes reachable through them are finished too).
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#breadthFirstTraversal(Object, GraphVisitor)
+ * @see AbstractWeightedGraph#breadthFirstTraversal(Object, GraphVisitor)
+ * @version 1.0 (10/19/2026)
+ */
+public interface GraphVisitor<T> {
+	/**
+	 * An enumeration of actions a visitor can take.
+	 * 
+	 * {@code Action.CONTINUE} means go on as usual
+	 * {@code Action.SKIP} means don't explore edges of a discovered vertex (it's finished right away), or don't follow an edge
+	 * {@code Action.STOP} means end the traversal now
+	 */
+	enum Action{CONTINUE, SKIP, STOP};
+	
+	/**
+	 * Called when a vertex is reached for the first time.
+	 * 
+	 * @param vertex
+	 *        discovered vertex
+	 * @param depth
+	 *        number of edges from the source in the traversal tree
+	 * 
+	 * @return what to do next
+	 */
+	default Action onDiscover(T vertex, int depth) {
+		return Action.CONTINUE;
+	}
+	
+	/**
+	 * Called for every explored edge, whether "to" vertex was discovered already or not.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * @param weight
+	 *        edge weight, 1 in an unweighted graph
+	 * 
+	 * @return what to do next
+	 */
+	default Action onEdge(T u, T v, int weight) {
+		return Action.CONTINUE;
+	}
+	
+	/**
+	 * Called when all edges of a vertex were explored.
+	 * 
+	 * @param vertex
+	 *        finished vertex
+	 * 
+	 * @return what to do next, {@code Action.SKIP} is the same as {@code Action.CONTINUE} here
+	 */
+	default Action onFinish(T vertex) {
+		return Action.CONTINUE;
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * The {@code Heuristic} estimates cost of the cheapest path from a vertex to the target of an A* search.
+ * The search returns shortest paths only if the heuristic is admissible, it never overestimates the real cost.
+ * A consistent heuristic (the estimate never drops by more than the weight of an edge) is also faster
+ * since no vertex is explored twice, inconsistent but admissible heuristics still give correct answers.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractWeightedGraph#aStar(Object, Object, Heuristic)
+ * @see LandmarkIndex#heuristic()
+ * @version 1.0 (10/19/2026)
+ */
+@FunctionalInterface
+public interface Heuristic<T> {
+	/**
+	 * Mean radius of the Earth in meters
+	 */
+	static final double EARTH_RADIUS = 6_371_008.8;
+	
+	/**
+	 * Estimates cost of the cheapest path between two vertexes.
+	 * 
+	 * @param vertex
+	 *        current vertex
+	 * @param target
+	 *        target vertex
+	 * 
+	 * @return a lower bound of the cost
+	 */
+	int estimate(T vertex, T target);
+	
+	/**
+	 * Returns a heuristic that always estimates 0, A* search with it is the same as Dijkstra's algorithm.
+	 * 
+	 * @param <T> vertex type
+	 * 
+	 * @return zero heuristic
+	 */
+	static <T> Heuristic<T> zero() {
+		return (vertex, target) -> 0;
+	}
+	
+	/**
+	 * Returns a heuristic based on straight line distance between vertex positions.
+	 * It's admissible if no edge is cheaper than {@code costPerUnit} times the distance between its endpoints.
+	 * 
+	 * @param <T> vertex type
+	 * @param costPerUnit
+	 *        smallest cost of a unit of distance
+	 * 
+	 * @return euclidean heuristic
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the cost is negative
+	 */
+	static <T extends Locatable> Heuristic<T> euclidean(double costPerUnit) {
+		if (costPerUnit < 0)
+			throw new IllegalArgumentException("The cost is negative!");
+		
+		return (vertex, target) -> (int) Math.floor(Math.hypot(vertex.getX() - target.getX(), vertex.getY() - target.getY()) * costPerUnit);
+	}
+	
+	/**
+	 * Returns a heuristic based on great circle distance between geographic positions (longitude and latitude in degrees),
+	 * it's computed with the haversine formula. It's admissible if no edge is cheaper than
+	 * {@code costPerMeter} times the distance between its endpoints in meters.
+	 * 
+	 * @param <T> vertex type
+	 * @param costPerMeter
+	 *        smallest cost of a meter
+	 * 
+	 * @return great circle heuristic
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the cost is negative
+	 */
+	static <T extends Locatable> Heuristic<T> greatCircle(double costPerMeter) {
+		if (costPerMeter < 0)
+			throw new IllegalArgumentException("The cost is negative!");
+		
+		return (vertex, target) -> {
+			double lat1 = Math.toRadians(vertex.getY());
+			double lat2 = Math.toRadians(target.getY());
+			double dLat = lat2 - lat1;
+			double dLon = Math.toRadians(target.getX() - vertex.getX());
+			double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+			
+			return (int) Math.floor(2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a))) * costPerMeter * (1 - 1e-9));//shrink a bit for rounding errors
+		};
+	}
+}
@@ -0,0 +1,304 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code HistogramListener} is an in-memory {@code AlgorithmListener}, it keeps a histogram
+ * of every counter for each algorithm so percentiles of running times and work can be read at any time.
+ * It has no dependencies on metrics libraries, a client can poll it and export the numbers anywhere.
+ * 
+ * @author agent
+ * @see AlgorithmListener
+ * @version 1.0 (10/19/2026)
+ */
+public class HistogramListener implements AlgorithmListener {
+	/**
+	 * Summary of each algorithm
+	 */
+	private Map<String, Summary> summaries;
+	
+	/**
+	 * Creates new and empty {@code HistogramListener} object.
+	 */
+	public HistogramListener() {
+		summaries = new ConcurrentHashMap<>();
+	}
+	
+	/**
+	 * Records a finished run.
+	 * 
+	 * @param metrics
+	 *        counters and timing of the run
+	 */
+	@Override
+	public void onRun(AlgorithmMetrics metrics) {
+		Objects.requireNonNull(metrics);
+		
+		summaries.computeIfAbsent(metrics.getAlgorithm(), algorithm -> new Summary()).record(metrics);
+	}
+	
+	/**
+	 * Returns names of the algorithms that reported so far.
+	 * 
+	 * @return algorithm names
+	 */
+	public Set<String> getAlgorithms() {
+		return Collections.unmodifiableSet(summaries.keySet());
+	}
+	
+	/**
+	 * Returns summary of an algorithm.
+	 * 
+	 * @param algorithm
+	 *        algorithm name
+	 * 
+	 * @return {@code Summary} of the algorithm, {@code null} if it hasn't reported yet
+	 */
+	public Summary getSummary(String algorithm) {
+		return summaries.get(algorithm);
+	}
+	
+	/**
+	 * Forgets all recorded runs.
+	 */
+	public void reset() {
+		summaries.clear();
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code HistogramListener} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("HistogramListener[");
+		
+		summaries.forEach((algorithm, summary) -> sb.append(algorithm).append("=").append(summary).append(", "));
+		
+		if (!summaries.isEmpty())
+			sb.setLength(sb.length() - 2);//remove last ", "
+		
+		return sb.append("]").toString();
+	}
+	
+	/**
+	 * The {@code Summary} holds histograms of all counters of an algorithm.
+	 */
+	public static class Summary {
+		private final Histogram nanos = new Histogram();
+		private final Histogram visits = new Histogram();
+		private final Histogram edgeScans = new Histogram();
+		private final Histogram relaxations = new Histogram();
+		private final Histogram augmentations = new Histogram();
+		private final Histogram maxFrontier = new Histogram();
+		
+		void record(AlgorithmMetrics metrics) {
+			nanos.record(metrics.getNanos());
+			visits.record(metrics.getVisits());
+			edgeScans.record(metrics.getEdgeScans());
+			relaxations.record(metrics.getRelaxations());
+			augmentations.record(metrics.getAugmentations());
+			maxFrontier.record(metrics.getMaxFrontier());
+		}
+		
+		/**
+		 * Returns number of recorded runs.
+		 * 
+		 * @return number of runs
+		 */
+		public long runs() {
+			return nanos.count();
+		}
+		
+		/**
+		 * Returns histogram of running times in nanoseconds.
+		 * 
+		 * @return running time histogram
+		 */
+		public Histogram nanos() {
+			return nanos;
+		}
+		
+		/**
+		 * Returns histogram of visited vertexes.
+		 * 
+		 * @return visited vertexes histogram
+		 */
+		public Histogram visits() {
+			return visits;
+		}
+		
+		/**
+		 * Returns histogram of scanned edges.
+		 * 
+		 * @return scanned edges histogram
+		 */
+		public Histogram edgeScans() {
+			return edgeScans;
+		}
+		
+		/**
+		 * Returns histogram of edges that improved the answer.
+		 * 
+		 * @return relaxed or accepted edges histogram
+		 */
+		public Histogram relaxations() {
+			return relaxations;
+		}
+		
+		/**
+		 * Returns histogram of augmenting paths.
+		 * 
+		 * @return augmenting paths histogram
+		 */
+		public Histogram augmentations() {
+			return augmentations;
+		}
+		
+		/**
+		 * Returns histogram of queue or stack high-water marks.
+		 * 
+		 * @return maximum frontier size histogram
+		 */
+		public Histogram maxFrontier() {
+			return maxFrontier;
+		}
+		
+		/**
+		 * Returns formatted {@code String} representation of {@code Summary} object.
+		 * 
+		 * @return {@code String} representation of the object
+		 */
+		@Override
+		public String toString() {
+			return "Summary[runs=" + runs() + ", nanos=" + nanos + ", visits=" + visits + ", edgeScans=" + edgeScans + "]";
+		}
+	}
+	
+	/**
+	 * The {@code Histogram} counts non-negative values in log-linear buckets, every power of two is split into
+	 * 16 buckets so a percentile is off by at most 1/16 of its value. Values below 16 are exact.
+	 */
+	public static class Histogram {
+		/**
+		 * Number of linear buckets in every power of two
+		 */
+		private static final int SUB_BUCKETS = 16;
+		
+		private long[] buckets = new long[60 * SUB_BUCKETS];
+		private long count, sum, min, max;
+		
+		synchronized void record(long value) {
+			value = Math.max(0, value);
+			
+			++buckets[index(value)];
+			
+			if (count == 0 || value < min)
+				min = value;
+			
+			if (count == 0 || value > max)
+				max = value;
+			
+			++count;
+			sum += value;
+		}
+		
+		/**
+		 * Returns number of recorded values.
+		 * 
+		 * @return number of values
+		 */
+		public synchronized long count() {
+			return count;
+		}
+		
+		/**
+		 * Returns the smallest recorded value.
+		 * 
+		 * @return minimum, 0 if the histogram is empty
+		 */
+		public synchronized long min() {
+			return min;
+		}
+		
+		/**
+		 * Returns the largest recorded value.
+		 * 
+		 * @return maximum, 0 if the histogram is empty
+		 */
+		public synchronized long max() {
+			return max;
+		}
+		
+		/**
+		 * Returns mean of recorded values.
+		 * 
+		 * @return mean, 0 if the histogram is empty
+		 */
+		public synchronized double mean() {
+			return count == 0 ? 0 : (double) sum / count;
+		}
+		
+		/**
+		 * Returns an approximate percentile, the upper bound of the bucket holding it.
+		 * 
+		 * @param percentile
+		 *        percentile in range [0, 100]
+		 * 
+		 * @return approximate value, 0 if the histogram is empty
+		 * 
+		 * @throw java.lang.IllegalArgumentException if the percentile is out of range
+		 */
+		public synchronized long percentile(double percentile) {
+			if (percentile < 0 || percentile > 100)
+				throw new IllegalArgumentException("The percentile is out of range!");
+			
+			if (count == 0)
+				return 0;
+			
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+			long seen = 0;
+			
+			for (int i = 0; i < buckets.length; ++i) {
+				seen += buckets[i];
+				
+				if (seen >= rank)
+					return Math.max(min, Math.min(max, lowerBound(i + 1) - 1));
+			}
+			
+			return max;
+		}
+		
+		private static int index(long value) {
+			if (value < SUB_BUCKETS)
+				return (int) value;
+			
+			int exponent = 63 - Long.numberOfLeadingZeros(value);
+			
+			return (exponent - 3) * SUB_BUCKETS + (int) ((value >>> (exponent - 4)) & (SUB_BUCKETS - 1));
+		}
+		
+		private static long lowerBound(int index) {
+			if (index < SUB_BUCKETS)
+				return index;
+			
+			int exponent = index / SUB_BUCKETS + 3;
+			
+			return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - 4);
+		}
+		
+		/**
+		 * Returns formatted {@code String} representation of {@code Histogram} object.
+		 * 
+		 * @return {@code String} representation of the object
+		 */
+		@Override
+		public synchronized String toString() {
+			return "[p50=" + percentile(50) + ", p99=" + percentile(99) + ", max=" + max + "]";
+		}
+	}
+}
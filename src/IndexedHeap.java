@@ -0,0 +1,198 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code IndexedHeap} is a binary min heap of integer ids 0 to n - 1 ordered by {@code long} keys.
+ * Unlike {@code java.util.PriorityQueue}, the key of an id in the heap can be decreased in O(log n) time
+ * without adding a duplicate entry, it's the priority queue of Dijkstra's and A* algorithms.
+ * 
+ * @author agent
+ * @see ShortestPaths
+ * @version 1.0 (10/19/2026)
+ */
+public class IndexedHeap {
+	/**
+	 * Ids in heap order
+	 */
+	private int[] heap;
+	
+	/**
+	 * Position of each id in the heap, -1 if the id is not in the heap
+	 */
+	private int[] position;
+	
+	/**
+	 * Key of each id
+	 */
+	private long[] keys;
+	
+	/**
+	 * Number of ids in the heap
+	 */
+	private int size;
+	
+	/**
+	 * Creates new and empty {@code IndexedHeap} object.
+	 * 
+	 * @param capacity
+	 *        ids are in range [0, capacity)
+	 */
+	public IndexedHeap(int capacity) {
+		heap = new int[capacity];
+		position = new int[capacity];
+		keys = new long[capacity];
+		
+		Arrays.fill(position, -1);
+	}
+	
+	/**
+	 * Returns number of ids in the heap.
+	 * 
+	 * @return size of the heap
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Tests if the heap is empty or not.
+	 * 
+	 * @return {@code true} if the heap is empty {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	/**
+	 * Tests if the id is in the heap.
+	 * 
+	 * @param id
+	 *        id to be tested
+	 * 
+	 * @return {@code true} if the id is in the heap {@code false} otherwise
+	 */
+	public boolean contains(int id) {
+		return position[id] >= 0;
+	}
+	
+	/**
+	 * Inserts an id or decreases its key if it's already in the heap, a larger key is ignored.
+	 * 
+	 * @param id
+	 *        id to be inserted
+	 * @param key
+	 *        key of the id
+	 * 
+	 * @return {@code true} if the id was inserted or its key decreased {@code false} otherwise
+	 */
+	public boolean offer(int id, long key) {
+		if (position[id] < 0) {
+			heap[size] = id;
+			position[id] = size;
+			keys[id] = key;
+			
+			up(size++);
+			
+			return true;
+		}
+		
+		if (key >= keys[id])
+			return false;
+		
+		keys[id] = key;
+		up(position[id]);
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the smallest key in the heap.
+	 * 
+	 * @return smallest key
+	 * 
+	 * @throw java.util.NoSuchElementException if the heap is empty
+	 */
+	public long peekKey() {
+		if (size == 0)
+			throw new NoSuchElementException("The heap is empty!");
+		
+		return keys[heap[0]];
+	}
+	
+	/**
+	 * Removes the id with the smallest key.
+	 * 
+	 * @return removed id
+	 * 
+	 * @throw java.util.NoSuchElementException if the heap is empty
+	 */
+	public int poll() {
+		if (size == 0)
+			throw new NoSuchElementException("The heap is empty!");
+		
+		int top = heap[0];
+		
+		position[top] = -1;
+		
+		if (--size > 0) {
+			heap[0] = heap[size];
+			position[heap[0]] = 0;
+			
+			down(0);
+		}
+		
+		return top;
+	}
+	
+	/**
+	 * Removes all ids, it takes time proportional to the size of the heap.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; ++i)
+			position[heap[i]] = -1;
+		
+		size = 0;
+	}
+	
+	private void up(int i) {
+		int id = heap[i];
+		
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			
+			if (keys[heap[parent]] <= keys[id])
+				break;
+			
+			heap[i] = heap[parent];
+			position[heap[i]] = i;
+			i = parent;
+		}
+		
+		heap[i] = id;
+		position[id] = i;
+	}
+	
+	private void down(int i) {
+		int id = heap[i];
+		
+		while (true) {
+			int child = 2 * i + 1;
+			
+			if (child >= size)
+				break;
+			
+			if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]])
+				++child;
+			
+			if (keys[id] <= keys[heap[child]])
+				break;
+			
+			heap[i] = heap[child];
+			position[heap[i]] = i;
+			i = child;
+		}
+		
+		heap[i] = id;
+		position[id] = i;
+	}
+}
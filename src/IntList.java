@@ -0,0 +1,44 @@
+import java.util.Arrays;
+
+/**
+ * The {@code IntList} is a growable array of {@code int}, it avoids boxing of {@code java.util.List<Integer>}
+ * while vertexes or edges are collected by parallel algorithms.
+ * 
+ * @author agent
+ * @version 1.0 (10/19/2026)
+ */
+final class IntList {
+	int[] data = new int[16];
+	int size;
+	
+	void add(int x) {
+		if (size == data.length)
+			data = Arrays.copyOf(data, data.length * 2);
+		
+		data[size++] = x;
+	}
+	
+	void clear() {
+		size = 0;
+	}
+	
+	static int[] concat(IntList[] lists) {
+		long total = 0;
+		
+		for (IntList list : lists)
+			total += list.size;
+		
+		if (total > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("The graph is too big!");
+		
+		int[] result = new int[(int) total];
+		int at = 0;
+		
+		for (IntList list : lists) {
+			System.arraycopy(list.data, 0, result, at, list.size);
+			at += list.size;
+		}
+		
+		return result;
+	}
+}
@@ -0,0 +1,496 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code LandmarkIndex} keeps exact distances between a few landmark vertexes and every vertex of a graph,
+ * so distance between any two vertexes is bounded right away by the triangle inequality (ALT: A*, landmarks, triangle inequality).
+ * It's a cheap middle option between plain searches and a {@code ContractionHierarchy}: it takes O(k * V) memory
+ * and k searches to build, its lower bounds make an A* heuristic that explores a lot less of the graph than Dijkstra's algorithm
+ * and its lower and upper bounds together are an approximate distance with an error bound.
+ * 
+ * For landmark L and vertexes u and v, d(u, v) >= d(u, L) - d(v, L), d(u, v) >= d(L, v) - d(L, u) and d(u, v) <= d(u, L) + d(L, v).
+ * 
+ * The index is a snapshot, added edges can be applied with {@code addEdge}, it only lowers the distances
+ * the edge changes. Removed edges and vertexes need a new index, old distances would make the bounds wrong.
+ * The index is not thread safe while edges are being added.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#landmarkIndex(int)
+ * @see AbstractWeightedGraph#landmarkIndex(int)
+ * @version 1.0 (10/19/2026)
+ */
+public class LandmarkIndex<T> {
+	/**
+	 * Scratch heap of each thread for updates
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Snapshot of the graph with reversed edges, same as {@code graph} if the graph is undirected
+	 */
+	private CSRGraph<T> reverse;
+	
+	/**
+	 * Number of vertexes
+	 */
+	private int n;
+	
+	/**
+	 * Indexes of the landmarks
+	 */
+	private int[] landmarks;
+	
+	/**
+	 * Distance from each landmark to each vertex and from each vertex to each landmark,
+	 * {@code WeightedGraph.INF} if there's no path, the arrays are shared if the graph is undirected
+	 */
+	private int[][] from, to;
+	
+	/**
+	 * Edges added after the snapshot as (vertex, weight) pairs, indexed by their "from" and "to" vertexes
+	 */
+	private IntList[] addedOut, addedIn;
+	
+	private LandmarkIndex(CSRGraph<T> graph, int[] landmarks, int[][] from, int[][] to) {
+		this.graph = graph;
+		this.reverse = graph.isDirected() ? graph.transpose() : graph;
+		this.n = graph.vertexCount();
+		this.landmarks = landmarks;
+		this.from = from;
+		this.to = to;
+		this.addedOut = new IntList[n];
+		this.addedIn = graph.isDirected() ? new IntList[n] : addedOut;
+	}
+	
+	/**
+	 * Builds an index with k landmarks picked far from each other: the first one is the vertex farthest from the first vertex,
+	 * each next one is the vertex farthest from all landmarks picked so far, unreachable vertexes are the farthest.
+	 * Far landmarks lie "behind" most vertexes, where the bounds are tight.
+	 * 
+	 * @param graph
+	 *        graph snapshot, weights must be non-negative
+	 * @param k
+	 *        number of landmarks
+	 * @param work
+	 *        visited vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return {@code LandmarkIndex} of the graph
+	 */
+	static <T> LandmarkIndex<T> build(CSRGraph<T> graph, int k, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		
+		k = Math.min(k, graph.keptVertexCount());
+		
+		int[] landmarks = new int[k];
+		int[][] from = new int[k][];
+		int[] nearest = new int[n];//distance from the nearest landmark picked so far
+		
+		if (k > 0) {
+			int first = 0;
+			
+			while (!graph.hasVertex(first))
+				++first;
+			
+			int[] start = distances(graph, first, work);
+			
+			landmarks[0] = farthest(graph, start);
+		}
+		
+		Arrays.fill(nearest, Integer.MAX_VALUE);
+		
+		for (int i = 0; i < k; ++i) {
+			if (i > 0)
+				landmarks[i] = farthest(graph, nearest);
+			
+			from[i] = distances(graph, landmarks[i], work);
+			
+			for (int v = 0; v < n; ++v)
+				nearest[v] = Math.min(nearest[v], from[i][v]);
+		}
+		
+		int[][] to = from;
+		
+		if (graph.isDirected()) {
+			CSRGraph<T> reverse = graph.transpose();
+			int[][] reversed = new int[k][];
+			
+			IntStream.range(0, k).parallel().forEach(i -> reversed[i] = distances(reverse, landmarks[i], work));
+			
+			to = reversed;
+		}
+		
+		return new LandmarkIndex<>(graph, landmarks, from, to);
+	}
+	
+	/**
+	 * Builds an index with chosen landmarks, distances of all landmarks are computed in parallel.
+	 * 
+	 * @param graph
+	 *        graph snapshot, weights must be non-negative
+	 * @param landmarks
+	 *        indexes of the landmarks
+	 * @param work
+	 *        visited vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return {@code LandmarkIndex} of the graph
+	 */
+	static <T> LandmarkIndex<T> build(CSRGraph<T> graph, int[] landmarks, AtomicLongArray work) {
+		int k = landmarks.length;
+		int[][] from = new int[k][];
+		int[][] to = graph.isDirected() ? new int[k][] : from;
+		CSRGraph<T> reverse = graph.isDirected() ? graph.transpose() : graph;
+		
+		IntStream.range(0, graph.isDirected() ? 2 * k : k).parallel().forEach(i -> {
+			if (i < k)
+				from[i] = distances(graph, landmarks[i], work);
+			else
+				to[i - k] = distances(reverse, landmarks[i - k], work);
+		});
+		
+		return new LandmarkIndex<>(graph, landmarks, from, to);
+	}
+	
+	/*
+	 * Picks the kept vertex with the largest distance, the first one on ties.
+	 */
+	private static int farthest(CSRGraph<?> graph, int[] dist) {
+		int best = -1;
+		
+		for (int v = 0; v < dist.length; ++v)
+			if (graph.hasVertex(v) && (best < 0 || dist[v] > dist[best]))
+				best = v;
+		
+		return best;
+	}
+	
+	/*
+	 * Distances from the source, BFS for unweighted graphs and Dijkstra's algorithm for weighted ones.
+	 */
+	private static int[] distances(CSRGraph<?> graph, int source, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		int[] dist = new int[n];
+		long visits = 0, edgeScans = 0;
+		
+		Arrays.fill(dist, WeightedGraph.INF);
+		dist[source] = 0;
+		
+		if (weights == null) {
+			int[] queue = new int[n];
+			int head = 0, tail = 0;
+			
+			queue[tail++] = source;
+			
+			while (head < tail) {
+				int u = queue[head++];
+				
+				++visits;
+				
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+					if (!graph.hasEdge(e))
+						continue;
+					
+					int v = targets[e];
+					
+					++edgeScans;
+					
+					if (dist[v] == WeightedGraph.INF) {
+						dist[v] = dist[u] + 1;
+						queue[tail++] = v;
+					}
+				}
+			}
+		} else {
+			IndexedHeap heap = new IndexedHeap(n);
+			
+			heap.offer(source, 0);
+			
+			while (!heap.isEmpty()) {
+				int u = heap.poll();
+				
+				++visits;
+				
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+					if (!graph.hasEdge(e))
+						continue;
+					
+					int v = targets[e];
+					long d = (long) dist[u] + weights[e];
+					
+					++edgeScans;
+					
+					if (d < dist[v]) {
+						dist[v] = (int) d;
+						heap.offer(v, d);
+					}
+				}
+			}
+		}
+		
+		work.addAndGet(0, visits);
+		work.addAndGet(1, edgeScans);
+		
+		return dist;
+	}
+	
+	/**
+	 * Returns number of landmarks.
+	 * 
+	 * @return number of landmarks
+	 */
+	public int size() {
+		return landmarks.length;
+	}
+	
+	/**
+	 * Returns the landmarks.
+	 * 
+	 * @return read-only list of landmarks
+	 */
+	public List<T> landmarks() {
+		return new AbstractList<T>() {
+			@Override
+			public T get(int i) {
+				return graph.vertex(landmarks[i]);
+			}
+			
+			@Override
+			public int size() {
+				return landmarks.length;
+			}
+		};
+	}
+	
+	/**
+	 * Returns the largest lower bound of distance between two vertexes the landmarks give.
+	 * 
+	 * @param u
+	 *        source vertex
+	 * @param v
+	 *        destination vertex
+	 * 
+	 * @return lower bound of the shortest path, -1 if the landmarks prove there's no path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public int lowerBound(T u, T v) {
+		return lowerBound(index(u), index(v));
+	}
+	
+	/**
+	 * Returns the smallest upper bound of distance between two vertexes the landmarks give,
+	 * it's length of the shortest path from u to v over a landmark.
+	 * Together with {@code lowerBound} it's an approximate distance, the real one is between them.
+	 * 
+	 * @param u
+	 *        source vertex
+	 * @param v
+	 *        destination vertex
+	 * 
+	 * @return upper bound of the shortest path, -1 if no landmark is on a path from u to v
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public int upperBound(T u, T v) {
+		int i = index(u);
+		int j = index(v);
+		long best = WeightedGraph.INF;
+		
+		for (int l = 0; l < landmarks.length; ++l)
+			best = Math.min(best, (long) to[l][i] + from[l][j]);
+		
+		return best >= WeightedGraph.INF ? -1 : (int) best;
+	}
+	
+	/**
+	 * Returns an A* heuristic made of the lower bounds, it's admissible.
+	 * A vertex that can't reach the target is estimated as {@code WeightedGraph.INF}, so the search skips it.
+	 * 
+	 * @return landmark heuristic
+	 */
+	public Heuristic<T> heuristic() {
+		return (vertex, target) -> {
+			int i = graph.indexOf(vertex);
+			int j = graph.indexOf(target);
+			
+			if (i < 0 || j < 0)
+				return 0;//a vertex added after the index was built
+			
+			int bound = lowerBound(i, j);
+			
+			return bound < 0 ? WeightedGraph.INF : bound;
+		};
+	}
+	
+	private int lowerBound(int i, int j) {
+		int best = 0;
+		
+		for (int l = 0; l < landmarks.length; ++l) {
+			int li = from[l][i], lj = from[l][j], il = to[l][i], jl = to[l][j];
+			
+			if (li < WeightedGraph.INF && lj >= WeightedGraph.INF)
+				return -1;//L reaches u but not v, so u can't reach v
+			
+			if (jl < WeightedGraph.INF && il >= WeightedGraph.INF)
+				return -1;//v reaches L but u does not, so u can't reach v
+			
+			if (li < WeightedGraph.INF)
+				best = Math.max(best, lj - li);
+			
+			if (jl < WeightedGraph.INF)
+				best = Math.max(best, il - jl);
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Applies an unweighted edge added to the graph, it weighs 1.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public void addEdge(T u, T v) {
+		addEdge(u, v, 1);
+	}
+	
+	/**
+	 * Applies a weighted edge added to the graph. Only distances that get shorter are searched again,
+	 * starting from the edge, so an edge far from the landmarks' shortest paths costs next to nothing.
+	 * The edge goes both ways if the graph is undirected.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * @param weight
+	 *        edge weight
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE (it's not in the index) or the weight is negative
+	 */
+	public void addEdge(T u, T v, int weight) {
+		int i = index(u);
+		int j = index(v);
+		
+		if (weight < 0)
+			throw new IllegalArgumentException("Landmark index does not allow negative weights!");
+		
+		add(addedOut, i, j, weight);
+		add(addedIn, j, i, weight);//same lists as addedOut if the graph is undirected
+		
+		if (!graph.isDirected())
+			IntStream.range(0, landmarks.length).parallel().forEach(l -> {
+				lower(from[l], i, j, weight, graph, addedOut);
+				lower(from[l], j, i, weight, graph, addedOut);
+			});
+		else
+			IntStream.range(0, landmarks.length).parallel().forEach(l -> {
+				lower(from[l], i, j, weight, graph, addedOut);
+				lower(to[l], j, i, weight, reverse, addedIn);
+			});
+	}
+	
+	private static void add(IntList[] added, int u, int v, int weight) {
+		if (added[u] == null)
+			added[u] = new IntList();
+		
+		added[u].add(v);
+		added[u].add(weight);
+	}
+	
+	/*
+	 * Lowers distances after edge (u, v) was added, it's Dijkstra's algorithm from v over the vertexes whose distance gets shorter.
+	 */
+	private static void lower(int[] dist, int u, int v, int weight, CSRGraph<?> graph, IntList[] added) {
+		if (dist[u] >= WeightedGraph.INF || (long) dist[u] + weight >= dist[v])
+			return;
+		
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		IndexedHeap heap = SCRATCH.get().heap(dist.length);
+		
+		dist[v] = dist[u] + weight;
+		heap.offer(v, dist[v]);
+		
+		while (!heap.isEmpty()) {
+			int x = heap.poll();
+			
+			for (int e = offsets[x]; e < offsets[x + 1]; ++e)
+				if (graph.hasEdge(e))
+					relax(dist, heap, x, targets[e], weights == null ? 1 : weights[e]);
+			
+			if (added[x] != null)
+				for (int p = 0; p < added[x].size; p += 2)
+					relax(dist, heap, x, added[x].data[p], added[x].data[p + 1]);
+		}
+	}
+	
+	private static void relax(int[] dist, IndexedHeap heap, int x, int y, int weight) {
+		long d = (long) dist[x] + weight;
+		
+		if (d < dist[y]) {
+			dist[y] = (int) d;
+			heap.offer(y, d);
+		}
+	}
+	
+	private int index(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return i;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code LandmarkIndex} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "LandmarkIndex[vertexes=" + n + ", landmarks=" + landmarks() + "]";
+	}
+	
+	/*
+	 * Scratch state of updates, the heap is empty between updates.
+	 */
+	private static class Scratch {
+		IndexedHeap heap = new IndexedHeap(0);
+		int capacity;
+		
+		IndexedHeap heap(int n) {
+			if (capacity < n) {
+				heap = new IndexedHeap(n);
+				capacity = n;
+			}
+			
+			return heap;
+		}
+	}
+}
@@ -0,0 +1,583 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code LinkCutTree} is a dynamic forest, it's used to keep a {@code Forest} acyclic when edges are removed as well as added,
+ * which a union find can't do. Trees are linked and cut, checked for connectivity, rerooted and queried for path aggregates
+ * in O(log n) amortized time each. Every tree is split into preferred paths kept in splay trees keyed by depth,
+ * so a path between two elements is exposed by rerooting the tree at one of them and accessing the other one.
+ * Every element have a {@code long} value, path sum and path max aggregate the values of the elements of a path.
+ * Elements are added as single element trees when they're used first, like in {@code DisjointSetUnion}.
+ * 
+ * @param <T> element type
+ * 
+ * @author agent
+ * @see Forest
+ * @see DisjointSetUnion
+ * @version 1.0 (10/19/2026)
+ */
+public class LinkCutTree<T> {
+	/**
+	 * Maps elements to their nodes
+	 */
+	private Map<T, Integer> ids;
+	
+	/**
+	 * Element of each node, {@code null} for free nodes
+	 */
+	private List<T> elements;
+	
+	/**
+	 * Nodes of removed elements, they're reused by new ones
+	 */
+	private IntList free;
+	
+	/**
+	 * Ancestors of a node that's splayed, their flips are pushed down from the top
+	 */
+	private IntList stack = new IntList();
+	
+	/**
+	 * Children in the splay tree and parent, the parent of a splay tree root is the path parent, -1 if none
+	 */
+	private int[] left, right, parent;
+	
+	/**
+	 * Number of tree edges of each element
+	 */
+	private int[] degree;
+	
+	/**
+	 * Number of nodes in the splay subtree of each node
+	 */
+	private int[] size;
+	
+	/**
+	 * Value of each element and sum and max of the values in its splay subtree
+	 */
+	private long[] value, sum, max;
+	
+	/**
+	 * Flags splay subtrees that must be reversed, it's pushed down lazily
+	 */
+	private boolean[] flip;
+	
+	/**
+	 * Creates a new {@code LinkCutTree} object without any elements.
+	 */
+	public LinkCutTree() {
+		ids = new HashMap<>();
+		elements = new ArrayList<>();
+		free = new IntList();
+		left = new int[16];
+		right = new int[16];
+		parent = new int[16];
+		degree = new int[16];
+		size = new int[16];
+		value = new long[16];
+		sum = new long[16];
+		max = new long[16];
+		flip = new boolean[16];
+	}
+	
+	/**
+	 * Creates a new single element tree, it does nothing if the element exists.
+	 * 
+	 * @param x
+	 *        new element
+	 */
+	public void makeTree(T x) {
+		id(x);
+	}
+	
+	/**
+	 * Checks if an element exists.
+	 * 
+	 * @param x
+	 *        element
+	 * 
+	 * @return {@code true} if the element exists {@code false} otherwise
+	 */
+	public boolean contains(T x) {
+		return ids.containsKey(x);
+	}
+	
+	/**
+	 * Removes a single element tree.
+	 * 
+	 * @param x
+	 *        element to be removed
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the element is linked to another one
+	 */
+	public void remove(T x) {
+		Integer id = ids.get(x);
+		
+		if (id == null)
+			return;
+		
+		if (degree[id] > 0)
+			throw new IllegalArgumentException("Cut edges of the element first!");
+		
+		ids.remove(x);
+		elements.set(id, null);
+		free.add(id);
+	}
+	
+	/**
+	 * Links trees of two elements with an edge.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return {@code true} if the trees are linked, {@code false} if the elements are in the same tree
+	 */
+	public boolean link(T u, T v) {
+		int x = id(u);
+		int y = id(v);
+		
+		if (x == y || root(x) == root(y))
+			return false;
+		
+		evert(x);
+		parent[x] = y;
+		++degree[x];
+		++degree[y];
+		
+		return true;
+	}
+	
+	/**
+	 * Cuts the edge between two elements.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return {@code true} if the edge is cut, {@code false} if there's no such edge
+	 */
+	public boolean cut(T u, T v) {
+		if (!contains(u) || !contains(v))
+			return false;
+		
+		int x = ids.get(u);
+		int y = ids.get(v);
+		
+		if (x == y)
+			return false;
+		
+		evert(x);
+		access(y);//the path from x to y is the splay tree of y now, x and y are adjacent if x is the only node before y
+		
+		if (left[y] != x)
+			return false;
+		
+		push(x);
+		
+		if (right[x] >= 0)
+			return false;
+		
+		left[y] = -1;
+		parent[x] = -1;
+		update(y);
+		--degree[x];
+		--degree[y];
+		
+		return true;
+	}
+	
+	/**
+	 * Checks if two elements are in the same tree.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return {@code true} if the elements are connected {@code false} otherwise
+	 */
+	public boolean connected(T u, T v) {
+		return root(id(u)) == root(id(v));
+	}
+	
+	/**
+	 * Returns root of the tree of an element.
+	 * 
+	 * @param x
+	 *        element
+	 * 
+	 * @return root of the tree
+	 */
+	public T findRoot(T x) {
+		return elements.get(root(id(x)));
+	}
+	
+	/**
+	 * Makes an element root of its tree (reroots the tree).
+	 * 
+	 * @param x
+	 *        new root
+	 */
+	public void evert(T x) {
+		evert(id(x));
+	}
+	
+	/**
+	 * Returns parent of an element in its rooted tree.
+	 * 
+	 * @param x
+	 *        element
+	 * 
+	 * @return parent of the element, {@code null} for a root
+	 */
+	public T parent(T x) {
+		int y = id(x);
+		
+		access(y);
+		
+		int z = left[y];
+		
+		if (z < 0)
+			return null;
+		
+		push(z);
+		
+		while (right[z] >= 0) {
+			z = right[z];
+			push(z);
+		}
+		
+		splay(z);
+		
+		return elements.get(z);
+	}
+	
+	/**
+	 * Returns lowest common ancestor of two elements in their rooted tree.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return the deepest element that is an ancestor of both elements, {@code null} if they are in different trees
+	 */
+	public T lca(T u, T v) {
+		int x = id(u);
+		int y = id(v);
+		
+		if (root(x) != root(y))
+			return null;
+		
+		access(x);
+		
+		return elements.get(access(y));
+	}
+	
+	/**
+	 * Returns number of edges on the path between two elements, it reroots their tree.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return length of the path, -1 if the elements are in different trees
+	 */
+	public int pathLength(T u, T v) {
+		int y = path(u, v);
+		
+		return y < 0 ? -1 : size[y] - 1;
+	}
+	
+	/**
+	 * Returns sum of values of the elements on the path between two elements, it reroots their tree.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return sum of the values including both ends
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the elements are in different trees
+	 */
+	public long pathSum(T u, T v) {
+		int y = path(u, v);
+		
+		if (y < 0)
+			throw new IllegalArgumentException("The elements are not connected!");
+		
+		return sum[y];
+	}
+	
+	/**
+	 * Returns the greatest value of the elements on the path between two elements, it reroots their tree.
+	 * 
+	 * @param u
+	 *        first element
+	 * @param v
+	 *        second element
+	 * 
+	 * @return max of the values including both ends
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the elements are in different trees
+	 */
+	public long pathMax(T u, T v) {
+		int y = path(u, v);
+		
+		if (y < 0)
+			throw new IllegalArgumentException("The elements are not connected!");
+		
+		return max[y];
+	}
+	
+	/**
+	 * Returns value of an element, it's 0 unless it's set.
+	 * 
+	 * @param x
+	 *        element
+	 * 
+	 * @return value of the element
+	 */
+	public long getValue(T x) {
+		return value[id(x)];
+	}
+	
+	/**
+	 * Changes value of an element.
+	 * 
+	 * @param x
+	 *        element
+	 * @param value
+	 *        new value
+	 */
+	public void setValue(T x, long value) {
+		int y = id(x);
+		
+		access(y);//y is the root of its splay tree, no other aggregate contains it
+		this.value[y] = value;
+		update(y);
+	}
+	
+	/*
+	 * Returns node of an element, a new single element tree is created if it DNE.
+	 */
+	private int id(T x) {
+		Objects.requireNonNull(x);
+		
+		Integer id = ids.get(x);
+		
+		if (id != null)
+			return id;
+		
+		int y;
+		
+		if (free.size > 0) {
+			y = free.data[--free.size];
+			elements.set(y, x);
+		} else {
+			y = elements.size();
+			elements.add(x);
+			
+			if (y == left.length) {
+				int length = 2 * y;
+				
+				left = Arrays.copyOf(left, length);
+				right = Arrays.copyOf(right, length);
+				parent = Arrays.copyOf(parent, length);
+				degree = Arrays.copyOf(degree, length);
+				size = Arrays.copyOf(size, length);
+				value = Arrays.copyOf(value, length);
+				sum = Arrays.copyOf(sum, length);
+				max = Arrays.copyOf(max, length);
+				flip = Arrays.copyOf(flip, length);
+			}
+		}
+		
+		left[y] = right[y] = parent[y] = -1;
+		degree[y] = 0;
+		size[y] = 1;
+		value[y] = sum[y] = max[y] = 0;
+		flip[y] = false;
+		ids.put(x, y);
+		
+		return y;
+	}
+	
+	/*
+	 * Exposes the path between two elements as the splay tree of the second one, -1 if they're in different trees.
+	 */
+	private int path(T u, T v) {
+		int x = id(u);
+		int y = id(v);
+		
+		if (root(x) != root(y))
+			return -1;
+		
+		evert(x);
+		access(y);
+		
+		return y;
+	}
+	
+	private boolean isRoot(int x) {
+		int p = parent[x];
+		
+		return p < 0 || (left[p] != x && right[p] != x);
+	}
+	
+	private void push(int x) {
+		if (flip[x]) {
+			int l = left[x];
+			
+			left[x] = right[x];
+			right[x] = l;
+			
+			if (left[x] >= 0)
+				flip[left[x]] ^= true;
+			
+			if (right[x] >= 0)
+				flip[right[x]] ^= true;
+			
+			flip[x] = false;
+		}
+	}
+	
+	private void update(int x) {
+		int l = left[x];
+		int r = right[x];
+		
+		size[x] = 1;
+		sum[x] = max[x] = value[x];
+		
+		if (l >= 0) {
+			size[x] += size[l];
+			sum[x] += sum[l];
+			max[x] = Math.max(max[x], max[l]);
+		}
+		
+		if (r >= 0) {
+			size[x] += size[r];
+			sum[x] += sum[r];
+			max[x] = Math.max(max[x], max[r]);
+		}
+	}
+	
+	private void rotate(int x) {
+		int p = parent[x];
+		int g = parent[p];
+		
+		if (!isRoot(p)) {
+			if (left[g] == p)
+				left[g] = x;
+			else
+				right[g] = x;
+		}
+		
+		if (left[p] == x) {
+			left[p] = right[x];
+			
+			if (right[x] >= 0)
+				parent[right[x]] = p;
+			
+			right[x] = p;
+		} else {
+			right[p] = left[x];
+			
+			if (left[x] >= 0)
+				parent[left[x]] = p;
+			
+			left[x] = p;
+		}
+		
+		parent[p] = x;
+		parent[x] = g;
+		update(p);
+		update(x);
+	}
+	
+	/*
+	 * Moves a node to the root of its splay tree, pending flips on the way are pushed down first.
+	 */
+	private void splay(int x) {
+		stack.clear();
+		
+		for (int y = x;; y = parent[y]) {
+			stack.add(y);
+			
+			if (isRoot(y))
+				break;
+		}
+		
+		while (stack.size > 0)
+			push(stack.data[--stack.size]);
+		
+		while (!isRoot(x)) {
+			int p = parent[x];
+			
+			if (!isRoot(p))
+				rotate((left[parent[p]] == p) == (left[p] == x) ? p : x);//zig-zig rotates the parent first
+			
+			rotate(x);
+		}
+	}
+	
+	/*
+	 * Makes the path from the root to a node preferred, the node becomes root of its splay tree without a right subtree.
+	 * Returns the last node where the path joined the preferred path, it's the LCA with the node accessed before.
+	 */
+	private int access(int x) {
+		int last = -1;
+		
+		for (int y = x; y >= 0; y = parent[y]) {
+			splay(y);
+			right[y] = last;
+			update(y);
+			last = y;
+		}
+		
+		splay(x);
+		
+		return last;
+	}
+	
+	private void evert(int x) {
+		access(x);
+		flip[x] ^= true;
+	}
+	
+	private int root(int x) {
+		access(x);
+		
+		int y = x;
+		
+		push(y);
+		
+		while (left[y] >= 0) {
+			y = left[y];
+			push(y);
+		}
+		
+		splay(y);
+		
+		return y;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code LinkCutTree} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "LinkCutTree[elements=" + ids.size() + "]";
+	}
+}
@@ -0,0 +1,24 @@
+/**
+ * The {@code Locatable} is an interface for vertexes that have a position,
+ * it's used by coordinate based heuristics of the A* search.
+ * 
+ * @author agent
+ * @see Heuristic#euclidean(double)
+ * @see Heuristic#greatCircle(double)
+ * @version 1.0 (10/19/2026)
+ */
+public interface Locatable {
+	/**
+	 * Returns x coordinate of the vertex, or its longitude in degrees for geographic positions.
+	 * 
+	 * @return x coordinate
+	 */
+	double getX();
+	
+	/**
+	 * Returns y coordinate of the vertex, or its latitude in degrees for geographic positions.
+	 * 
+	 * @return y coordinate
+	 */
+	double getY();
+}
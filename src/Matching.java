@@ -0,0 +1,341 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code Matching} holds a maximum matching of a bipartite graph: a largest set of edges without common vertexes.
+ * Edge directions are ignored, so an edge can be matched from either of its ends. Vertexes are indexed the same way
+ * as in the {@code CSRGraph} snapshot the matching was found in.
+ * 
+ * The matching is found by Hopcroft-Karp algorithm in O(E * sqrt(V)) time: every phase runs a BFS from all unmatched vertexes
+ * of the first side to find the length of the shortest augmenting paths, then augments along a maximal set of vertex disjoint
+ * shortest paths with DFS, there are at most O(sqrt(V)) phases. Both searches are iterative and work on primitive arrays.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#maximumMatching()
+ * @see AbstractWeightedGraph#maximumMatching()
+ * @version 1.0 (10/19/2026)
+ */
+public class Matching<T> {
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Vertex matched with each vertex, -1 if it's unmatched
+	 */
+	private int[] mate;
+	
+	/**
+	 * Number of matched edges
+	 */
+	private int size;
+	
+	private Matching(CSRGraph<T> graph, int[] mate, int size) {
+		this.graph = graph;
+		this.mate = mate;
+		this.size = size;
+	}
+	
+	/**
+	 * Colours vertexes of a graph snapshot with two colours so that no edge joins vertexes of the same colour,
+	 * edge directions are ignored. It takes O(V + E) time.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * 
+	 * @return colour (0 or 1) of each vertex, the lowest indexed vertex of every component gets 0,
+	 *         -1 for a vertex a masked snapshot does not keep, {@code null} if the graph is not bipartite
+	 */
+	static int[] colour(CSRGraph<?> graph) {
+		int n = graph.vertexCount();
+		CSRGraph<?> reverse = graph.isDirected() ? graph.transpose() : null;//predecessors are neighbours too
+		int[][] offsets = {graph.offsets(), reverse == null ? null : reverse.offsets()};
+		int[][] targets = {graph.targets(), reverse == null ? null : reverse.targets()};
+		int[] colour = new int[n];
+		int[] queue = new int[n];
+		
+		Arrays.fill(colour, -1);
+		
+		for (int s = 0; s < n; ++s) {
+			if (colour[s] >= 0 || !graph.hasVertex(s))
+				continue;
+			
+			int tail = 0;
+			
+			colour[s] = 0;
+			queue[tail++] = s;
+			
+			for (int head = 0; head < tail; ++head) {
+				int u = queue[head];
+				
+				for (int side = 0; side < 2 && offsets[side] != null; ++side)
+					for (int e = offsets[side][u]; e < offsets[side][u + 1]; ++e) {
+						if (side == 0 && !graph.hasEdge(e))
+							continue;//the transpose have no dropped edges
+						
+						int v = targets[side][e];
+						
+						if (colour[v] < 0) {
+							colour[v] = 1 - colour[u];
+							queue[tail++] = v;
+						} else if (colour[v] == colour[u])//an odd cycle (or a self loop)
+							return null;
+					}
+			}
+		}
+		
+		return colour;
+	}
+	
+	/**
+	 * Finds a maximum matching of a bipartite graph snapshot with Hopcroft-Karp algorithm.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param colour
+	 *        colour of each vertex from {@link #colour(CSRGraph)}
+	 * @param work
+	 *        visited vertexes, scanned edges and augmenting paths are added to its entries 0 to 2
+	 * 
+	 * @return maximum {@code Matching} of the graph
+	 */
+	static <T> Matching<T> hopcroftKarp(CSRGraph<T> graph, int[] colour, AtomicLongArray work) {
+		CSRGraph<T> view = graph.isDirected() ? graph.undirected() : graph;
+		int n = view.vertexCount();
+		int[] offsets = view.offsets();
+		int[] targets = view.targets();
+		int[] mate = new int[n];
+		int[] dist = new int[n];//BFS layer of vertexes of the first side, -1 if unreached or dead
+		int[] cursor = new int[n];//next edge the DFS tries from each vertex of the first side
+		int[] queue = new int[n];
+		IntList stack = new IntList();
+		int size = 0;
+		long visits = 0, edgeScans = 0, augmentations = 0;
+		
+		Arrays.fill(mate, -1);
+		
+		for (int u = 0; u < n; ++u)//greedy matching first, it usually leaves few vertexes for the phases
+			if (colour[u] == 0)
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+					if (view.hasEdge(e) && mate[targets[e]] < 0) {
+						mate[u] = targets[e];
+						mate[targets[e]] = u;
+						++size;
+						break;
+					}
+		
+		while (true) {
+			int tail = 0;
+			int limit = -1;//layer of the vertexes next to an unmatched vertex of the second side, -1 if none is found
+			
+			for (int u = 0; u < n; ++u)
+				if (colour[u] == 0) {
+					dist[u] = mate[u] < 0 ? 0 : -1;
+					cursor[u] = offsets[u];
+					
+					if (mate[u] < 0)
+						queue[tail++] = u;
+				}
+			
+			for (int head = 0; head < tail; ++head) {
+				int u = queue[head];
+				
+				if (limit >= 0 && dist[u] > limit)
+					break;
+				
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+					if (!view.hasEdge(e))
+						continue;
+					
+					int w = mate[targets[e]];
+					
+					if (w < 0) {
+						if (limit < 0)
+							limit = dist[u];
+					} else if (dist[w] < 0) {
+						dist[w] = dist[u] + 1;
+						queue[tail++] = w;
+					}
+				}
+				
+				++visits;
+				edgeScans += view.degree(u);
+			}
+			
+			if (limit < 0)
+				break;
+			
+			for (int i = 0; i < tail; ++i)
+				if (dist[queue[i]] == 0 && augment(view, queue[i], mate, dist, cursor, limit, stack)) {
+					++size;
+					++augmentations;
+				}
+		}
+		
+		work.addAndGet(0, visits);
+		work.addAndGet(1, edgeScans);
+		work.addAndGet(2, augmentations);
+		
+		return new Matching<>(graph, mate, size);
+	}
+	
+	/*
+	 * Looks for a shortest augmenting path from an unmatched vertex u along the BFS layers with an iterative DFS,
+	 * vertexes that lead nowhere are marked dead so no other path of the phase tries them again.
+	 */
+	private static boolean augment(CSRGraph<?> graph, int u, int[] mate, int[] dist, int[] cursor, int limit, IntList stack) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		
+		stack.clear();
+		stack.add(u);
+		
+		while (stack.size > 0) {
+			int x = stack.data[stack.size - 1];
+			
+			if (cursor[x] == offsets[x + 1]) {
+				dist[x] = -1;
+				
+				if (--stack.size > 0)
+					++cursor[stack.data[stack.size - 1]];
+				
+				continue;
+			}
+			
+			if (!graph.hasEdge(cursor[x])) {
+				++cursor[x];
+				continue;
+			}
+			
+			int y = targets[cursor[x]];
+			int w = mate[y];
+			
+			if (w < 0 ? dist[x] == limit : dist[w] == dist[x] + 1 && dist[w] <= limit) {
+				if (w >= 0) {
+					stack.add(w);
+					continue;
+				}
+				
+				for (int i = 0; i < stack.size; ++i) {//flip the path, every vertex takes the vertex its cursor points to
+					x = stack.data[i];
+					y = targets[cursor[x]];
+					mate[x] = y;
+					mate[y] = x;
+				}
+				
+				return true;
+			}
+			
+			++cursor[x];
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Returns number of vertexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int vertexCount() {
+		return graph.keptVertexCount();
+	}
+	
+	/**
+	 * Returns number of matched edges.
+	 * 
+	 * @return size of the matching
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Returns index of a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return index of the vertex, -1 if it DNE
+	 */
+	public int indexOf(T vertex) {
+		return graph.indexOf(vertex);
+	}
+	
+	/**
+	 * Returns the vertex with an index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return vertex
+	 */
+	public T vertex(int i) {
+		return graph.vertex(i);
+	}
+	
+	/**
+	 * Returns the vertex matched with a vertex by their indexes.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return index of the matched vertex, -1 if the vertex is unmatched
+	 */
+	public int mate(int i) {
+		return mate[i];
+	}
+	
+	/**
+	 * Returns the vertex matched with a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return matched vertex, {@code null} if the vertex is unmatched
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public T mate(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return mate[i] < 0 ? null : graph.vertex(mate[i]);
+	}
+	
+	/**
+	 * Returns matched edges, each edge goes from its lower indexed vertex.
+	 * 
+	 * @return list of matched edges
+	 */
+	public List<Edge<T>> edges() {
+		List<Edge<T>> edges = new ArrayList<>(size);
+		
+		for (int i = 0; i < mate.length; ++i)
+			if (i < mate[i])
+				edges.add(new Edge<>(graph.vertex(i), graph.vertex(mate[i])));
+		
+		return edges;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code Matching} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "Matching[vertexes=" + vertexCount() + ", size=" + size + "]";
+	}
+}
@@ -0,0 +1,426 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@code MaxFlowSession} keeps the residual network of a {@code Network} (or subgraph view) snapshot and its flow between queries,
+ * so a max flow can be re-queried after capacity changes without starting from zero. Edge weights are capacities,
+ * edges are indexed the same way as in {@code freeze().targets()}, an undirected edge is stored (and carries flow) in both directions.
+ * The session does not follow later changes of the network, and capacity changes of the session are not written back to it.
+ * 
+ * Flow is augmented with Dinic's algorithm: a BFS builds levels of the residual network and an iterative DFS with edge cursors
+ * pushes a blocking flow along shortest paths. Raising a capacity keeps the flow valid, so the next {@link #maxFlow()} only pushes
+ * the difference. Lowering a capacity below the flow of the edge leaves an excess at its tail and a deficit at its head,
+ * the excess is rerouted to the head through the residual network first and the rest is returned to the terminals.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see Network#maxFlowSession(Object, Object)
+ * @version 1.0 (10/19/2026)
+ */
+public class MaxFlowSession<T> {
+	/**
+	 * Network the session reports its runs to
+	 */
+	private AbstractWeightedGraph<T> network;
+	
+	/**
+	 * Snapshot of the network, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Residual network with the current flow
+	 */
+	private ResidualGraph residual;
+	
+	/**
+	 * Indexes of source and sink
+	 */
+	private int source, sink;
+	
+	/**
+	 * BFS level of each vertex, -1 if unreached or dead
+	 */
+	private int[] level;
+	
+	/**
+	 * Next arc the DFS tries from each vertex
+	 */
+	private int[] cursor;
+	
+	private int[] queue;
+	private IntList stack = new IntList();
+	private long visits, edgeScans, augmentations;
+	
+	/**
+	 * Creates a session without flow.
+	 * 
+	 * @param network
+	 *        network the session reports its runs to
+	 * @param graph
+	 *        snapshot of the network
+	 * @param source
+	 *        index of the source
+	 * @param sink
+	 *        index of the sink
+	 */
+	MaxFlowSession(AbstractWeightedGraph<T> network, CSRGraph<T> graph, int source, int sink) {
+		this.network = network;
+		this.graph = graph;
+		this.source = source;
+		this.sink = sink;
+		
+		residual = new ResidualGraph(graph, null);
+		level = new int[residual.n];
+		cursor = new int[residual.n];
+		queue = new int[residual.n];
+	}
+	
+	/**
+	 * Augments the current flow to a maximum flow from source to sink, only the difference from the current flow is pushed.
+	 * 
+	 * @return value of the maximum flow
+	 */
+	public long maxFlow() {
+		GraphEvents.Run run = GraphEvents.start(network.listener, network);
+		
+		visits = edgeScans = augmentations = 0;
+		push(source, sink, Long.MAX_VALUE);
+		
+		run.finish("MaxFlowSession", visits, edgeScans, 0, augmentations, 0);
+		
+		return flow();
+	}
+	
+	/**
+	 * Returns value of the current flow, it's net flow out of the source.
+	 * 
+	 * @return value of the flow
+	 */
+	public long flow() {
+		long flow = 0;
+		
+		for (int a = residual.offsets[source]; a < residual.offsets[source + 1]; ++a)
+			flow += residual.capacity[a] - residual.residual[a];//a reverse arc have no capacity, it subtracts flow into the source
+		
+		return flow;
+	}
+	
+	/**
+	 * Returns flow on an edge by its index.
+	 * 
+	 * @param e
+	 *        edge index in {@code freeze().targets()}
+	 * 
+	 * @return flow of the edge
+	 */
+	public int flow(int e) {
+		return residual.flow(e);
+	}
+	
+	/**
+	 * Returns flow from one vertex to another one.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * 
+	 * @return flow on the edge (u, v), 0 if there's no such edge
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public int flow(T u, T v) {
+		int flow = 0;
+		
+		for (int e : edges(u, v))
+			flow += residual.flow(e);
+		
+		return flow;
+	}
+	
+	/**
+	 * Returns flow on every edge.
+	 * 
+	 * @return flows parallel to {@code freeze().targets()}
+	 */
+	public int[] flows() {
+		return residual.flows();
+	}
+	
+	/**
+	 * Returns capacity of an edge by its index.
+	 * 
+	 * @param e
+	 *        edge index in {@code freeze().targets()}
+	 * 
+	 * @return capacity of the edge
+	 */
+	public int capacity(int e) {
+		return residual.capacity[residual.arcOf[e]];
+	}
+	
+	/**
+	 * Changes capacity of an edge by its index, the flow stays valid and the next {@link #maxFlow()} starts from it.
+	 * 
+	 * @param e
+	 *        edge index in {@code freeze().targets()}
+	 * @param capacity
+	 *        new capacity
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the capacity is negative or the edge is dropped from a subgraph view
+	 */
+	public void setCapacity(int e, int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException("Capacities must be non-negative!");
+		
+		if (!graph.hasEdge(e))
+			throw new IllegalArgumentException("The edge does not exist!");
+		
+		int a = residual.arcOf[e];
+		int flow = residual.flow(e);
+		int u = residual.head[residual.reverse[a]];
+		int v = residual.head[a];
+		
+		residual.capacity[a] = capacity;
+		
+		if (capacity >= flow) {
+			residual.residual[a] = capacity - flow;
+			return;
+		}
+		
+		long excess = flow - capacity;
+		
+		residual.residual[a] = 0;
+		residual.residual[residual.reverse[a]] = capacity;
+		
+		if (u == v)
+			return;
+		
+		long left = excess - push(u, v, excess);//reroute around the edge
+		long deficit = left;
+		
+		if (u != source && u != sink) {//flow into u came from a terminal, send it back
+			left -= push(u, source, left);
+			push(u, sink, left);
+		}
+		
+		if (v != source && v != sink) {//flow out of v went to a terminal, pull it back
+			deficit -= push(sink, v, deficit);
+			push(source, v, deficit);
+		}
+	}
+	
+	/**
+	 * Changes capacity of the edge from one vertex to another one, both directions of an undirected edge are changed.
+	 * The flow stays valid and the next {@link #maxFlow()} starts from it.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * @param capacity
+	 *        new capacity
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex or the edge DNE or the capacity is negative
+	 */
+	public void setCapacity(T u, T v, int capacity) {
+		List<Integer> edges = edges(u, v);
+		
+		if (!graph.isDirected())
+			edges.addAll(edges(v, u));
+		
+		if (edges.isEmpty())
+			throw new IllegalArgumentException("The edge does not exist!");
+		
+		for (int e : edges)
+			setCapacity(e, capacity);
+	}
+	
+	/**
+	 * Returns the source side of a minimum cut: vertexes reachable from the source in the residual network.
+	 * It's a minimum cut only when the flow is maximum, after {@link #maxFlow()}.
+	 * 
+	 * @return vertexes of the source side in order of their indexes
+	 */
+	public List<T> sourceSide() {
+		boolean[] reached = reached();
+		List<T> side = new ArrayList<>();
+		
+		for (int v = 0; v < reached.length; ++v)
+			if (reached[v])
+				side.add(graph.vertex(v));
+		
+		return side;
+	}
+	
+	/**
+	 * Returns edges of a minimum cut: edges from the source side to the other side, their capacities add up to the max flow.
+	 * It's a minimum cut only when the flow is maximum, after {@link #maxFlow()}.
+	 * 
+	 * @return list of cut edges
+	 */
+	public List<Edge<T>> cutEdges() {
+		boolean[] reached = reached();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		List<Edge<T>> cut = new ArrayList<>();
+		
+		for (int u = 0; u < reached.length; ++u)
+			if (reached[u])
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+					if (graph.hasEdge(e) && !reached[targets[e]])
+						cut.add(new Edge<>(graph.vertex(u), graph.vertex(targets[e])));
+		
+		return cut;
+	}
+	
+	/*
+	 * Marks vertexes reachable from the source over arcs with residual capacity.
+	 */
+	private boolean[] reached() {
+		boolean[] reached = new boolean[residual.n];
+		int tail = 0;
+		
+		reached[source] = true;
+		queue[tail++] = source;
+		
+		for (int head = 0; head < tail; ++head) {
+			int u = queue[head];
+			
+			for (int a = residual.offsets[u]; a < residual.offsets[u + 1]; ++a)
+				if (residual.residual[a] > 0 && !reached[residual.head[a]]) {
+					reached[residual.head[a]] = true;
+					queue[tail++] = residual.head[a];
+				}
+		}
+		
+		return reached;
+	}
+	
+	/*
+	 * Pushes at most limit units of flow from one vertex to another one with Dinic's algorithm.
+	 */
+	private long push(int from, int to, long limit) {
+		long pushed = 0;
+		
+		while (pushed < limit && levels(from, to)) {
+			System.arraycopy(residual.offsets, 0, cursor, 0, residual.n);
+			
+			for (long path; pushed < limit && (path = path(from, to, limit - pushed)) > 0;) {
+				pushed += path;
+				++augmentations;
+			}
+		}
+		
+		return pushed;
+	}
+	
+	/*
+	 * Computes BFS levels from a vertex over arcs with residual capacity.
+	 */
+	private boolean levels(int from, int to) {
+		int tail = 0;
+		
+		Arrays.fill(level, -1);
+		level[from] = 0;
+		queue[tail++] = from;
+		
+		for (int head = 0; head < tail && level[to] < 0; ++head) {
+			int u = queue[head];
+			
+			for (int a = residual.offsets[u]; a < residual.offsets[u + 1]; ++a) {
+				int v = residual.head[a];
+				
+				if (residual.residual[a] > 0 && level[v] < 0) {
+					level[v] = level[u] + 1;
+					queue[tail++] = v;
+				}
+			}
+			
+			++visits;
+			edgeScans += residual.offsets[u + 1] - residual.offsets[u];
+		}
+		
+		return level[to] >= 0;
+	}
+	
+	/*
+	 * Finds a path of the level graph with an iterative DFS and pushes flow along it,
+	 * vertexes that lead nowhere are marked dead so no other path of the phase tries them again.
+	 */
+	private long path(int from, int to, long limit) {
+		stack.clear();
+		stack.add(from);
+		
+		while (stack.size > 0) {
+			int x = stack.data[stack.size - 1];
+			
+			if (x == to) {
+				long push = limit;
+				
+				for (int i = 0; i < stack.size - 1; ++i)
+					push = Math.min(push, residual.residual[cursor[stack.data[i]]]);
+				
+				for (int i = 0; i < stack.size - 1; ++i)
+					residual.push(cursor[stack.data[i]], (int) push);
+				
+				return push;
+			}
+			
+			if (cursor[x] == residual.offsets[x + 1]) {
+				level[x] = -1;
+				
+				if (--stack.size > 0)
+					++cursor[stack.data[stack.size - 1]];
+				
+				continue;
+			}
+			
+			int a = cursor[x];
+			int y = residual.head[a];
+			
+			if (residual.residual[a] > 0 && level[y] == level[x] + 1 && (level[y] < level[to] || y == to))
+				stack.add(y);
+			else
+				++cursor[x];
+		}
+		
+		return 0;
+	}
+	
+	/*
+	 * Returns indexes of the edges from one vertex to another one.
+	 */
+	private List<Integer> edges(T u, T v) {
+		Objects.requireNonNull(u);
+		Objects.requireNonNull(v);
+		
+		int i = graph.indexOf(u);
+		int j = graph.indexOf(v);
+		
+		if (i < 0 || j < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		List<Integer> edges = new ArrayList<>();
+		
+		for (int e = graph.offsets()[i]; e < graph.offsets()[i + 1]; ++e)
+			if (graph.targets()[e] == j && graph.hasEdge(e))
+				edges.add(e);
+		
+		return edges;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code MaxFlowSession} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "MaxFlowSession[source=" + graph.vertex(source) + ", sink=" + graph.vertex(sink) + ", flow=" + flow() + "]";
+	}
+}
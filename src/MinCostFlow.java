@@ -0,0 +1,248 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@code MinCostFlow} holds a maximum flow of the least total cost from a source to a sink of a {@code Network},
+ * edge weights are capacities and every edge has a cost per unit of flow. Edges are indexed the same way as in
+ * {@code freeze().targets()}, an undirected edge is stored (and can carry flow) in both directions.
+ * 
+ * The flow is found by successive shortest paths: flow is repeatedly pushed along a cheapest augmenting path of the residual network.
+ * Paths are found with Dijkstra's algorithm on costs reduced by vertex potentials (Johnson's reweighting), the potentials are updated
+ * with the distances after every search so reduced costs of residual arcs stay non-negative. Negative costs are allowed,
+ * the first potentials come from Bellman-Ford in that case. It takes O(F * E log V) time for a flow of value F.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see Network#minCostFlow(Object, Object, int[])
+ * @version 1.0 (10/19/2026)
+ */
+public class MinCostFlow<T> {
+	/**
+	 * Snapshot of the network, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Flow on each edge
+	 */
+	private int[] flows;
+	
+	/**
+	 * Value of the flow
+	 */
+	private long flow;
+	
+	/**
+	 * Total cost of the flow
+	 */
+	private long cost;
+	
+	private MinCostFlow(CSRGraph<T> graph, int[] flows, long flow, long cost) {
+		this.graph = graph;
+		this.flows = flows;
+		this.flow = flow;
+		this.cost = cost;
+	}
+	
+	/**
+	 * Finds a min cost max flow of a network snapshot with successive shortest paths.
+	 * 
+	 * @param graph
+	 *        network snapshot, weights are capacities
+	 * @param source
+	 *        index of the source
+	 * @param sink
+	 *        index of the sink
+	 * @param costs
+	 *        cost of each edge parallel to {@code graph.targets()}
+	 * @param work
+	 *        visited vertexes, scanned arcs, relaxations and augmenting paths are added to its entries 0 to 3
+	 * 
+	 * @return {@code MinCostFlow} of the network
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a capacity is negative or the residual network have a negative cycle
+	 */
+	static <T> MinCostFlow<T> solve(CSRGraph<T> graph, int source, int sink, int[] costs, AtomicLongArray work) {
+		ResidualGraph residual = new ResidualGraph(graph, costs);
+		int n = residual.n;
+		int[] offsets = residual.offsets;
+		int[] head = residual.head;
+		long[] cost = residual.cost;
+		long[] potential = potentials(residual, work);
+		long[] dist = new long[n];
+		int[] parent = new int[n];//arc a cheapest path enters each vertex with
+		IndexedHeap heap = new IndexedHeap(n);
+		long flow = 0, total = 0;
+		
+		while (true) {
+			long visits = 0, edgeScans = 0, relaxations = 0, farthest = 0;
+			
+			Arrays.fill(dist, Long.MAX_VALUE);
+			dist[source] = 0;
+			heap.offer(source, 0);
+			
+			while (!heap.isEmpty()) {
+				int u = heap.poll();
+				
+				farthest = dist[u];
+				++visits;
+				
+				for (int a = offsets[u]; a < offsets[u + 1]; ++a) {
+					int v = head[a];
+					
+					if (residual.residual[a] > 0) {
+						long d = dist[u] + cost[a] + potential[u] - potential[v];
+						
+						if (d < dist[v]) {
+							dist[v] = d;
+							parent[v] = a;
+							heap.offer(v, d);
+							++relaxations;
+						}
+					}
+				}
+				
+				edgeScans += offsets[u + 1] - offsets[u];
+			}
+			
+			work.addAndGet(0, visits);
+			work.addAndGet(1, edgeScans);
+			work.addAndGet(2, relaxations);
+			
+			if (dist[sink] == Long.MAX_VALUE)
+				break;
+			
+			for (int v = 0; v < n; ++v)//unreached vertexes move as far as the farthest reached one, so no reduced cost gets negative
+				potential[v] += dist[v] == Long.MAX_VALUE ? farthest : dist[v];
+			
+			int push = Integer.MAX_VALUE;
+			
+			for (int v = sink; v != source; v = head[residual.reverse[parent[v]]])
+				push = Math.min(push, residual.residual[parent[v]]);
+			
+			for (int v = sink; v != source; v = head[residual.reverse[parent[v]]]) {
+				residual.push(parent[v], push);
+				total += push * cost[parent[v]];
+			}
+			
+			flow += push;
+			work.addAndGet(3, 1);
+		}
+		
+		return new MinCostFlow<>(graph, residual.flows(), flow, total);
+	}
+	
+	/*
+	 * Computes potentials that make reduced costs of all residual arcs non-negative with Bellman-Ford from a virtual vertex
+	 * joined to every vertex, it's skipped if no residual arc have a negative cost.
+	 */
+	private static long[] potentials(ResidualGraph residual, AtomicLongArray work) {
+		int n = residual.n;
+		long[] potential = new long[n];
+		boolean negative = false;
+		
+		for (int a = 0; a < residual.head.length; ++a)
+			negative |= residual.residual[a] > 0 && residual.cost[a] < 0;
+		
+		for (int round = 0; negative; ++round) {
+			if (round == n)
+				throw new IllegalArgumentException("The network have a negative cost cycle!");
+			
+			negative = false;
+			
+			for (int u = 0; u < n; ++u)
+				for (int a = residual.offsets[u]; a < residual.offsets[u + 1]; ++a)
+					if (residual.residual[a] > 0 && potential[u] + residual.cost[a] < potential[residual.head[a]]) {
+						potential[residual.head[a]] = potential[u] + residual.cost[a];
+						negative = true;
+					}
+			
+			work.addAndGet(1, residual.head.length);
+		}
+		
+		return potential;
+	}
+	
+	/**
+	 * Returns value of the flow.
+	 * 
+	 * @return amount of flow sent from the source to the sink
+	 */
+	public long flow() {
+		return flow;
+	}
+	
+	/**
+	 * Returns total cost of the flow.
+	 * 
+	 * @return sum of flow times cost over all edges
+	 */
+	public long cost() {
+		return cost;
+	}
+	
+	/**
+	 * Returns flow on an edge by its index.
+	 * 
+	 * @param e
+	 *        edge index in {@code freeze().targets()}
+	 * 
+	 * @return flow of the edge
+	 */
+	public int flow(int e) {
+		return flows[e];
+	}
+	
+	/**
+	 * Returns flow from one vertex to another one.
+	 * 
+	 * @param u
+	 *        "from" vertex
+	 * @param v
+	 *        "to" vertex
+	 * 
+	 * @return flow on the edge (u, v), 0 if there's no such edge
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE
+	 */
+	public int flow(T u, T v) {
+		Objects.requireNonNull(u);
+		Objects.requireNonNull(v);
+		
+		int i = graph.indexOf(u);
+		int j = graph.indexOf(v);
+		
+		if (i < 0 || j < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		int flow = 0;
+		
+		for (int e = graph.offsets()[i]; e < graph.offsets()[i + 1]; ++e)
+			if (graph.targets()[e] == j)
+				flow += flows[e];
+		
+		return flow;
+	}
+	
+	/**
+	 * Returns flow on every edge.
+	 * 
+	 * @return flows parallel to {@code freeze().targets()}
+	 */
+	public int[] flows() {
+		return flows.clone();
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code MinCostFlow} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "MinCostFlow[flow=" + flow + ", cost=" + cost + "]";
+	}
+}
@@ -1,15 +1,20 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
 
 /**
  * The {@code Network} is a general purpose weighted graph.
@@ -44,6 +49,83 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 		super();
 		
 		this.isDirected = isDirected;
+		
+		stats = new GraphStatistics<>(isDirected);
+	}
+	
+	/**
+	 * Creates a {@code Network} object straight from arrays of edges, it's used for bulk loading.
+	 * Vertex i is {@code vertexes[i]} and edge e goes from {@code vertexes[sources[e]]} to {@code vertexes[targets[e]]},
+	 * all vertexes are added and duplicate edges are added once, just like {@code addEdge} would do.
+	 * The collections are sized up front and filled directly without the lookups of {@code addEdge}.
+	 * 
+	 * @param vertexes
+	 *        vertex of each index
+	 * @param sources
+	 *        "from" vertex index of each edge
+	 * @param targets
+	 *        "to" vertex index of each edge
+	 * @param weights
+	 *        weight of each edge, {@code null} gives every edge weight 1
+	 * @param isDirected
+	 *        are the edges directed?
+	 */
+	Network(T[] vertexes, int[] sources, int[] targets, int[] weights, boolean isDirected) {
+		this(isDirected);
+		
+		int n = vertexes.length;
+		int[] degree = new int[n];
+		
+		for (int e = 0; e < sources.length; ++e) {
+			++degree[sources[e]];
+			
+			if (!isDirected)
+				++degree[targets[e]];
+		}
+		
+		boolean[] endpoint = new boolean[n];//addEdge gives both endpoints a set, even the "to" vertex of a directed edge
+		
+		for (int e = 0; e < sources.length; ++e)
+			endpoint[sources[e]] = endpoint[targets[e]] = true;
+		
+		this.vertexes = new HashSet<>(capacity(n));
+		adj = new HashMap<>(capacity(n));
+		edges = new ArrayList<>(isDirected ? sources.length : 2 * sources.length);
+		
+		for (T vertex : vertexes) {
+			this.vertexes.add(vertex);
+			stats.vertexAdded(vertex);
+		}
+		
+		@SuppressWarnings("unchecked")
+		Set<Pair<T, Integer>>[] successors = new Set[n];
+		
+		for (int u = 0; u < n; ++u)
+			if (endpoint[u]) {
+				successors[u] = new HashSet<>(capacity(degree[u]));
+				adj.put(vertexes[u], successors[u]);
+			}
+		
+		for (int e = 0; e < sources.length; ++e) {
+			int u = sources[e];
+			int v = targets[e];
+			int weight = weights == null ? 1 : weights[e];
+			
+			if (!successors[u].add(new Pair<>(vertexes[v], weight)))
+				continue;//the edge already exists
+			
+			edges.add(new WeightedEdge<>(vertexes[u], vertexes[v], weight));
+			stats.edgeAdded(vertexes[u], vertexes[v], weight);
+			
+			if (!isDirected) {
+				successors[v].add(new Pair<>(vertexes[u], weight));
+				
+				if (u != v) {//an undirected self loop is stored once
+					edges.add(new WeightedEdge<>(vertexes[v], vertexes[u], weight));
+					stats.edgeAdded(vertexes[v], vertexes[u], weight);
+				}
+			}
+		}
 	}
 	
 	/**
@@ -52,23 +134,39 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 	 * @return a spanning tree of the graph, returns {@code null} if the edges empty or the graph is directed (It's hard to implement a good algorithm for directed graph spanning tree)
 	 */
 	public Network<T> spanningTree() {
-		if (edges.isEmpty() || isDirected)
+		return spanningTree(this);
+	}
+	
+	/**
+	 * Calculates a spanning tree of an undirected weighted graph with Kruskal's algorithm, it's shared with {@code NetworkSubgraphView}.
+	 * 
+	 * @param network
+	 *        network or a view of it
+	 * 
+	 * @return a spanning tree of the graph, {@code null} if the edges empty or the graph is directed
+	 */
+	static <T> Network<T> spanningTree(AbstractWeightedGraph<T> network) {
+		if (network.getEdges().isEmpty() || network.isDirected())
 			return null;
 		
-		@SuppressWarnings("unchecked")
-		List<WeightedEdge<T>> graph = (List<WeightedEdge<T>>) ((ArrayList<WeightedEdge<T>>) edges).clone();
+		GraphEvents.Run run = GraphEvents.start(network.getAlgorithmListener(), network);
+		long edgeScans = 0;
+		
+		List<WeightedEdge<T>> graph = new ArrayList<>(network.getEdges());
 		
 		Network<T> spanningTree = new Network<>();
 		DisjointSetUnion<T> dsu = new DisjointSetUnion<>();
 		
 		Collections.sort(graph);
 		
-		for (int i = 0, size = graph.size(), count = 0, vertexes = vertexCount(); i < size && count < vertexes - 1; ++i) {//spanning tree have V - 1 edges
+		for (int i = 0, size = graph.size(), count = 0, vertexes = network.vertexCount(); i < size && count < vertexes - 1; ++i) {//spanning tree have V - 1 edges
 			T u = graph.get(i).getU();
 			T v = graph.get(i).getV();
 			
 			int weight = graph.get(i).getWeight();
 			
+			++edgeScans;
+			
 			if (dsu.union(u, v)) {
 				spanningTree.addEdge(u, v, weight);
 				
@@ -76,6 +174,8 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 			}
 		}
 		
+		run.finish("Kruskal", 0, edgeScans, spanningTree.edgeCount(), 0, 0);
+		
 		return spanningTree;
 	}
 	
@@ -102,9 +202,216 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 	 * @return max flow we can send, -1 if it does not exist
 	 */
 	public int maxFlow(T source, T sink) {
-		check(source, sink);
+		return maxFlow(this, source, sink);
+	}
+	
+	/**
+	 * Finds maximum flow of a weighted graph with Edmonds-Karp algorithm, it's shared with {@code NetworkSubgraphView}.
+	 * 
+	 * @param network
+	 *        network or a view of it
+	 * @param source
+	 *        vertex with no incoming edges
+	 * @param sink
+	 *        vertex with no outgoing edges
+	 * 
+	 * @return max flow we can send, -1 if it does not exist
+	 */
+	static <T> int maxFlow(AbstractWeightedGraph<T> network, T source, T sink) {
+		network.check(source, sink);
+		
+		return new EdmondsKarp<>(network).maxFlow(source, sink);
+	}
+	
+	/**
+	 * Creates a max flow session from source to sink on a snapshot of the network, edge weights are capacities.
+	 * The session keeps its residual network and flow, so the max flow and the min cut can be re-queried after capacity changes
+	 * without starting from zero.
+	 * 
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * 
+	 * @return {@code MaxFlowSession} without flow, call {@link MaxFlowSession#maxFlow()} to augment it
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same or a capacity is negative
+	 */
+	public MaxFlowSession<T> maxFlowSession(T source, T sink) {
+		return maxFlowSession(this, source, sink);
+	}
+	
+	/**
+	 * Creates a max flow session on a snapshot of a weighted graph, it's shared with {@code NetworkSubgraphView}.
+	 * 
+	 * @param network
+	 *        network or a view of it
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * 
+	 * @return {@code MaxFlowSession} without flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same or a capacity is negative
+	 */
+	static <T> MaxFlowSession<T> maxFlowSession(AbstractWeightedGraph<T> network, T source, T sink) {
+		network.check(source, sink);
+		
+		CSRGraph<T> graph = network.freeze();
+		int s = graph.indexOf(source);
+		int t = graph.indexOf(sink);
+		
+		if (s < 0 || t < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
 		
-		return new EdmondsKarp(this).maxFlow(source, sink);
+		if (s == t)
+			throw new IllegalArgumentException("Source and sink must differ!");
+		
+		return new MaxFlowSession<>(network, graph, s, t);
+	}
+	
+	/**
+	 * Finds a maximum flow of the least total cost from source to sink, edge weights are capacities
+	 * and costs are an extra column parallel to the edges of {@code freeze()}. The flow is found by successive shortest paths
+	 * with Dijkstra's algorithm on costs reduced by Johnson's potentials, over an int indexed residual network.
+	 * 
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * @param costs
+	 *        cost of a unit of flow on each edge parallel to {@code freeze().targets()}, an undirected edge have a cost for each direction
+	 * 
+	 * @return {@code MinCostFlow} with value, cost and per edge flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same, the costs don't match the edges,
+	 *        a capacity is negative or there's a cycle of negative cost (an undirected edge with a negative cost is one)
+	 */
+	public MinCostFlow<T> minCostFlow(T source, T sink, int[] costs) {
+		return minCostFlow(this, source, sink, costs);
+	}
+	
+	/**
+	 * Finds a min cost max flow of a weighted graph, it's shared with {@code NetworkSubgraphView}.
+	 * Costs of dropped edges of a view are ignored.
+	 * 
+	 * @param network
+	 *        network or a view of it
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * @param costs
+	 *        cost of a unit of flow on each edge parallel to {@code freeze().targets()}
+	 * 
+	 * @return {@code MinCostFlow} with value, cost and per edge flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same, the costs don't match the edges,
+	 *        a capacity is negative or there's a cycle of negative cost
+	 */
+	static <T> MinCostFlow<T> minCostFlow(AbstractWeightedGraph<T> network, T source, T sink, int[] costs) {
+		network.check(source, sink, costs);
+		
+		GraphEvents.Run run = GraphEvents.start(network.getAlgorithmListener(), network);
+		
+		CSRGraph<T> graph = network.freeze();
+		int s = graph.indexOf(source);
+		int t = graph.indexOf(sink);
+		
+		if (s < 0 || t < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		if (s == t)
+			throw new IllegalArgumentException("Source and sink must differ!");
+		
+		AtomicLongArray work = new AtomicLongArray(4);
+		MinCostFlow<T> flow = MinCostFlow.solve(graph, s, t, costs, work);
+		
+		run.finish("MinCostFlow", work.get(0), work.get(1), work.get(2), work.get(3), 0);
+		
+		return flow;
+	}
+	
+	/**
+	 * Finds a maximum flow of the least total cost from source to sink, edge weights are capacities.
+	 * 
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * @param cost
+	 *        cost of a unit of flow on the edge from the first vertex to the second one
+	 * 
+	 * @return {@code MinCostFlow} with value, cost and per edge flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same,
+	 *        a capacity is negative or there's a cycle of negative cost
+	 * @see #minCostFlow(Object, Object, int[])
+	 */
+	public MinCostFlow<T> minCostFlow(T source, T sink, ToIntBiFunction<? super T, ? super T> cost) {
+		return minCostFlow(this, source, sink, cost);
+	}
+	
+	/**
+	 * Finds a min cost max flow of a weighted graph with a cost function, it's shared with {@code NetworkSubgraphView}.
+	 * The cost function is only called for kept edges of a view.
+	 * 
+	 * @param network
+	 *        network or a view of it
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * @param cost
+	 *        cost of a unit of flow on the edge from the first vertex to the second one
+	 * 
+	 * @return {@code MinCostFlow} with value, cost and per edge flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same,
+	 *        a capacity is negative or there's a cycle of negative cost
+	 */
+	static <T> MinCostFlow<T> minCostFlow(AbstractWeightedGraph<T> network, T source, T sink, ToIntBiFunction<? super T, ? super T> cost) {
+		network.check(source, sink, cost);
+		
+		CSRGraph<T> graph = network.freeze();
+		int[] costs = new int[graph.edgeCount()];
+		
+		for (int u = 0; u < graph.vertexCount(); ++u)
+			for (int e = graph.offsets()[u]; e < graph.offsets()[u + 1]; ++e)
+				if (graph.hasEdge(e))
+					costs[e] = cost.applyAsInt(graph.vertex(u), graph.vertex(graph.targets()[e]));
+		
+		return minCostFlow(network, source, sink, costs);
+	}
+	
+	/**
+	 * Returns a read-only view of the vertexes and edges of the network that pass the filters,
+	 * the view has the algorithms of the network too.
+	 * 
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge, an edge is kept only if both of its vertexes are kept too
+	 * 
+	 * @return {@code NetworkSubgraphView} of the network
+	 */
+	@Override
+	public NetworkSubgraphView<T> subgraph(Predicate<? super T> vertexFilter, Predicate<? super WeightedEdge<T>> edgeFilter) {
+		return new NetworkSubgraphView<>(this, vertexFilter, edgeFilter);
+	}
+	
+	/**
+	 * Returns a read-only view of the subgraph induced by the vertexes, the view has the algorithms of the network too.
+	 * 
+	 * @param subset
+	 *        vertexes of the subgraph
+	 * 
+	 * @return {@code NetworkSubgraphView} of the network
+	 */
+	@Override
+	public NetworkSubgraphView<T> inducedSubgraph(Collection<? extends T> subset) {
+		return (NetworkSubgraphView<T>) super.inducedSubgraph(subset);
 	}
 	
 	/**
@@ -121,11 +428,14 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 		
 		int weight = edge.getWeight();
 		
-		if (!edges.contains(edge)) {
+		if (!adj.containsKey(u) || !adj.get(u).contains(new Pair<>(v, weight))) {//the adjacency list is much faster to look up than the edges
 			edges.add(edge);
+			stats.edgeAdded(u, v, weight);
 			
-			if (!isDirected)
+			if (!isDirected && !u.equals(v)) {//an undirected self loop is stored once
 				edges.add(new WeightedEdge<>(v, u, weight));
+				stats.edgeAdded(v, u, weight);
+			}
 		} else
 			return;
 		
@@ -142,6 +452,8 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 		
 		if (!isDirected)
 			adj.get(v).add(new Pair<>(u, weight));
+		
+		++modCount;
 	}
 	
 	/**
@@ -151,28 +463,7 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 	 */
 	@Override
 	public int edgeCount() {
-		if (isDirected)
-			return edges.size();
-		
-		Set<WeightedEdge<T>> set = new HashSet<>();//make sure no edges are counted twice in undirected graph
-		
-		int total = 0;
-		
-		for (WeightedEdge<T> edge : edges) {
-			T u = edge.getU();
-			T v = edge.getV();
-			
-			int weight = edge.getWeight();
-			
-			WeightedEdge<T> reverse = new WeightedEdge<>(v, u, weight);
-			
-			if (!set.contains(reverse)) {
-				total++;
-				set.add(edge);
-			}
-		}
-		
-		return total;
+		return stats.edgeCount();
 	}
 	
 	/**
@@ -217,7 +508,22 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 		WeightedEdge<T> lookfor = new WeightedEdge<>(u, v, weight);
 		WeightedEdge<T> other = !isDirected ? new WeightedEdge<>(v, u, weight) : lookfor;
 		
-		edges = edges.parallelStream().filter(e -> !e.equals(lookfor) && !e.equals(other)).collect(Collectors.toList());
+		for (Iterator<WeightedEdge<T>> it = edges.iterator(); it.hasNext();) {
+			WeightedEdge<T> e = it.next();
+			
+			if (e.equals(lookfor) || e.equals(other)) {
+				it.remove();
+				stats.edgeRemoved(e.getU(), e.getV(), e.getWeight());
+			}
+		}
+		
+		if (adj.get(u) != null)
+			adj.get(u).remove(new Pair<>(v, weight));
+		
+		if (!isDirected && adj.get(v) != null)
+			adj.get(v).remove(new Pair<>(u, weight));
+		
+		++modCount;
 	}
 	
 	/**
@@ -227,25 +533,7 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 	 */
 	@Override
 	public int edgeSum() {
-		Set<WeightedEdge<T>> set = new HashSet<>();//make sure no edges are counted twice
-		
-		int total = 0;
-		
-		for (WeightedEdge<T> edge : edges) {
-			T u = edge.getU();
-			T v = edge.getV();
-			
-			int weight = edge.getWeight();
-			
-			WeightedEdge<T> other = !isDirected ? new WeightedEdge<>(v, u, weight) : edge;
-			
-			if (!set.contains(other)) {
-				total += weight;
-				set.add(edge);
-			}
-		}
-		
-		return total;
+		return (int) stats.edgeSum();
 	}
 	
 	/**
@@ -287,11 +575,15 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 	/*
 	 * A nested class to support Edmonds Karp max flow algorithm
 	 */
-	private class EdmondsKarp {
-		Map<T, List<EdmondsKarp.Edge>> adj;
-		Map<T, EdmondsKarp.Edge> parent;
+	private static class EdmondsKarp<T> {
+		AbstractWeightedGraph<T> network;
+		Map<T, List<Edge>> adj;
+		Map<T, Edge> parent;
 		
-		EdmondsKarp(Network<T> flowNetwork) {
+		long visits, edgeScans, maxFrontier;
+		
+		EdmondsKarp(AbstractWeightedGraph<T> flowNetwork) {
+			this.network = flowNetwork;
 			this.adj = new HashMap<>();
 			
 			Map<T, Set<Pair<T, Integer>>> adj = flowNetwork.getAdjacencyList();
@@ -309,8 +601,8 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 					T v = pair.first();
 					int cap = pair.second();
 					
-					EdmondsKarp.Edge forwardEdge = new EdmondsKarp.Edge(u, v, 0, cap, this.adj.get(v).size());//0 flow and cap capacity
-					EdmondsKarp.Edge backEdge = new EdmondsKarp.Edge(v, u, 0, 0, this.adj.get(u).size());//0 flow and 0 capacity
+					Edge forwardEdge = new Edge(u, v, 0, cap, this.adj.get(v).size());//0 flow and cap capacity
+					Edge backEdge = new Edge(v, u, 0, 0, this.adj.get(u).size());//0 flow and 0 capacity
 					
 					this.adj.get(u).add(forwardEdge);
 					this.adj.get(v).add(backEdge);
@@ -322,6 +614,9 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 			if (source.equals(sink))
 				return -1;
 			
+			GraphEvents.Run run = GraphEvents.start(network.getAlgorithmListener(), network);
+			long augmentations = 0;
+			
 			int maxFlow = 0;
 			
 			//while it's possible to send flow from source to sink
@@ -329,17 +624,20 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 				int flow = INF;
 				
 				//find minimum flow (residual capacity) in an argumented path
-				for (T u = sink; u != source; u = parent.get(u).u)
+				for (T u = sink; !u.equals(source); u = parent.get(u).u)
 					flow = Math.min(flow, parent.get(u).cap - parent.get(u).flow);
 				
-				for (T u = sink; u != source; u = parent.get(u).u) {
+				for (T u = sink; !u.equals(source); u = parent.get(u).u) {
 					parent.get(u).flow += flow;//increase the edge's flow
 					adj.get(parent.get(u).v).get(parent.get(u).rev).flow -= flow;//decrease the flow of edge's reverse
 				}
 				
 				maxFlow += flow;
+				++augmentations;
 			}
 			
+			run.finish("EdmondsKarp", visits, edgeScans, 0, augmentations, maxFrontier);
+			
 			return maxFlow;
 		}
 		
@@ -351,17 +649,22 @@ public class Network<T> extends AbstractWeightedGraph<T> implements WeightedGrap
 			
 			while (!Q.isEmpty()) {
 				T u = Q.poll();
+				++visits;
 				
-				for (EdmondsKarp.Edge edge : adj.get(u)) {
+				for (Edge edge : adj.get(u)) {
 					T v = edge.v;
 					int flow = edge.flow;
 					int cap = edge.cap;
 					
+					++edgeScans;
+					
 					if (!parent.containsKey(v) && flow < cap) {
 						parent.put(v, edge);
 						Q.add(v);
 					}
 				}
+				
+				maxFrontier = Math.max(maxFrontier, Q.size());
 			}
 			
 			return parent.containsKey(sink);
@@ -0,0 +1,141 @@
+import java.util.Collection;
+
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * The {@code NetworkSubgraphView} is a {@code WeightedSubgraphView} of a {@code Network}, it has the algorithms
+ * of the network too, they're shared with {@code Network} and run on the view directly.
+ * 
+ * @param <T> type of vertex
+ * 
+ * @author agent
+ * @see Network#subgraph(Predicate, Predicate)
+ * @see WeightedSubgraphView
+ * @version 1.0 (10/19/2026)
+ */
+public class NetworkSubgraphView<T> extends WeightedSubgraphView<T> {
+	/**
+	 * Creates a view of the vertexes and edges of a network that pass the filters.
+	 * 
+	 * @param graph
+	 *        the underlying graph, a {@code Network} or a view of it
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge
+	 */
+	public NetworkSubgraphView(AbstractWeightedGraph<T> graph, Predicate<? super T> vertexFilter, Predicate<? super WeightedEdge<T>> edgeFilter) {
+		super(graph, vertexFilter, edgeFilter);
+	}
+	
+	/**
+	 * Calculates a spanning tree of the view with Kruskal's algorithm.
+	 * 
+	 * @return a spanning tree of the view, {@code null} if it have no edges or it's directed
+	 * @see Network#spanningTree()
+	 */
+	public Network<T> spanningTree() {
+		return Network.spanningTree(this);
+	}
+	
+	/**
+	 * Finds maximum possible flow we can send from source to sink in the view.
+	 * 
+	 * @param source
+	 *        vertex with no incoming edges
+	 * @param sink
+	 *        vertex with no outgoing edges
+	 * 
+	 * @return max flow we can send, -1 if it does not exist
+	 * @see Network#maxFlow(Object, Object)
+	 */
+	public int maxFlow(T source, T sink) {
+		return Network.maxFlow(this, source, sink);
+	}
+	
+	/**
+	 * Creates a max flow session from source to sink on the snapshot of the view.
+	 * 
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * 
+	 * @return {@code MaxFlowSession} without flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same or a capacity is negative
+	 * @see Network#maxFlowSession(Object, Object)
+	 */
+	public MaxFlowSession<T> maxFlowSession(T source, T sink) {
+		return Network.maxFlowSession(this, source, sink);
+	}
+	
+	/**
+	 * Finds a maximum flow of the least total cost from source to sink in the view.
+	 * 
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * @param costs
+	 *        cost of a unit of flow on each edge parallel to {@code freeze().targets()}, costs of dropped edges are ignored
+	 * 
+	 * @return {@code MinCostFlow} with value, cost and per edge flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same, the costs don't match the edges,
+	 *        a capacity is negative or there's a cycle of negative cost
+	 * @see Network#minCostFlow(Object, Object, int[])
+	 */
+	public MinCostFlow<T> minCostFlow(T source, T sink, int[] costs) {
+		return Network.minCostFlow(this, source, sink, costs);
+	}
+	
+	/**
+	 * Finds a maximum flow of the least total cost from source to sink in the view.
+	 * 
+	 * @param source
+	 *        vertex the flow leaves
+	 * @param sink
+	 *        vertex the flow goes to
+	 * @param cost
+	 *        cost of a unit of flow on the edge from the first vertex to the second one
+	 * 
+	 * @return {@code MinCostFlow} with value, cost and per edge flow
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a vertex DNE, source and sink are the same,
+	 *        a capacity is negative or there's a cycle of negative cost
+	 * @see Network#minCostFlow(Object, Object, ToIntBiFunction)
+	 */
+	public MinCostFlow<T> minCostFlow(T source, T sink, ToIntBiFunction<? super T, ? super T> cost) {
+		return Network.minCostFlow(this, source, sink, cost);
+	}
+	
+	/**
+	 * Returns a read-only view of the vertexes and edges of this view that pass the filters.
+	 * 
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge, an edge is kept only if both of its vertexes are kept too
+	 * 
+	 * @return {@code NetworkSubgraphView} of the view
+	 */
+	@Override
+	public NetworkSubgraphView<T> subgraph(Predicate<? super T> vertexFilter, Predicate<? super WeightedEdge<T>> edgeFilter) {
+		return new NetworkSubgraphView<>(this, vertexFilter, edgeFilter);
+	}
+	
+	/**
+	 * Returns a read-only view of the subgraph of this view induced by the vertexes.
+	 * 
+	 * @param subset
+	 *        vertexes of the subgraph
+	 * 
+	 * @return {@code NetworkSubgraphView} of the view
+	 */
+	@Override
+	public NetworkSubgraphView<T> inducedSubgraph(Collection<? extends T> subset) {
+		return (NetworkSubgraphView<T>) super.inducedSubgraph(subset);
+	}
+}
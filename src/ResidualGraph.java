@@ -0,0 +1,154 @@
+import java.util.Arrays;
+
+/**
+ * The {@code ResidualGraph} is the residual network of a {@code CSRGraph} for flow algorithms, kept in primitive arrays.
+ * Every edge of the snapshot becomes a forward arc with its weight as capacity and a reverse arc with no capacity,
+ * arcs leaving a vertex are stored together and the reverse of arc a is {@code reverse[a]}, so pushing flow along an arc
+ * is two array writes instead of map lookups of {@code Edge} objects. An unweighted snapshot gives every edge capacity 1,
+ * dropped edges of a masked snapshot get no capacity so no flow ever goes through them.
+ * 
+ * @author agent
+ * @see MinCostFlow
+ * @version 1.0 (10/19/2026)
+ */
+final class ResidualGraph {
+	/**
+	 * Number of vertexes
+	 */
+	final int n;
+	
+	/**
+	 * Arcs leaving vertex u are stored from {@code offsets[u]} to {@code offsets[u + 1] - 1}
+	 */
+	final int[] offsets;
+	
+	/**
+	 * Head (target vertex) of each arc
+	 */
+	final int[] head;
+	
+	/**
+	 * Reverse arc of each arc
+	 */
+	final int[] reverse;
+	
+	/**
+	 * Capacity of each arc, 0 for reverse arcs
+	 */
+	final int[] capacity;
+	
+	/**
+	 * Remaining capacity of each arc, capacity minus flow plus flow of the reverse arc
+	 */
+	final int[] residual;
+	
+	/**
+	 * Cost of a unit of flow on each arc, reverse arcs refund the cost
+	 */
+	final long[] cost;
+	
+	/**
+	 * Forward arc of each edge of the snapshot
+	 */
+	final int[] arcOf;
+	
+	/**
+	 * Builds the residual network of a snapshot without flow.
+	 * 
+	 * @param graph
+	 *        graph snapshot, edge weights are capacities
+	 * @param costs
+	 *        cost of each edge parallel to {@code graph.targets()}, {@code null} for no costs
+	 * 
+	 * @throw java.lang.IllegalArgumentException if a capacity is negative or the costs don't match the edges
+	 */
+	ResidualGraph(CSRGraph<?> graph, int[] costs) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		int m = targets.length;
+		
+		if (costs != null && costs.length != m)
+			throw new IllegalArgumentException("Costs don't match the edges!");
+		
+		n = graph.vertexCount();
+		this.offsets = new int[n + 1];
+		head = new int[2 * m];
+		reverse = new int[2 * m];
+		capacity = new int[2 * m];
+		residual = new int[2 * m];
+		cost = new long[2 * m];
+		arcOf = new int[m];
+		
+		for (int u = 0; u < n; ++u)
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				++this.offsets[u + 1];
+				++this.offsets[targets[e] + 1];
+			}
+		
+		for (int u = 0; u < n; ++u)
+			this.offsets[u + 1] += this.offsets[u];
+		
+		int[] next = Arrays.copyOf(this.offsets, n);
+		
+		for (int u = 0; u < n; ++u)
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				int v = targets[e];
+				int a = next[u]++;
+				int b = next[v]++;
+				int cap = !graph.hasEdge(e) ? 0 : weights == null ? 1 : weights[e];
+				
+				if (cap < 0)
+					throw new IllegalArgumentException("Capacities must be non-negative!");
+				
+				head[a] = v;
+				head[b] = u;
+				reverse[a] = b;
+				reverse[b] = a;
+				capacity[a] = cap;
+				residual[a] = cap;
+				cost[a] = costs == null ? 0 : costs[e];
+				cost[b] = -cost[a];
+				arcOf[e] = a;
+			}
+	}
+	
+	/**
+	 * Pushes flow along an arc.
+	 * 
+	 * @param a
+	 *        arc
+	 * @param flow
+	 *        amount of flow, at most the residual capacity of the arc
+	 */
+	void push(int a, int flow) {
+		residual[a] -= flow;
+		residual[reverse[a]] += flow;
+	}
+	
+	/**
+	 * Returns flow on an edge of the snapshot.
+	 * 
+	 * @param e
+	 *        edge index in {@code graph.targets()}
+	 * 
+	 * @return flow of the edge
+	 */
+	int flow(int e) {
+		return capacity[arcOf[e]] - residual[arcOf[e]];
+	}
+	
+	/**
+	 * Returns flow on every edge of the snapshot.
+	 * 
+	 * @return flows parallel to {@code graph.targets()}
+	 */
+	int[] flows() {
+		int[] flows = new int[arcOf.length];
+		
+		for (int e = 0; e < flows.length; ++e)
+			flows[e] = flow(e);
+		
+		return flows;
+	}
+}
@@ -0,0 +1,721 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code ShortestPaths} holds shortest path algorithms that run on a {@code CSRGraph},
+ * the graph classes freeze themselves and call them.
+ * 
+ * @author agent
+ * @see AbstractWeightedGraph#aStar(Object, Object, Heuristic)
+ * @see AbstractGraph#aStar(Object, Object, Heuristic)
+ * @see DistanceMatrix
+ * @see AbstractWeightedGraph#shortestPaths(List)
+ * @see AbstractWeightedGraph#deltaStepping(Object, int)
+ * @version 1.0 (10/19/2026)
+ */
+final class ShortestPaths {
+	/**
+	 * Distance of an unreachable vertex
+	 */
+	static final long UNREACHABLE = Long.MAX_VALUE;
+	
+	/**
+	 * Side of a Floyd-Warshall block, a 64 x 64 block of ints fits in L1 cache
+	 */
+	private static final int BLOCK = 64;
+	
+	/**
+	 * Number of sources given to a single task of the per source algorithm
+	 */
+	private static final int SOURCES_PER_TASK = 16;
+	
+	/**
+	 * Number of frontier vertexes relaxed by a single task of delta-stepping
+	 */
+	private static final int VERTEXES_PER_TASK = 256;
+	
+	/**
+	 * A graph is dense if E * DENSE_DIJKSTRA (or E * DENSE_BFS for unweighted graphs) is at least V^2, measured on a single core
+	 */
+	private static final long DENSE_DIJKSTRA = 6, DENSE_BFS = 2;
+	
+	/**
+	 * Scratch state of each worker thread for batched queries
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	private ShortestPaths() {
+	}
+	
+	/**
+	 * Runs A* search from source to target, edge weights must be non-negative and unweighted edges weigh 1.
+	 * A vertex whose distance improves after it was explored is explored again,
+	 * so the answer is right for any admissible heuristic, consistent or not.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param source
+	 *        index of source vertex
+	 * @param target
+	 *        index of target vertex
+	 * @param heuristic
+	 *        admissible heuristic
+	 * 
+	 * @return search result
+	 */
+	static <T> Search aStar(CSRGraph<T> graph, int source, int target, Heuristic<? super T> heuristic) {
+		int n = graph.vertexCount();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		Search search = new Search(n);
+		long[] dist = search.dist;
+		int[] parent = search.parent;
+		
+		int[] estimate = new int[n];//heuristic is evaluated once per vertex
+		Arrays.fill(estimate, -1);
+		
+		T goal = graph.vertex(target);
+		IndexedHeap heap = new IndexedHeap(n);
+		
+		dist[source] = 0;
+		heap.offer(source, estimate(graph, heuristic, estimate, source, goal));
+		
+		while (!heap.isEmpty()) {
+			int u = heap.poll();
+			++search.visits;
+			
+			if (u == target)
+				break;//an admissible heuristic never lets a longer path to the target out of the heap first
+			
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				if (!graph.hasEdge(e))
+					continue;
+				
+				int v = targets[e];
+				long d = dist[u] + (weights == null ? 1 : weights[e]);
+				
+				++search.edgeScans;
+				
+				if (d < dist[v]) {
+					dist[v] = d;
+					parent[v] = u;
+					++search.relaxations;
+					
+					heap.offer(v, d + estimate(graph, heuristic, estimate, v, goal));
+				}
+			}
+			
+			search.maxFrontier = Math.max(search.maxFrontier, heap.size());
+		}
+		
+		return search;
+	}
+	
+	/**
+	 * Tells if Floyd-Warshall algorithm is likely faster than a search from every vertex.
+	 * A search from every vertex does about V * E heap or queue operations and Floyd-Warshall does V^3 cheap
+	 * array operations, so Floyd-Warshall wins when the average degree is a good part of V.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * 
+	 * @return {@code true} if the graph is dense
+	 */
+	static boolean isDense(CSRGraph<?> graph) {
+		long n = graph.keptVertexCount();
+		
+		return graph.keptEdgeCount() * (graph.isWeighted() ? DENSE_DIJKSTRA : DENSE_BFS) >= n * n;
+	}
+	
+	/**
+	 * Computes distances between all pairs of vertexes with blocked Floyd-Warshall algorithm.
+	 * The matrix is split into BLOCK x BLOCK blocks, for each diagonal block k: the diagonal block is relaxed first,
+	 * then blocks in row k and column k in parallel, then all other blocks in parallel,
+	 * blocks being relaxed at the same time never write to each other.
+	 * 
+	 * @param graph
+	 *        graph snapshot, unweighted edges weigh 1
+	 * 
+	 * @return distance matrix, {@code WeightedGraph.INF} or more where there's no path
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the graph have a negative cycle
+	 */
+	static int[] floydWarshall(CSRGraph<?> graph) {
+		int n = graph.vertexCount();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		int[] dist = matrix(n);
+		boolean negative = weights != null && Arrays.stream(weights).anyMatch(w -> w < 0);
+		
+		IntStream.range(0, n).parallel().forEach(u -> {
+			dist[u * n + u] = 0;
+			
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				if (!graph.hasEdge(e))
+					continue;
+				
+				int w = weights == null ? 1 : Math.min(weights[e], WeightedGraph.INF);
+				int at = u * n + targets[e];
+				
+				dist[at] = Math.min(dist[at], w);//parallel edges, keep the lightest
+			}
+		});
+		
+		int blocks = (n + BLOCK - 1) / BLOCK;
+		
+		for (int kb = 0; kb < blocks; ++kb) {
+			int k = kb;
+			
+			relax(dist, n, k, k, k, negative);
+			
+			IntStream.range(0, blocks).parallel().filter(b -> b != k).forEach(b -> {
+				relax(dist, n, k, b, k, negative);
+				relax(dist, n, b, k, k, negative);
+			});
+			
+			IntStream.range(0, blocks * blocks).parallel().forEach(b -> {
+				int ib = b / blocks;
+				int jb = b % blocks;
+				
+				if (ib != k && jb != k)
+					relax(dist, n, ib, jb, k, negative);
+			});
+		}
+		
+		for (int u = 0; u < n; ++u)
+			if (dist[u * n + u] < 0)
+				throw new IllegalArgumentException("The graph have a negative cycle!");
+		
+		return dist;
+	}
+	
+	/*
+	 * Relaxes block (ib, jb) through vertexes of block kb, negative tells if the graph have a negative weight.
+	 */
+	private static void relax(int[] dist, int n, int ib, int jb, int kb, boolean negative) {
+		int iEnd = Math.min(n, (ib + 1) * BLOCK);
+		int jStart = jb * BLOCK;
+		int jEnd = Math.min(n, jStart + BLOCK);
+		
+		int[] kj = new int[jEnd - jStart];//row k of the block is copied so the JIT compiler sees no aliasing and vectorizes the loop
+		
+		for (int k = kb * BLOCK, kEnd = Math.min(n, k + BLOCK); k < kEnd; ++k) {
+			int rowK = k * n;
+			
+			System.arraycopy(dist, rowK + jStart, kj, 0, kj.length);
+			
+			for (int i = ib * BLOCK; i < iEnd; ++i) {
+				int rowI = i * n;
+				int ik = dist[rowI + k];
+				
+				if (ik >= WeightedGraph.INF)
+					continue;
+				
+				int at = rowI + jStart;
+				
+				if (negative) {
+					for (int j = 0; j < kj.length; ++j)
+						if (kj[j] < WeightedGraph.INF && ik + kj[j] < dist[at + j])//INF plus a negative distance is still no path
+							dist[at + j] = ik + kj[j];
+				} else
+					for (int j = 0; j < kj.length; ++j)
+						dist[at + j] = Math.min(dist[at + j], ik + kj[j]);//branch free so it can be vectorized, INF + INF does not overflow
+			}
+		}
+	}
+	
+	/**
+	 * Computes distances between all pairs of vertexes with a BFS (unweighted graph) or Dijkstra's algorithm (weighted graph)
+	 * from every vertex, sources are searched in parallel and every task reuses its heap or queue for all of its sources.
+	 * 
+	 * @param graph
+	 *        graph snapshot, weights must be non-negative
+	 * @param work
+	 *        visited vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return distance matrix, {@code WeightedGraph.INF} or more where there's no path
+	 */
+	static int[] perSource(CSRGraph<?> graph, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		int[] dist = matrix(n);
+		
+		IntStream.range(0, (n + SOURCES_PER_TASK - 1) / SOURCES_PER_TASK).parallel().forEach(task -> {
+			IndexedHeap heap = graph.isWeighted() ? new IndexedHeap(n) : null;
+			int[] queue = graph.isWeighted() ? null : new int[n];
+			long[] counters = new long[2];
+			
+			for (int s = task * SOURCES_PER_TASK, end = Math.min(n, s + SOURCES_PER_TASK); s < end; ++s)
+				if (!graph.hasVertex(s))
+					continue;//the row of a dropped vertex stays INF
+				else if (heap != null)
+					dijkstra(graph, s, dist, s * n, heap, counters);
+				else
+					bfs(graph, s, dist, s * n, queue, counters);
+			
+			work.addAndGet(0, counters[0]);
+			work.addAndGet(1, counters[1]);
+		});
+		
+		return dist;
+	}
+	
+	/*
+	 * Dijkstra's algorithm from s, distances are written to dist[base + v] which must be INF.
+	 */
+	private static void dijkstra(CSRGraph<?> graph, int s, int[] dist, int base, IndexedHeap heap, long[] counters) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		dist[base + s] = 0;
+		heap.offer(s, 0);
+		
+		while (!heap.isEmpty()) {
+			int u = heap.poll();
+			int du = dist[base + u];
+			
+			++counters[0];
+			counters[1] += graph.degree(u);
+			
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				if (!graph.hasEdge(e))
+					continue;
+				
+				int v = targets[e];
+				long d = (long) du + weights[e];
+				
+				if (d < dist[base + v]) {//dist is at most INF so d fits in an int
+					dist[base + v] = (int) d;
+					heap.offer(v, d);
+				}
+			}
+		}
+	}
+	
+	/*
+	 * BFS from s, distances are written to dist[base + v] which must be INF.
+	 */
+	private static void bfs(CSRGraph<?> graph, int s, int[] dist, int base, int[] queue, long[] counters) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		
+		int head = 0;
+		int tail = 0;
+		
+		dist[base + s] = 0;
+		queue[tail++] = s;
+		
+		while (head < tail) {
+			int u = queue[head++];
+			int du = dist[base + u];
+			
+			++counters[0];
+			counters[1] += graph.degree(u);
+			
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				if (!graph.hasEdge(e))
+					continue;
+				
+				int v = targets[e];
+				
+				if (dist[base + v] == WeightedGraph.INF) {
+					dist[base + v] = du + 1;
+					queue[tail++] = v;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Computes distances from the source to every vertex with parallel delta-stepping (Meyer and Sanders).
+	 * Vertexes are kept in buckets of width delta by their tentative distance, the smallest bucket is taken as the frontier
+	 * and all edges of the frontier are relaxed in parallel with compare-and-set on the distances, vertexes whose distance
+	 * dropped into the same bucket make the next frontier until the bucket is empty, then the next bucket is taken.
+	 * A small delta does less redundant work (delta = 1 is Dijkstra's algorithm), a big delta gives bigger frontiers
+	 * and more parallelism (infinite delta is Bellman-Ford algorithm).
+	 * 
+	 * @param graph
+	 *        weighted graph snapshot, weights must be non-negative
+	 * @param source
+	 *        index of source vertex
+	 * @param delta
+	 *        bucket width, at least 1
+	 * @param work
+	 *        visited vertexes, scanned edges, relaxations and the largest frontier are added to its entries 0 to 3
+	 * 
+	 * @return distance of each vertex, {@code UNREACHABLE} if there's no path
+	 */
+	static long[] deltaStepping(CSRGraph<?> graph, int source, int delta, AtomicLongArray work) {
+		int n = graph.vertexCount();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		AtomicLongArray dist = new AtomicLongArray(n);
+		
+		IntStream.range(0, n).parallel().forEach(v -> dist.set(v, UNREACHABLE));
+		dist.set(source, 0);
+		
+		TreeMap<Long, IntList> buckets = new TreeMap<>();
+		IntList first = new IntList();
+		
+		first.add(source);
+		buckets.put(0L, first);
+		
+		int[] mark = new int[n];//round that last put each vertex in a bucket, so a vertex goes in once per round
+		int round = 0;
+		
+		LongAdder visits = new LongAdder();
+		LongAdder edgeScans = new LongAdder();
+		LongAdder relaxations = new LongAdder();
+		LongAccumulator maxFrontier = new LongAccumulator(Math::max, 0);
+		
+		while (!buckets.isEmpty()) {
+			Map.Entry<Long, IntList> entry = buckets.pollFirstEntry();
+			long bucket = entry.getKey();
+			IntList list = entry.getValue();
+			
+			IntList current = new IntList();
+			
+			++round;
+			
+			for (int i = 0; i < list.size; ++i) {
+				int v = list.data[i];
+				
+				if (mark[v] != round && dist.get(v) / delta == bucket) {//a vertex whose distance dropped to an earlier bucket is done already
+					mark[v] = round;
+					current.add(v);
+				}
+			}
+			
+			while (current.size > 0) {
+				int[] frontier = Arrays.copyOf(current.data, current.size);
+				IntList[] pushed = new IntList[(frontier.length + VERTEXES_PER_TASK - 1) / VERTEXES_PER_TASK];
+				
+				maxFrontier.accumulate(frontier.length);
+				
+				IntStream.range(0, pushed.length).parallel().forEach(task -> {
+					IntList out = new IntList();
+					long scans = 0;
+					long relaxed = 0;
+					
+					for (int i = task * VERTEXES_PER_TASK, end = Math.min(frontier.length, i + VERTEXES_PER_TASK); i < end; ++i) {
+						int u = frontier[i];
+						long du = dist.get(u);
+						
+						for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+							if (!graph.hasEdge(e))
+								continue;
+							
+							int v = targets[e];
+							long d = du + weights[e];
+							long old = dist.get(v);
+							
+							++scans;
+							
+							while (d < old) {
+								if (dist.compareAndSet(v, old, d)) {
+									out.add(v);
+									++relaxed;
+									
+									break;
+								}
+								
+								old = dist.get(v);
+							}
+						}
+					}
+					
+					pushed[task] = out;
+					edgeScans.add(scans);
+					relaxations.add(relaxed);
+				});
+				
+				visits.add(frontier.length);
+				
+				current = new IntList();
+				
+				++round;
+				
+				for (IntList out : pushed)
+					for (int i = 0; i < out.size; ++i) {
+						int v = out.data[i];
+						
+						if (mark[v] == round)
+							continue;
+						
+						mark[v] = round;
+						
+						long b = dist.get(v) / delta;
+						
+						if (b == bucket)
+							current.add(v);//it has to be relaxed again in this bucket
+						else
+							buckets.computeIfAbsent(b, key -> new IntList()).add(v);
+					}
+			}
+		}
+		
+		work.addAndGet(0, visits.sum());
+		work.addAndGet(1, edgeScans.sum());
+		work.addAndGet(2, relaxations.sum());
+		work.addAndGet(3, maxFrontier.get());
+		
+		long[] result = new long[n];
+		
+		for (int v = 0; v < n; ++v)
+			result[v] = dist.get(v);
+		
+		return result;
+	}
+	
+	/**
+	 * Answers a batch of shortest path queries. Queries are grouped by source so every source is searched once,
+	 * groups are spread over the ForkJoin common pool, and a search stops as soon as all targets of its source are reached.
+	 * Every worker thread keeps its distances, marks and heap between searches, marks are stamped with a search number
+	 * so nothing is cleared or allocated per search.
+	 * 
+	 * @param graph
+	 *        graph snapshot, weights must be non-negative
+	 * @param sources
+	 *        index of source vertex of each query, -1 if it DNE
+	 * @param targets
+	 *        index of target vertex of each query, -1 if it DNE
+	 * @param work
+	 *        visited vertexes and scanned edges are added to its entries 0 and 1
+	 * 
+	 * @return distance of each query in the same order, -1 if there's no path
+	 */
+	static int[] batch(CSRGraph<?> graph, int[] sources, int[] targets, AtomicLongArray work) {
+		int q = sources.length;
+		int[] result = new int[q];
+		
+		Arrays.fill(result, -1);
+		
+		long[] keys = IntStream.range(0, q).filter(i -> sources[i] >= 0 && targets[i] >= 0).mapToLong(i -> (long) sources[i] << 32 | i).toArray();
+		
+		Arrays.parallelSort(keys);//queries of the same source end up next to each other
+		
+		int[] groups = IntStream.rangeClosed(0, keys.length).filter(i -> i == 0 || i == keys.length || keys[i] >>> 32 != keys[i - 1] >>> 32).toArray();
+		
+		IntStream.range(0, groups.length - 1).parallel().forEach(g -> {
+			Scratch scratch = SCRATCH.get();
+			
+			scratch.prepare(graph.vertexCount());
+			search(graph, keys, groups[g], groups[g + 1], targets, result, scratch);
+			
+			work.addAndGet(0, scratch.visits);
+			work.addAndGet(1, scratch.edgeScans);
+		});
+		
+		return result;
+	}
+	
+	/*
+	 * Searches from the source of queries keys[from] to keys[to - 1] until all of their targets are reached.
+	 */
+	private static void search(CSRGraph<?> graph, long[] keys, int from, int to, int[] targets, int[] result, Scratch scratch) {
+		int[] offsets = graph.offsets();
+		int[] adjacent = graph.targets();
+		int[] weights = graph.weights();
+		
+		int[] seen = scratch.seen;
+		int[] wanted = scratch.wanted;
+		long[] dist = scratch.dist;
+		int epoch = scratch.epoch;
+		
+		int s = (int) (keys[from] >>> 32);
+		int remaining = 0;
+		
+		for (int k = from; k < to; ++k) {
+			int t = targets[(int) keys[k]];
+			
+			if (wanted[t] != epoch) {
+				wanted[t] = epoch;
+				++remaining;
+			}
+		}
+		
+		seen[s] = epoch;
+		dist[s] = 0;
+		
+		if (weights == null) {
+			int[] queue = scratch.queue;
+			int head = 0;
+			int tail = 0;
+			
+			queue[tail++] = s;
+			
+			if (wanted[s] == epoch)
+				--remaining;
+			
+			while (head < tail && remaining > 0) {
+				int u = queue[head++];
+				
+				++scratch.visits;
+				
+				for (int e = offsets[u]; e < offsets[u + 1] && remaining > 0; ++e) {
+					if (!graph.hasEdge(e))
+						continue;
+					
+					int v = adjacent[e];
+					
+					++scratch.edgeScans;
+					
+					if (seen[v] != epoch) {
+						seen[v] = epoch;
+						dist[v] = dist[u] + 1;
+						queue[tail++] = v;
+						
+						if (wanted[v] == epoch)
+							--remaining;//a BFS reaches every vertex by a shortest path first
+					}
+				}
+			}
+		} else {
+			IndexedHeap heap = scratch.heap;
+			
+			heap.offer(s, 0);
+			
+			while (!heap.isEmpty() && remaining > 0) {
+				int u = heap.poll();
+				
+				++scratch.visits;
+				
+				if (wanted[u] == epoch)
+					--remaining;//distance of a vertex is final when it leaves the heap
+				
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+					if (!graph.hasEdge(e))
+						continue;
+					
+					int v = adjacent[e];
+					long d = dist[u] + weights[e];
+					
+					++scratch.edgeScans;
+					
+					if (seen[v] != epoch || d < dist[v]) {
+						seen[v] = epoch;
+						dist[v] = d;
+						heap.offer(v, d);
+					}
+				}
+			}
+			
+			heap.clear();
+		}
+		
+		for (int k = from; k < to; ++k) {
+			int t = targets[(int) keys[k]];
+			
+			if (seen[t] == epoch && dist[t] < WeightedGraph.INF)
+				result[(int) keys[k]] = (int) dist[t];
+		}
+	}
+	
+	/*
+	 * Allocates a n x n matrix filled with INF.
+	 */
+	private static int[] matrix(int n) {
+		if ((long) n * n > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("The graph is too big for a distance matrix!");
+		
+		int[] dist = new int[n * n];
+		
+		IntStream.range(0, n).parallel().forEach(u -> Arrays.fill(dist, u * n, u * n + n, WeightedGraph.INF));
+		
+		return dist;
+	}
+	
+	private static <T> int estimate(CSRGraph<T> graph, Heuristic<? super T> heuristic, int[] estimate, int v, T goal) {
+		if (estimate[v] < 0)
+			estimate[v] = Math.max(0, heuristic.estimate(graph.vertex(v), goal));
+		
+		return estimate[v];
+	}
+	
+	/**
+	 * The {@code Search} holds distances and shortest path tree of a search with its work counters.
+	 */
+	static class Search {
+		long[] dist;//UNREACHABLE if not reached
+		int[] parent;//-1 for the source and vertexes not reached
+		
+		long visits, edgeScans, relaxations, maxFrontier;
+		
+		Search(int n) {
+			dist = new long[n];
+			parent = new int[n];
+			
+			Arrays.fill(dist, UNREACHABLE);
+			Arrays.fill(parent, -1);
+		}
+		
+		/*
+		 * Builds the path from the source to vertex v, null if v was not reached.
+		 */
+		<T> List<T> path(CSRGraph<T> graph, int v) {
+			if (dist[v] == UNREACHABLE)
+				return null;
+			
+			List<T> path = new ArrayList<>();
+			
+			for (int u = v; u >= 0; u = parent[u])
+				path.add(graph.vertex(u));
+			
+			Collections.reverse(path);
+			
+			return path;
+		}
+	}
+	
+	/*
+	 * Reusable state of a worker thread for batched queries
+	 */
+	private static class Scratch {
+		int[] seen = new int[0];//search number that reached each vertex
+		int[] wanted = new int[0];//search number that looks for each vertex
+		long[] dist = new long[0];
+		int[] queue = new int[0];
+		IndexedHeap heap = new IndexedHeap(0);
+		int epoch;
+		
+		long visits, edgeScans;//work of the last search
+		
+		void prepare(int n) {
+			if (seen.length < n) {
+				int capacity = Math.max(n, seen.length * 2);
+				
+				seen = new int[capacity];
+				wanted = new int[capacity];
+				dist = new long[capacity];
+				queue = new int[capacity];
+				heap = new IndexedHeap(capacity);
+				epoch = 0;
+			}
+			
+			if (++epoch == 0) {//the search number wrapped around, old marks could be mistaken for new ones
+				Arrays.fill(seen, 0);
+				Arrays.fill(wanted, 0);
+				epoch = 1;
+			}
+			
+			visits = 0;
+			edgeScans = 0;
+		}
+	}
+}
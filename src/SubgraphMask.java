@@ -0,0 +1,427 @@
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The {@code SubgraphMask} holds the filters of a subgraph view evaluated on one snapshot of the filtered graph:
+ * a masked {@code CSRGraph} that shares every array of the snapshot and only adds bitmaps of kept vertexes and edges.
+ * Masks are cached by the filtered graph by identity of their filters, so the filters are called once per snapshot
+ * and views with the same filters share one mask. It also has the read-only collections the views expose as their
+ * vertexes, adjacency list and edges, the successor sets of the adjacency list are made once per mask.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see SubgraphView
+ * @see WeightedSubgraphView
+ * @version 1.0 (10/19/2026)
+ */
+final class SubgraphMask<T> {
+	/**
+	 * Test of an edge of the snapshot by the indexes of its vertexes and its own index
+	 */
+	interface EdgeFilter {
+		boolean test(int u, int v, int e);
+	}
+	
+	/**
+	 * Maps an edge of the subgraph to an element of a collection
+	 */
+	interface EdgeMapper<T, E> {
+		E map(CSRGraph<T> graph, int u, int e);
+	}
+	
+	/**
+	 * The masked snapshot, its arrays are the arrays of the snapshot of the underlying graph
+	 */
+	final CSRGraph<T> graph;
+	
+	/**
+	 * Number of edges and sum of edge weights of the subgraph, an undirected edge counts once
+	 */
+	final int edgeCount;
+	final long edgeSum;
+	
+	/**
+	 * Statistics of the subgraph, they're built when they're asked for first
+	 */
+	private GraphStatistics<T> statistics;
+	
+	/**
+	 * Successors of each vertex, a row is made when it's asked for first
+	 */
+	private Row<T, ?>[] rows;
+	
+	/**
+	 * Indexes of the kept edges in order, it's built when an edge is asked for by its position first
+	 */
+	private int[] keptEdges;
+	
+	/**
+	 * Evaluates the filters on the kept vertexes and edges of a snapshot, a snapshot of a view is masked already.
+	 * An edge is kept if the edge filter accepts it and both of its vertexes are kept,
+	 * both directions of an undirected edge are tested with the vertex of lower index first so they're kept or dropped together.
+	 * 
+	 * @param base
+	 *        snapshot of the filtered graph
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge
+	 */
+	SubgraphMask(CSRGraph<T> base, Predicate<? super T> vertexFilter, EdgeFilter edgeFilter) {
+		int n = base.vertexCount();
+		int[] offsets = base.offsets();
+		int[] targets = base.targets();
+		int[] weights = base.weights();
+		boolean directed = base.isDirected();
+		BitSet vertexes = new BitSet(n);
+		BitSet edges = new BitSet(targets.length);
+		int kept = 0;
+		long arcs = 0, loops = 0, sum = 0, loopSum = 0;
+		
+		for (int u = 0; u < n; ++u)
+			if (base.hasVertex(u) && vertexFilter.test(base.vertex(u))) {
+				vertexes.set(u);
+				++kept;
+			}
+		
+		for (int u = vertexes.nextSetBit(0); u >= 0; u = vertexes.nextSetBit(u + 1))
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				int v = targets[e];
+				
+				if (base.hasEdge(e) && vertexes.get(v) && (directed || u <= v ? edgeFilter.test(u, v, e) : edgeFilter.test(v, u, e))) {
+					int weight = weights == null ? 0 : weights[e];
+					
+					edges.set(e);
+					++arcs;
+					sum += weight;
+					
+					if (u == v) {
+						++loops;
+						loopSum += weight;
+					}
+				}
+			}
+		
+		graph = base.mask(vertexes, edges, kept, (int) arcs);
+		edgeCount = (int) (directed ? arcs : (arcs + loops) / 2);//a self loop is stored once
+		edgeSum = directed ? sum : (sum + loopSum) / 2;
+	}
+	
+	/**
+	 * Returns statistics of the subgraph, they're built from its edges the first time.
+	 * 
+	 * @return {@code GraphStatistics} object of the subgraph
+	 */
+	GraphStatistics<T> statistics() {
+		if (statistics == null) {
+			GraphStatistics<T> statistics = new GraphStatistics<>(graph.isDirected());
+			int[] offsets = graph.offsets();
+			int[] targets = graph.targets();
+			int[] weights = graph.weights();
+			
+			for (int u = 0; u < graph.vertexCount(); ++u)
+				if (graph.hasVertex(u))
+					statistics.vertexAdded(graph.vertex(u));
+			
+			for (int u = 0; u < graph.vertexCount(); ++u)
+				for (int e = offsets[u]; e < offsets[u + 1]; ++e)
+					if (!graph.hasEdge(e))
+						continue;
+					else if (weights == null)
+						statistics.edgeAdded(graph.vertex(u), graph.vertex(targets[e]));
+					else
+						statistics.edgeAdded(graph.vertex(u), graph.vertex(targets[e]), weights[e]);
+			
+			this.statistics = statistics;
+		}
+		
+		return statistics;
+	}
+	
+	/*
+	 * Returns the cached successors of a kept vertex, a mask is only read through views of one kind so the mapper is always the same.
+	 */
+	@SuppressWarnings("unchecked")
+	<E> Set<E> row(int u, EdgeMapper<T, E> mapper) {
+		if (rows == null)
+			rows = (Row<T, ?>[]) new Row<?, ?>[graph.vertexCount()];
+		
+		if (rows[u] == null)
+			rows[u] = new Row<>(graph, u, mapper);
+		
+		return (Set<E>) rows[u];
+	}
+	
+	/*
+	 * Returns index of the i-th kept edge in the arrays of the snapshot.
+	 */
+	int keptEdge(int i) {
+		if (keptEdges == null) {
+			int[] keptEdges = new int[graph.keptEdgeCount()];
+			
+			for (int e = 0, k = 0; e < graph.edgeCount(); ++e)
+				if (graph.hasEdge(e))
+					keptEdges[k++] = e;
+			
+			this.keptEdges = keptEdges;
+		}
+		
+		return keptEdges[i];
+	}
+	
+	/**
+	 * Read-only set of the vertexes of the current subgraph.
+	 */
+	static final class VertexSet<T> extends AbstractSet<T> {
+		private final Supplier<SubgraphMask<T>> mask;
+		
+		VertexSet(Supplier<SubgraphMask<T>> mask) {
+			this.mask = mask;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean contains(Object o) {
+			return o != null && mask.get().graph.indexOf((T) o) >= 0;//the index map accepts any object
+		}
+		
+		@Override
+		public Iterator<T> iterator() {
+			CSRGraph<T> snapshot = mask.get().graph;
+			
+			return new Iterator<T>() {
+				private int i = skip(0);
+				
+				private int skip(int i) {
+					while (i < snapshot.vertexCount() && !snapshot.hasVertex(i))
+						++i;
+					
+					return i;
+				}
+				
+				@Override
+				public boolean hasNext() {
+					return i < snapshot.vertexCount();
+				}
+				
+				@Override
+				public T next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					
+					T vertex = snapshot.vertex(i);
+					
+					i = skip(i + 1);
+					
+					return vertex;
+				}
+			};
+		}
+		
+		@Override
+		public int size() {
+			return mask.get().graph.keptVertexCount();
+		}
+	}
+	
+	/**
+	 * Read-only adjacency list of the current subgraph, every vertex have an entry.
+	 */
+	static final class AdjacencyMap<T, E> extends AbstractMap<T, Set<E>> {
+		private final Supplier<SubgraphMask<T>> mask;
+		private final EdgeMapper<T, E> mapper;
+		
+		AdjacencyMap(Supplier<SubgraphMask<T>> mask, EdgeMapper<T, E> mapper) {
+			this.mask = mask;
+			this.mapper = mapper;
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public Set<E> get(Object key) {
+			SubgraphMask<T> current = mask.get();
+			int u = key == null ? -1 : current.graph.indexOf((T) key);
+			
+			return u < 0 ? null : current.row(u, mapper);
+		}
+		
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+		
+		@Override
+		public int size() {
+			return mask.get().graph.keptVertexCount();
+		}
+		
+		@Override
+		public Set<Map.Entry<T, Set<E>>> entrySet() {
+			return new AbstractSet<Map.Entry<T, Set<E>>>() {
+				@Override
+				public Iterator<Map.Entry<T, Set<E>>> iterator() {
+					SubgraphMask<T> current = mask.get();
+					Iterator<T> vertexes = new VertexSet<>(() -> current).iterator();
+					
+					return new Iterator<Map.Entry<T, Set<E>>>() {
+						@Override
+						public boolean hasNext() {
+							return vertexes.hasNext();
+						}
+						
+						@Override
+						public Map.Entry<T, Set<E>> next() {
+							T vertex = vertexes.next();
+							
+							return new AbstractMap.SimpleImmutableEntry<>(vertex, current.row(current.graph.indexOf(vertex), mapper));
+						}
+					};
+				}
+				
+				@Override
+				public int size() {
+					return AdjacencyMap.this.size();
+				}
+			};
+		}
+	}
+	
+	/**
+	 * Read-only successors of a vertex of a masked snapshot.
+	 */
+	private static final class Row<T, E> extends AbstractSet<E> {
+		private final CSRGraph<T> graph;
+		private final int u;
+		private final EdgeMapper<T, E> mapper;
+		
+		Row(CSRGraph<T> graph, int u, EdgeMapper<T, E> mapper) {
+			this.graph = graph;
+			this.u = u;
+			this.mapper = mapper;
+		}
+		
+		@Override
+		public Iterator<E> iterator() {
+			return new Iterator<E>() {
+				private int e = skip(graph.offsets()[u]);
+				
+				private int skip(int e) {
+					while (e < graph.offsets()[u + 1] && !graph.hasEdge(e))
+						++e;
+					
+					return e;
+				}
+				
+				@Override
+				public boolean hasNext() {
+					return e < graph.offsets()[u + 1];
+				}
+				
+				@Override
+				public E next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					
+					E element = mapper.map(graph, u, e);
+					
+					e = skip(e + 1);
+					
+					return element;
+				}
+			};
+		}
+		
+		@Override
+		public int size() {
+			return graph.degree(u);
+		}
+	}
+	
+	/**
+	 * Read-only list of the edges of the current subgraph, an undirected edge is listed in both directions like in the graph classes.
+	 */
+	static final class EdgeView<T, E> extends AbstractList<E> {
+		private final Supplier<SubgraphMask<T>> mask;
+		private final EdgeMapper<T, E> mapper;
+		
+		EdgeView(Supplier<SubgraphMask<T>> mask, EdgeMapper<T, E> mapper) {
+			this.mask = mask;
+			this.mapper = mapper;
+		}
+		
+		@Override
+		public E get(int i) {
+			SubgraphMask<T> current = mask.get();
+			CSRGraph<T> snapshot = current.graph;
+			int[] offsets = snapshot.offsets();
+			
+			if (i < 0 || i >= snapshot.keptEdgeCount())
+				throw new IndexOutOfBoundsException();
+			
+			int e = current.keptEdge(i);
+			int low = 0, high = snapshot.vertexCount() - 1;//the last vertex whose edges start at or before e
+			
+			while (low < high) {
+				int mid = (low + high + 1) >>> 1;
+				
+				if (offsets[mid] <= e)
+					low = mid;
+				else
+					high = mid - 1;
+			}
+			
+			return mapper.map(snapshot, low, e);
+		}
+		
+		@Override
+		public Iterator<E> iterator() {
+			CSRGraph<T> snapshot = mask.get().graph;
+			
+			return new Iterator<E>() {
+				private int u, e = skip(0);
+				
+				private int skip(int e) {
+					while (e < snapshot.edgeCount() && !snapshot.hasEdge(e))
+						++e;
+					
+					return e;
+				}
+				
+				@Override
+				public boolean hasNext() {
+					return e < snapshot.edgeCount();
+				}
+				
+				@Override
+				public E next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					
+					while (snapshot.offsets()[u + 1] <= e)
+						++u;
+					
+					E element = mapper.map(snapshot, u, e);
+					
+					e = skip(e + 1);
+					
+					return element;
+				}
+			};
+		}
+		
+		@Override
+		public int size() {
+			return mask.get().graph.keptEdgeCount();
+		}
+	}
+}
@@ -0,0 +1,175 @@
+import java.util.Objects;
+
+import java.util.function.Predicate;
+
+/**
+ * The {@code SubgraphView} is a read-only view of the vertexes and edges of a graph that pass vertex and edge filters,
+ * so a subset of a graph can be analysed without copying it into a new graph edge by edge.
+ * The view follows the underlying graph: its snapshot is a masked {@code CSRGraph} over the arrays of {@code freeze()}
+ * of the underlying graph, the filters are evaluated into the masks once per snapshot and the masks are cached
+ * by the underlying graph. A view only compares a modification counter of the graph at the root of its views on every query,
+ * so its collections don't look up the snapshot again until the graph is modified.
+ * An edge is kept only if both of its vertexes are kept, an undirected edge is tested once with the vertex first
+ * whose index in the snapshot is lower. Every method that modifies the graph throws {@code UnsupportedOperationException},
+ * so do the collections returned by the view.
+ * 
+ * @param <T> type of vertex
+ * 
+ * @author agent
+ * @see AbstractGraph#subgraph(Predicate, Predicate)
+ * @see AbstractGraph#inducedSubgraph(java.util.Collection)
+ * @see DirectedSubgraphView
+ * @version 1.0 (10/19/2026)
+ */
+public class SubgraphView<T> extends AbstractGraph<T> implements Graph<T>, IterableGraph<T> {
+	/**
+	 * The underlying graph, it's a view too for a view of a view
+	 */
+	private AbstractGraph<T> graph;
+	
+	/**
+	 * The graph at the root of the views, it's modified instead of the views
+	 */
+	private AbstractGraph<T> root;
+	
+	/**
+	 * Filters of vertexes and edges
+	 */
+	private Predicate<? super T> vertexFilter;
+	private Predicate<? super Edge<T>> edgeFilter;
+	
+	/**
+	 * Filters evaluated on the current snapshot of the underlying graph and value of {@code modCount} of the root it was taken at
+	 */
+	private SubgraphMask<T> mask;
+	private int rootModCount;
+	
+	/**
+	 * Creates a view of the vertexes and edges of a graph that pass the filters.
+	 * 
+	 * @param graph
+	 *        the underlying graph
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge
+	 */
+	public SubgraphView(AbstractGraph<T> graph, Predicate<? super T> vertexFilter, Predicate<? super Edge<T>> edgeFilter) {
+		super();
+		
+		this.graph = Objects.requireNonNull(graph);
+		this.vertexFilter = Objects.requireNonNull(vertexFilter);
+		this.edgeFilter = Objects.requireNonNull(edgeFilter);
+		
+		root = graph instanceof SubgraphView ? ((SubgraphView<T>) graph).root : graph;
+		
+		vertexes = new SubgraphMask.VertexSet<>(this::current);
+		adj = new SubgraphMask.AdjacencyMap<>(this::current, (g, u, e) -> g.vertex(g.targets()[e]));
+		edges = new SubgraphMask.EdgeView<>(this::current, (g, u, e) -> new Edge<>(g.vertex(u), g.vertex(g.targets()[e])));
+		stats = null;//built with the mask
+	}
+	
+	/*
+	 * Returns the mask of the current snapshot, it's looked up again only if the root graph was modified.
+	 */
+	private SubgraphMask<T> current() {
+		if (mask == null || rootModCount != root.modCount) {
+			int modCount = root.modCount;
+			
+			mask = graph.mask(vertexFilter, edgeFilter);
+			rootModCount = modCount;
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Returns a frozen compressed sparse row (CSR) snapshot of the view, it's a masked snapshot that shares the arrays
+	 * of {@code freeze()} of the underlying graph, vertexes and edges keep their indexes.
+	 * 
+	 * @return {@code CSRGraph} snapshot of the view
+	 */
+	@Override
+	public CSRGraph<T> freeze() {
+		return current().graph;
+	}
+	
+	/**
+	 * Returns the underlying graph.
+	 * 
+	 * @return the underlying graph
+	 */
+	public AbstractGraph<T> getGraph() {
+		return graph;
+	}
+	
+	/**
+	 * Counts and returns number of edges in the view, an undirected edge counts once.
+	 * 
+	 * @return number of edges
+	 */
+	@Override
+	public int edgeCount() {
+		return current().edgeCount;
+	}
+	
+	/**
+	 * Returns {@code boolean} value that flags if the graph's edges directed or not, it's the same as for the underlying graph.
+	 * 
+	 * @return {@code true} if the graph is directed {@code false} otherwise
+	 */
+	@Override
+	public boolean isDirected() {
+		return graph.isDirected();
+	}
+	
+	/**
+	 * Returns statistics of the view, they're built on the first call after the underlying graph was modified.
+	 * 
+	 * @return {@code GraphStatistics} object of the view
+	 */
+	@Override
+	public GraphStatistics<T> getStatistics() {
+		return current().statistics();
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void addEdge(T u, T v) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void removeEdge(T u, T v) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void addVertex(T vertex) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void removeVertex(T vertex) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+}
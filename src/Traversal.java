@@ -0,0 +1,255 @@
+import java.util.Arrays;
+
+/**
+ * The {@code Traversal} runs visitor based breadth first and depth first traversals on a {@code CSRGraph}.
+ * Queue, stack and visited marks are primitive arrays kept per thread and reused by the next traversal,
+ * visited marks are stamped with a traversal number so they never have to be cleared,
+ * so a traversal of a graph whose snapshot is cached allocates nothing.
+ * 
+ * @author agent
+ * @see GraphVisitor
+ * @version 1.0 (10/19/2026)
+ */
+final class Traversal {
+	/**
+	 * Scratch buffers of each thread
+	 */
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+	
+	private Traversal() {
+	}
+	
+	/**
+	 * Traverses the graph in breadth first fashion.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param source
+	 *        source vertex
+	 * @param visitor
+	 *        visitor to be called back
+	 * 
+	 * @return {@code true} if the visitor stopped the traversal, {@code false} if all reachable vertexes were explored
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source vertex DNE
+	 */
+	static <T> boolean breadthFirst(CSRGraph<T> graph, T source, GraphVisitor<? super T> visitor) {
+		int s = graph.indexOf(source);
+		
+		if (s < 0)
+			throw new IllegalArgumentException("The source vertex does not exist!");
+		
+		Scratch scratch = acquire(graph.vertexCount());
+		
+		try {
+			return breadthFirst(graph, s, visitor, scratch);
+		} finally {
+			scratch.busy = false;
+		}
+	}
+	
+	/**
+	 * Traverses the graph in depth first fashion.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param source
+	 *        source vertex
+	 * @param visitor
+	 *        visitor to be called back
+	 * 
+	 * @return {@code true} if the visitor stopped the traversal, {@code false} if all reachable vertexes were explored
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source vertex DNE
+	 */
+	static <T> boolean depthFirst(CSRGraph<T> graph, T source, GraphVisitor<? super T> visitor) {
+		int s = graph.indexOf(source);
+		
+		if (s < 0)
+			throw new IllegalArgumentException("The source vertex does not exist!");
+		
+		Scratch scratch = acquire(graph.vertexCount());
+		
+		try {
+			return depthFirst(graph, s, visitor, scratch);
+		} finally {
+			scratch.busy = false;
+		}
+	}
+	
+	private static <T> boolean breadthFirst(CSRGraph<T> graph, int s, GraphVisitor<? super T> visitor, Scratch scratch) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		int[] queue = scratch.frontier;
+		int[] depth = scratch.depth;
+		int[] mark = scratch.mark;
+		int epoch = scratch.epoch;
+		
+		int head = 0;
+		int tail = 0;
+		
+		mark[s] = epoch;
+		depth[s] = 0;
+		
+		switch (visitor.onDiscover(graph.vertex(s), 0)) {
+			case STOP:
+				return true;
+			case SKIP:
+				return visitor.onFinish(graph.vertex(s)) == GraphVisitor.Action.STOP;
+			default:
+				queue[tail++] = s;
+		}
+		
+		while (head < tail) {
+			int u = queue[head++];
+			T vertex = graph.vertex(u);
+			
+			for (int e = offsets[u]; e < offsets[u + 1]; ++e) {
+				if (!graph.hasEdge(e))
+					continue;
+				
+				int v = targets[e];
+				
+				GraphVisitor.Action action = visitor.onEdge(vertex, graph.vertex(v), weights == null ? 1 : weights[e]);
+				
+				if (action == GraphVisitor.Action.STOP)
+					return true;
+				
+				if (action == GraphVisitor.Action.SKIP || mark[v] == epoch)
+					continue;
+				
+				mark[v] = epoch;
+				depth[v] = depth[u] + 1;
+				
+				action = visitor.onDiscover(graph.vertex(v), depth[v]);
+				
+				if (action == GraphVisitor.Action.STOP)
+					return true;
+				
+				if (action == GraphVisitor.Action.CONTINUE)
+					queue[tail++] = v;
+				else if (visitor.onFinish(graph.vertex(v)) == GraphVisitor.Action.STOP)
+					return true;
+			}
+			
+			if (visitor.onFinish(vertex) == GraphVisitor.Action.STOP)
+				return true;
+		}
+		
+		return false;
+	}
+	
+	private static <T> boolean depthFirst(CSRGraph<T> graph, int s, GraphVisitor<? super T> visitor, Scratch scratch) {
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] weights = graph.weights();
+		
+		int[] stack = scratch.frontier;
+		int[] cursor = scratch.depth;//next edge to explore of each vertex on the stack
+		int[] mark = scratch.mark;
+		int epoch = scratch.epoch;
+		
+		int top = 0;
+		
+		mark[s] = epoch;
+		
+		switch (visitor.onDiscover(graph.vertex(s), 0)) {
+			case STOP:
+				return true;
+			case SKIP:
+				return visitor.onFinish(graph.vertex(s)) == GraphVisitor.Action.STOP;
+			default:
+				stack[top] = s;
+				cursor[top++] = offsets[s];
+		}
+		
+		while (top > 0) {
+			int u = stack[top - 1];
+			int e = cursor[top - 1];
+			
+			if (e == offsets[u + 1]) {//all edges explored
+				--top;
+				
+				if (visitor.onFinish(graph.vertex(u)) == GraphVisitor.Action.STOP)
+					return true;
+				
+				continue;
+			}
+			
+			cursor[top - 1] = e + 1;
+			
+			if (!graph.hasEdge(e))
+				continue;
+			
+			int v = targets[e];
+			
+			GraphVisitor.Action action = visitor.onEdge(graph.vertex(u), graph.vertex(v), weights == null ? 1 : weights[e]);
+			
+			if (action == GraphVisitor.Action.STOP)
+				return true;
+			
+			if (action == GraphVisitor.Action.SKIP || mark[v] == epoch)
+				continue;
+			
+			mark[v] = epoch;
+			
+			action = visitor.onDiscover(graph.vertex(v), top);
+			
+			if (action == GraphVisitor.Action.STOP)
+				return true;
+			
+			if (action == GraphVisitor.Action.CONTINUE) {
+				stack[top] = v;
+				cursor[top++] = offsets[v];
+			} else if (visitor.onFinish(graph.vertex(v)) == GraphVisitor.Action.STOP)
+				return true;
+		}
+		
+		return false;
+	}
+	
+	/*
+	 * Returns scratch buffers of the current thread for a graph with n vertexes.
+	 * A visitor that starts another traversal from a callback gets fresh buffers.
+	 */
+	private static Scratch acquire(int n) {
+		Scratch scratch = SCRATCH.get();
+		
+		if (scratch.busy)
+			scratch = new Scratch();
+		
+		scratch.busy = true;
+		scratch.prepare(n);
+		
+		return scratch;
+	}
+	
+	/*
+	 * Reusable buffers of a traversal
+	 */
+	private static class Scratch {
+		int[] frontier = new int[0];//queue or stack
+		int[] depth = new int[0];//depth or edge cursor
+		int[] mark = new int[0];//traversal number that visited each vertex
+		int epoch;
+		boolean busy;
+		
+		void prepare(int n) {
+			if (mark.length < n) {
+				int capacity = Math.max(n, mark.length * 2);
+				
+				frontier = new int[capacity];
+				depth = new int[capacity];
+				mark = new int[capacity];
+				epoch = 0;
+			}
+			
+			if (++epoch == 0) {//the traversal number wrapped around, old marks could be mistaken for new ones
+				Arrays.fill(mark, 0);
+				epoch = 1;
+			}
+		}
+	}
+}
@@ -0,0 +1,194 @@
+import java.util.Arrays;
+
+/**
+ * The {@code TreeIndex} answers lowest common ancestor (LCA), depth and distance queries on a forest in O(1) time.
+ * Every tree is rooted at the first given root in it (or else at its lowest indexed vertex) and its vertexes are numbered
+ * in DFS preorder, for vertexes u and v
+ * with u visited first the LCA is the parent of the shallowest vertex visited after u up to v, so a sparse table
+ * of the shallowest vertex of every power of two long range of the preorder answers a query with two lookups.
+ * The index takes O(V log V) time and memory to build, the DFS is iterative so deep trees don't overflow the stack.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see Forest#lca(Object, Object)
+ * @version 1.0 (10/19/2026)
+ */
+final class TreeIndex<T> {
+	/**
+	 * Snapshot of the forest the index was built from
+	 */
+	final CSRGraph<T> graph;
+	
+	/**
+	 * Depth, parent, root and preorder number of each vertex
+	 */
+	private int[] depth, parent, root, order;
+	
+	/**
+	 * {@code table[k][i]} is the shallowest vertex among preorder positions i to i + 2^k - 1
+	 */
+	private int[][] table;
+	
+	/**
+	 * Builds the index of a forest snapshot.
+	 * 
+	 * @param graph
+	 *        forest snapshot, edges are stored in both directions
+	 * @param roots
+	 *        indexes of preferred roots, a root is skipped if its tree is rooted at an earlier one already
+	 */
+	TreeIndex(CSRGraph<T> graph, int[] roots) {
+		int n = graph.vertexCount();
+		int[] offsets = graph.offsets();
+		int[] targets = graph.targets();
+		int[] preorder = new int[n];
+		int[] cursor = new int[n];
+		int[] stack = new int[n];
+		int visited = 0;
+		
+		this.graph = graph;
+		depth = new int[n];
+		parent = new int[n];
+		root = new int[n];
+		order = new int[n];
+		
+		Arrays.fill(order, -1);
+		
+		for (int i = 0; i < roots.length + n; ++i) {
+			int r = i < roots.length ? roots[i] : i - roots.length;//preferred roots go first
+			
+			if (order[r] >= 0)
+				continue;
+			
+			int top = 0;
+			
+			parent[r] = -1;
+			root[r] = r;
+			order[r] = visited;
+			preorder[visited++] = r;
+			cursor[r] = offsets[r];
+			stack[top++] = r;
+			
+			while (top > 0) {
+				int u = stack[top - 1];
+				
+				if (cursor[u] == offsets[u + 1]) {
+					--top;
+					continue;
+				}
+				
+				int v = targets[cursor[u]++];
+				
+				if (order[v] < 0) {
+					parent[v] = u;
+					depth[v] = depth[u] + 1;
+					root[v] = r;
+					order[v] = visited;
+					preorder[visited++] = v;
+					cursor[v] = offsets[v];
+					stack[top++] = v;
+				}
+			}
+		}
+		
+		int levels = 1;
+		
+		while (1 << levels <= n)
+			++levels;
+		
+		table = new int[levels][];
+		table[0] = preorder;
+		
+		for (int k = 1; k < levels; ++k) {
+			int half = 1 << (k - 1);
+			int[] previous = table[k - 1];
+			int[] current = new int[n - (1 << k) + 1];
+			
+			for (int i = 0; i < current.length; ++i)
+				current[i] = shallower(previous[i], previous[i + half]);
+			
+			table[k] = current;
+		}
+	}
+	
+	private int shallower(int u, int v) {
+		return depth[u] <= depth[v] ? u : v;
+	}
+	
+	/**
+	 * Returns lowest common ancestor of two vertexes.
+	 * 
+	 * @param u
+	 *        index of the first vertex
+	 * @param v
+	 *        index of the second vertex
+	 * 
+	 * @return index of the LCA, -1 if the vertexes are in different trees
+	 */
+	int lca(int u, int v) {
+		if (root[u] != root[v])
+			return -1;
+		
+		if (u == v)
+			return u;
+		
+		int from = Math.min(order[u], order[v]) + 1;
+		int to = Math.max(order[u], order[v]);
+		int k = 31 - Integer.numberOfLeadingZeros(to - from + 1);
+		
+		return parent[shallower(table[k][from], table[k][to - (1 << k) + 1])];
+	}
+	
+	/**
+	 * Returns number of edges between two vertexes.
+	 * 
+	 * @param u
+	 *        index of the first vertex
+	 * @param v
+	 *        index of the second vertex
+	 * 
+	 * @return distance, -1 if the vertexes are in different trees
+	 */
+	int distance(int u, int v) {
+		int lca = lca(u, v);
+		
+		return lca < 0 ? -1 : depth[u] + depth[v] - 2 * depth[lca];
+	}
+	
+	/**
+	 * Returns depth of a vertex, the root of its tree have depth 0.
+	 * 
+	 * @param v
+	 *        index of the vertex
+	 * 
+	 * @return depth of the vertex
+	 */
+	int depth(int v) {
+		return depth[v];
+	}
+	
+	/**
+	 * Returns root of the tree of a vertex.
+	 * 
+	 * @param v
+	 *        index of the vertex
+	 * 
+	 * @return index of the root
+	 */
+	int root(int v) {
+		return root[v];
+	}
+	
+	/**
+	 * Returns parent of a vertex.
+	 * 
+	 * @param v
+	 *        index of the vertex
+	 * 
+	 * @return index of the parent, -1 for a root
+	 */
+	int parent(int v) {
+		return parent[v];
+	}
+}
@@ -0,0 +1,311 @@
+import java.util.Arrays;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.stream.IntStream;
+
+/**
+ * The {@code TriangleCount} holds triangles of the undirected view of a graph: edge directions, weights, parallel edges and self loops
+ * are ignored. It gives the number of triangles of the graph and of each vertex, local clustering coefficients and transitivity.
+ * Vertexes are indexed the same way as in the {@code CSRGraph} snapshot the triangles were counted in.
+ * 
+ * Triangles are counted on {@link CSRGraph#undirected()} without hashing: vertexes are ranked by degree, every edge is kept only at its lower ranked end,
+ * so no vertex keeps more than O(sqrt(E)) edges, and the sorted edge lists of both ends of every edge are merged.
+ * Every triangle is found once, at its lowest ranked vertex, it takes O(E^1.5) time and the vertexes are split between
+ * worker threads, each with its own counters.
+ * 
+ * @param <T> vertex type
+ * 
+ * @author agent
+ * @see AbstractGraph#triangles()
+ * @see AbstractWeightedGraph#triangles()
+ * @version 1.0 (10/19/2026)
+ */
+public class TriangleCount<T> {
+	/**
+	 * Snapshot of the graph, it maps vertexes to indexes
+	 */
+	private CSRGraph<T> graph;
+	
+	/**
+	 * Number of triangles each vertex is in
+	 */
+	private long[] triangles;
+	
+	/**
+	 * Number of neighbours of each vertex in the undirected view
+	 */
+	private int[] degrees;
+	
+	/**
+	 * Number of triangles in the graph
+	 */
+	private long total;
+	
+	private TriangleCount(CSRGraph<T> graph, long[] triangles, int[] degrees) {
+		this.graph = graph;
+		this.triangles = triangles;
+		this.degrees = degrees;
+		
+		for (long count : triangles)
+			total += count;
+		
+		total /= 3;
+	}
+	
+	/**
+	 * Counts triangles of a graph snapshot.
+	 * 
+	 * @param graph
+	 *        graph snapshot
+	 * @param work
+	 *        vertexes and merge steps are added to its entries 0 and 1
+	 * 
+	 * @return {@code TriangleCount} of the graph
+	 */
+	static <T> TriangleCount<T> count(CSRGraph<T> graph, AtomicLongArray work) {
+		CSRGraph<T> view = graph.undirected();//dropped vertexes of a masked snapshot have no edges in it, so they're in no triangle
+		int n = view.vertexCount();
+		int[] offsets = view.offsets();
+		int[] targets = view.targets();
+		int[] degrees = new int[n];
+		
+		for (int u = 0; u < n; ++u)
+			degrees[u] = view.degree(u);
+		
+		//rank by degree, ties by index
+		long[] keys = new long[n];
+		
+		for (int u = 0; u < n; ++u)
+			keys[u] = (long) degrees[u] << 32 | u;
+		
+		Arrays.parallelSort(keys);
+		
+		int[] vertexOf = new int[n];
+		int[] rank = new int[n];
+		
+		for (int r = 0; r < n; ++r) {
+			vertexOf[r] = (int) keys[r];
+			rank[vertexOf[r]] = r;
+		}
+		
+		//edges kept at the lower ranked end, labeled by rank and sorted
+		int[] upOffsets = new int[n + 1];
+		
+		for (int r = 0; r < n; ++r) {
+			int u = vertexOf[r];
+			int up = 0;
+			
+			for (int i = offsets[u]; i < offsets[u + 1]; ++i)
+				if (rank[targets[i]] > r)
+					++up;
+			
+			upOffsets[r + 1] = upOffsets[r] + up;
+		}
+		
+		int[] up = new int[upOffsets[n]];
+		
+		IntStream.range(0, n).parallel().forEach(r -> {
+			int u = vertexOf[r];
+			int at = upOffsets[r];
+			
+			for (int i = offsets[u]; i < offsets[u + 1]; ++i)
+				if (rank[targets[i]] > r)
+					up[at++] = rank[targets[i]];
+			
+			Arrays.sort(up, upOffsets[r], upOffsets[r + 1]);
+		});
+		
+		int tasks = Math.max(1, Math.min(n, 4 * ForkJoinPool.getCommonPoolParallelism()));
+		long[][] accumulators = new long[tasks][];
+		
+		IntStream.range(0, tasks).parallel().forEach(task -> {
+			long[] found = new long[n];//per rank
+			long steps = 0;
+			
+			for (int r = task; r < n; r += tasks)//interleaved, high ranks have the longest lists
+				for (int e = upOffsets[r]; e < upOffsets[r + 1]; ++e) {
+					int s = up[e];
+					int i = e + 1;//neighbours of r ranked above s
+					int j = upOffsets[s];
+					
+					while (i < upOffsets[r + 1] && j < upOffsets[s + 1]) {
+						++steps;
+						
+						if (up[i] < up[j])
+							++i;
+						else if (up[i] > up[j])
+							++j;
+						else {
+							++found[r];
+							++found[s];
+							++found[up[i]];
+							++i;
+							++j;
+						}
+					}
+				}
+			
+			accumulators[task] = found;
+			work.addAndGet(1, steps);
+		});
+		
+		long[] triangles = new long[n];
+		
+		for (long[] found : accumulators)
+			for (int r = 0; r < n; ++r)
+				triangles[vertexOf[r]] += found[r];
+		
+		work.addAndGet(0, view.keptVertexCount());
+		
+		return new TriangleCount<>(graph, triangles, degrees);
+	}
+	
+	/**
+	 * Returns number of vertexes.
+	 * 
+	 * @return number of vertexes
+	 */
+	public int size() {
+		return graph.keptVertexCount();
+	}
+	
+	/**
+	 * Returns index of a vertex.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return index of the vertex, -1 if it DNE
+	 */
+	public int indexOf(T vertex) {
+		return graph.indexOf(vertex);
+	}
+	
+	/**
+	 * Returns the vertex with an index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return vertex
+	 */
+	public T vertex(int i) {
+		return graph.vertex(i);
+	}
+	
+	/**
+	 * Returns number of triangles in the graph.
+	 * 
+	 * @return number of triangles
+	 */
+	public long total() {
+		return total;
+	}
+	
+	/**
+	 * Returns number of triangles a vertex is in by its index.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return number of triangles of the vertex
+	 */
+	public long triangles(int i) {
+		return triangles[i];
+	}
+	
+	/**
+	 * Returns number of triangles a vertex is in.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return number of triangles of the vertex
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public long triangles(T vertex) {
+		return triangles[index(vertex)];
+	}
+	
+	/**
+	 * Returns local clustering coefficient of a vertex by its index, it's the fraction of pairs of its neighbours that are neighbours too.
+	 * 
+	 * @param i
+	 *        index of the vertex
+	 * 
+	 * @return clustering coefficient in range [0, 1], 0 if the vertex have less than 2 neighbours
+	 */
+	public double clustering(int i) {
+		long pairs = (long) degrees[i] * (degrees[i] - 1) / 2;
+		
+		return pairs == 0 ? 0 : (double) triangles[i] / pairs;
+	}
+	
+	/**
+	 * Returns local clustering coefficient of a vertex, it's the fraction of pairs of its neighbours that are neighbours too.
+	 * 
+	 * @param vertex
+	 *        vertex
+	 * 
+	 * @return clustering coefficient in range [0, 1], 0 if the vertex have less than 2 neighbours
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the vertex DNE
+	 */
+	public double clustering(T vertex) {
+		return clustering(index(vertex));
+	}
+	
+	/**
+	 * Returns average of local clustering coefficients of all vertexes.
+	 * 
+	 * @return average clustering coefficient, 0 if the graph is empty
+	 */
+	public double averageClustering() {
+		double sum = 0;
+		
+		for (int i = 0; i < triangles.length; ++i)
+			sum += clustering(i);//a dropped vertex of a masked snapshot adds 0
+		
+		return size() == 0 ? 0 : sum / size();
+	}
+	
+	/**
+	 * Returns global clustering coefficient (transitivity), it's the fraction of paths of length 2 that are closed by an edge.
+	 * 
+	 * @return transitivity in range [0, 1], 0 if the graph have no path of length 2
+	 */
+	public double transitivity() {
+		long paths = 0;
+		
+		for (int degree : degrees)
+			paths += (long) degree * (degree - 1) / 2;
+		
+		return paths == 0 ? 0 : 3.0 * total / paths;
+	}
+	
+	private int index(T vertex) {
+		Objects.requireNonNull(vertex);
+		
+		int i = graph.indexOf(vertex);
+		
+		if (i < 0)
+			throw new IllegalArgumentException("The vertex does not exist!");
+		
+		return i;
+	}
+	
+	/**
+	 * Returns formatted {@code String} representation of {@code TriangleCount} object.
+	 * 
+	 * @return {@code String} representation of the object
+	 */
+	@Override
+	public String toString() {
+		return "TriangleCount[vertexes=" + size() + ", triangles=" + total + "]";
+	}
+}
@@ -0,0 +1,268 @@
+import java.util.Iterator;
+import java.util.Objects;
+
+import java.util.function.Predicate;
+
+/**
+ * The {@code WeightedSubgraphView} is a read-only view of the vertexes and edges of a weighted graph that pass vertex and edge filters,
+ * e.g. one site of a network or its edges above a weight threshold, without copying them into a new graph edge by edge.
+ * Like {@code SubgraphView} its snapshot is a masked {@code CSRGraph} over the arrays of {@code freeze()} of the underlying graph,
+ * the masks are cached by the underlying graph and looked up again only after the graph at the root of the views is modified.
+ * An undirected edge is tested once with the vertex first whose index in the snapshot is lower.
+ * Every method that modifies the graph throws {@code UnsupportedOperationException}, so do the collections returned by the view.
+ * 
+ * @param <T> type of vertex
+ * 
+ * @author agent
+ * @see AbstractWeightedGraph#subgraph(Predicate, Predicate)
+ * @see AbstractWeightedGraph#inducedSubgraph(java.util.Collection)
+ * @see NetworkSubgraphView
+ * @version 1.0 (10/19/2026)
+ */
+public class WeightedSubgraphView<T> extends AbstractWeightedGraph<T> implements WeightedGraph<T>, IterableGraph<T> {
+	/**
+	 * The underlying graph, it's a view too for a view of a view
+	 */
+	private AbstractWeightedGraph<T> graph;
+	
+	/**
+	 * The graph at the root of the views, it's modified instead of the views
+	 */
+	private AbstractWeightedGraph<T> root;
+	
+	/**
+	 * Filters of vertexes and edges
+	 */
+	private Predicate<? super T> vertexFilter;
+	private Predicate<? super WeightedEdge<T>> edgeFilter;
+	
+	/**
+	 * Filters evaluated on the current snapshot of the underlying graph and value of {@code modCount} of the root it was taken at
+	 */
+	private SubgraphMask<T> mask;
+	private int rootModCount;
+	
+	/**
+	 * Creates a view of the vertexes and edges of a weighted graph that pass the filters.
+	 * 
+	 * @param graph
+	 *        the underlying graph
+	 * @param vertexFilter
+	 *        test of a vertex
+	 * @param edgeFilter
+	 *        test of an edge
+	 */
+	public WeightedSubgraphView(AbstractWeightedGraph<T> graph, Predicate<? super T> vertexFilter, Predicate<? super WeightedEdge<T>> edgeFilter) {
+		super();
+		
+		this.graph = Objects.requireNonNull(graph);
+		this.vertexFilter = Objects.requireNonNull(vertexFilter);
+		this.edgeFilter = Objects.requireNonNull(edgeFilter);
+		
+		root = graph instanceof WeightedSubgraphView ? ((WeightedSubgraphView<T>) graph).root : graph;
+		
+		vertexes = new SubgraphMask.VertexSet<>(this::current);
+		adj = new SubgraphMask.AdjacencyMap<>(this::current, (g, u, e) -> new Pair<>(g.vertex(g.targets()[e]), g.weights()[e]));
+		edges = new SubgraphMask.EdgeView<>(this::current, (g, u, e) -> new WeightedEdge<>(g.vertex(u), g.vertex(g.targets()[e]), g.weights()[e]));
+		stats = null;//built with the mask
+	}
+	
+	/*
+	 * Returns the mask of the current snapshot, it's looked up again only if the root graph was modified.
+	 */
+	private SubgraphMask<T> current() {
+		if (mask == null || rootModCount != root.modCount) {
+			int modCount = root.modCount;
+			
+			mask = graph.mask(vertexFilter, edgeFilter);
+			rootModCount = modCount;
+		}
+		
+		return mask;
+	}
+	
+	/**
+	 * Returns a frozen compressed sparse row (CSR) snapshot of the view, it's a masked snapshot that shares the arrays
+	 * of {@code freeze()} of the underlying graph, vertexes and edges keep their indexes.
+	 * 
+	 * @return {@code CSRGraph} snapshot of the view
+	 */
+	@Override
+	public CSRGraph<T> freeze() {
+		return current().graph;
+	}
+	
+	/**
+	 * Returns the underlying graph.
+	 * 
+	 * @return the underlying graph
+	 */
+	public AbstractWeightedGraph<T> getGraph() {
+		return graph;
+	}
+	
+	/**
+	 * Counts and returns number of edges in the view, an undirected edge counts once.
+	 * 
+	 * @return number of edges
+	 */
+	@Override
+	public int edgeCount() {
+		return current().edgeCount;
+	}
+	
+	/**
+	 * Returns sum of edge weights in the view, an undirected edge counts once.
+	 * 
+	 * @return sum of edge weights
+	 */
+	@Override
+	public int edgeSum() {
+		return (int) current().edgeSum;
+	}
+	
+	/**
+	 * Returns {@code boolean} flag that tells if the graph is directed or not, it's the same as for the underlying graph.
+	 * 
+	 * @return {@code true} if the graph is directed {@code false} otherwise
+	 */
+	@Override
+	public boolean isDirected() {
+		return graph.isDirected();
+	}
+	
+	/**
+	 * Returns statistics of the view, they're built on the first call after the underlying graph was modified.
+	 * 
+	 * @return {@code GraphStatistics} object of the view
+	 */
+	@Override
+	public GraphStatistics<T> getStatistics() {
+		return current().statistics();
+	}
+	
+	/**
+	 * Returns an {@code Iterator} of the view in breadth first fashion, it runs on the snapshot of the view at the time of the call.
+	 * Note: It does not explore all vertexes of the graph since it might be disconnected.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * 
+	 * @return {@code Iterator} object
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source vertex DNE
+	 */
+	@Override
+	public Iterator<T> breadthFirstIterator(T source) {
+		check(source);
+		
+		return new SnapshotIterator(freeze(), source, false);
+	}
+	
+	/**
+	 * Returns an {@code Iterator} of the view in depth first fashion, it runs on the snapshot of the view at the time of the call.
+	 * Note: It does not explore all vertexes of the graph since it might be disconnected.
+	 * 
+	 * @param source
+	 *        source vertex
+	 * 
+	 * @return {@code Iterator} object
+	 * 
+	 * @throw java.lang.IllegalArgumentException if the source vertex DNE
+	 */
+	@Override
+	public Iterator<T> depthFirstIterator(T source) {
+		check(source);
+		
+		return new SnapshotIterator(freeze(), source, true);
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void addEdge(T u, T v, int weight) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void removeEdge(T u, T v, int weight) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void addVertex(T vertex) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/**
+	 * The view is read-only.
+	 * 
+	 * @throw java.lang.UnsupportedOperationException always
+	 */
+	@Override
+	public void removeVertex(T vertex) {
+		throw new UnsupportedOperationException("The subgraph view is read-only!");
+	}
+	
+	/*
+	 * Breadth or depth first iterator over a masked snapshot, vertexes are marked when they're queued like in GraphIterator.
+	 */
+	private class SnapshotIterator implements Iterator<T> {
+		private CSRGraph<T> graph;
+		private boolean depthFirst;
+		private boolean[] marked;
+		private int[] deque;
+		private int head, tail;
+		
+		SnapshotIterator(CSRGraph<T> graph, T source, boolean depthFirst) {
+			int s = graph.indexOf(source);
+			
+			if (s < 0)
+				throw new IllegalArgumentException("The source vertex does not exist!");
+			
+			this.graph = graph;
+			this.depthFirst = depthFirst;
+			marked = new boolean[graph.vertexCount()];
+			deque = new int[graph.vertexCount()];//every vertex is queued once, as a stack only the top is used
+			marked[s] = true;
+			deque[tail++] = s;
+		}
+		
+		@Override
+		public boolean hasNext() {
+			return head < tail;
+		}
+		
+		@Override
+		public T next() {
+			if (!hasNext())
+				throw new IllegalArgumentException("There are no more vertexes to explore!");
+			
+			int u = depthFirst ? deque[--tail] : deque[head++];
+			
+			for (int e = graph.offsets()[u]; e < graph.offsets()[u + 1]; ++e) {
+				int v = graph.targets()[e];
+				
+				if (graph.hasEdge(e) && !marked[v]) {
+					marked[v] = true;
+					deque[tail++] = v;
+				}
+			}
+			
+			return graph.vertex(u);
+		}
+	}
+}